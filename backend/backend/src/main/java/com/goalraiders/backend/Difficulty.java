@@ -0,0 +1,43 @@
+package com.goalraiders.backend;
+
+import com.goalraiders.backend.exception.InvalidInputException;
+
+// task 난이도 / goal(보스) 등급. DB 와 API 에는 label 문자열로 저장되고, 규칙표(GameRules)는 ordinal 로 조회
+public enum Difficulty {
+    EASY("Easy"),
+    MEDIUM("Medium"),
+    HARD("Hard"),
+    EPIC("Epic");
+
+    private final String label;
+
+    Difficulty(String label) {
+        this.label = label;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    // 알 수 없는 값이면 null (대소문자 무시)
+    public static Difficulty fromLabel(String value) {
+        if (value == null) {
+            return null;
+        }
+        for (Difficulty difficulty : values()) {
+            if (difficulty.label.equalsIgnoreCase(value.trim())) {
+                return difficulty;
+            }
+        }
+        return null;
+    }
+
+    // 요청 값 검증용. 알 수 없는 난이도는 0 데미지로 넘기지 않고 400
+    public static Difficulty parse(String value) {
+        Difficulty difficulty = fromLabel(value);
+        if (difficulty == null) {
+            throw new InvalidInputException("Unknown difficulty: " + value);
+        }
+        return difficulty;
+    }
+}
@@ -1,30 +1,45 @@
 package com.goalraiders.backend;
 
-import com.goalraiders.backend.config.GameConfigProperties;
-import com.goalraiders.backend.dto.GameConfigDto;
+import com.goalraiders.backend.service.GameConfigPayload;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
 
 @RestController
 @RequestMapping("/api/config")
 public class GameConfigController {
 
-    private final GameConfigProperties gameConfigProperties;
+    private final GameConfigPayload gameConfigPayload;
+    private final CacheControl cacheControl;
 
     @Autowired
-    public GameConfigController(GameConfigProperties gameConfigProperties) {
-        this.gameConfigProperties = gameConfigProperties;
+    public GameConfigController(GameConfigPayload gameConfigPayload,
+                                @Value("${game.config-cache-max-age:PT5M}") Duration maxAge) {
+        this.gameConfigPayload = gameConfigPayload;
+        // 규칙표가 재적재될 수 있으므로 max-age 가 지나면 ETag 로 재검증
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic().mustRevalidate();
     }
 
+    // 직렬화된 바이트를 그대로 내려보내고, If-None-Match 가 일치하면 본문 없이 304
     @GetMapping("/game")
-    public ResponseEntity<GameConfigDto> getGameConfig() {
-        GameConfigDto gameConfigDto = new GameConfigDto(
-            gameConfigProperties.getDifficultyDamageMap(),
-            gameConfigProperties.getBossHpMap()
-        );
-        return ResponseEntity.ok(gameConfigDto);
+    public ResponseEntity<byte[]> getGameConfig(WebRequest request) {
+        GameConfigPayload.Body body = gameConfigPayload.current();
+        if (request.checkNotModified(body.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(body.etag()).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(body.etag())
+                .cacheControl(cacheControl)
+                .body(body.bytes());
     }
 }
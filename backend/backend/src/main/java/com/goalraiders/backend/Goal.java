@@ -1,12 +1,19 @@
 package com.goalraiders.backend;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "goals")
+@DynamicUpdate // 엔티티 저장이 스냅샷 컬럼(current_hp, snapshot_event_id)을 읽어둔 값으로 덮어쓰지 않도록 변경된 컬럼만 UPDATE
+@Table(name = "goals", indexes = {
+        @Index(name = "idx_goals_user_id_id", columnList = "user_id, id"),
+        @Index(name = "idx_goals_user_id_change_seq", columnList = "user_id, change_seq")
+})
 public class Goal {
 
     @Id
@@ -17,11 +24,11 @@ public class Goal {
     private String description;
     private String status;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "parent_goal_id")
     private Goal parentGoal;
 
@@ -31,10 +38,44 @@ public class Goal {
     private LocalDate dueDate;
 
     private int maxHp;
+    // snapshotEventId 까지의 데미지 이벤트가 반영된 HP. 실제 현재 HP 는 여기서 GoalDamageLog 의 pending 을 뺀 값
     private int currentHp;
+    private Long snapshotEventId;
     private boolean defeated = false;
 
+    // 레이드 보스: 소유자가 아닌 사용자도 공격 가능 (처치 시 공격에 참여한 사용자 전원이 XP 를 받음)
+    @ColumnDefault("false")
+    private boolean raid = false;
+
+    // 마지막으로 바뀐 시점의 ChangeSequence 값. /api/sync 가 이 값으로 변경분만 조회 (컬럼 추가 전 행은 0)
+    @ColumnDefault("0")
+    private long changeSeq;
+
     // Getters and Setters
+    public Long getSnapshotEventId() {
+        return snapshotEventId;
+    }
+
+    public void setSnapshotEventId(Long snapshotEventId) {
+        this.snapshotEventId = snapshotEventId;
+    }
+
+    public long getChangeSeq() {
+        return changeSeq;
+    }
+
+    public void setChangeSeq(long changeSeq) {
+        this.changeSeq = changeSeq;
+    }
+
+    public boolean isRaid() {
+        return raid;
+    }
+
+    public void setRaid(boolean raid) {
+        this.raid = raid;
+    }
+
     public boolean isDefeated() {
         return defeated;
     }
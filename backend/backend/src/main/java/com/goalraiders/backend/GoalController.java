@@ -1,12 +1,24 @@
 package com.goalraiders.backend;
 
+import com.goalraiders.backend.dto.CursorPage;
 import com.goalraiders.backend.dto.GoalDto;
+import com.goalraiders.backend.dto.GoalTreeDto;
 import com.goalraiders.backend.service.GoalService;
+import com.goalraiders.backend.service.IdempotentResponses;
+import com.goalraiders.backend.service.RaidService;
+import com.goalraiders.backend.service.UserDataVersions;
+import com.goalraiders.backend.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -14,13 +26,64 @@ import java.util.List;
 @RequestMapping("/api/goals")
 public class GoalController {
 
+    // 브라우저 캐시에 두되 매번 ETag 로 재검증
+    private static final CacheControl LIST_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     @Autowired
     private GoalService goalService;
 
+    @Autowired
+    private RaidService raidService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserDataVersions userDataVersions;
+
+    @Autowired
+    private IdempotentResponses idempotentResponses;
+
+    // cursor/limit 가 없으면 기존처럼 전체 목록, 있으면 keyset 페이지 (다음 커서는 X-Next-Cursor 헤더)
+    // 사용자 데이터 버전을 ETag 로 내려주고, If-None-Match 가 같으면 DB 를 읽지 않고 304
     @GetMapping
     @PreAuthorize("hasRole('USER')")
-    public ResponseEntity<List<GoalDto>> getAllGoalsForCurrentUser() {
-        return ResponseEntity.ok(goalService.getAllGoalsForCurrentUser());
+    public ResponseEntity<List<GoalDto>> getAllGoalsForCurrentUser(@RequestParam(required = false) String cursor,
+                                                                   @RequestParam(required = false) Integer limit,
+                                                                   WebRequest request) {
+        // 데이터보다 버전을 먼저 읽음. 그 사이 쓰기가 끼면 응답이 ETag 보다 새것일 뿐이라 다음 요청에서 다시 받음
+        long version = userDataVersions.current(userService.getCurrentFirebaseUid());
+        String etag = UserDataVersions.etag(version);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(LIST_CACHE_CONTROL)
+                    .header(UserDataVersions.HEADER, String.valueOf(version)).build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(etag).cacheControl(LIST_CACHE_CONTROL)
+                .header(UserDataVersions.HEADER, String.valueOf(version));
+        if (cursor == null && limit == null) {
+            return response.body(goalService.getAllGoalsForCurrentUser());
+        }
+        CursorPage<GoalDto> page = goalService.getGoalsPageForCurrentUser(cursor, limit);
+        if (page.getNextCursor() != null) {
+            response.header(CursorPage.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
+    }
+
+    // ?stream=true: 같은 목록을 DB 커서에서 읽는 대로 응답에 씀 (행 수가 많아도 요청당 메모리 일정, gzip 은 server.compression)
+    @GetMapping(params = "stream=true")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<StreamingResponseBody> streamAllGoalsForCurrentUser(WebRequest request) {
+        String firebaseUid = userService.getCurrentFirebaseUid();
+        long version = userDataVersions.current(firebaseUid);
+        String etag = UserDataVersions.etag(version);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(LIST_CACHE_CONTROL)
+                    .header(UserDataVersions.HEADER, String.valueOf(version)).build();
+        }
+        StreamingResponseBody body = out -> goalService.writeAllGoals(firebaseUid, out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).eTag(etag).cacheControl(LIST_CACHE_CONTROL)
+                .header(UserDataVersions.HEADER, String.valueOf(version)).body(body);
     }
 
     @GetMapping("/{id}")
@@ -29,28 +92,56 @@ public class GoalController {
         return ResponseEntity.ok(goalService.getGoalById(id));
     }
 
+    // 하위 goal 과 task 를 포함한 서브트리 (depth 생략 시 기본 깊이까지)
+    @GetMapping("/{id}/tree")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<GoalTreeDto> getGoalTree(@PathVariable Long id, @RequestParam(required = false) Integer depth) {
+        return ResponseEntity.ok(goalService.getGoalTree(id, depth));
+    }
+
     @PostMapping
     @PreAuthorize("hasRole('USER')")
     public ResponseEntity<GoalDto> createGoal(@Valid @RequestBody GoalDto goalDto) {
-        return ResponseEntity.ok(goalService.createGoal(goalDto));
+        GoalDto created = goalService.createGoal(goalDto);
+        return ResponseEntity.ok().header(UserDataVersions.HEADER, currentVersion()).body(created);
     }
 
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('USER')")
     public ResponseEntity<GoalDto> updateGoal(@PathVariable Long id, @Valid @RequestBody GoalDto goalDto) {
-        return ResponseEntity.ok(goalService.updateGoal(id, goalDto));
+        GoalDto updated = goalService.updateGoal(id, goalDto);
+        return ResponseEntity.ok().header(UserDataVersions.HEADER, currentVersion()).body(updated);
     }
 
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('USER')")
     public ResponseEntity<Void> deleteGoal(@PathVariable Long id) {
         goalService.deleteGoal(id);
-        return ResponseEntity.noContent().build();
+        return ResponseEntity.noContent().header(UserDataVersions.HEADER, currentVersion()).build();
     }
 
+    // Idempotency-Key 가 있으면 재시도에 데미지를 다시 주지 않고 첫 응답을 재사용
     @PostMapping("/{goalId}/damage")
     @PreAuthorize("hasRole('USER')")
-    public ResponseEntity<GoalDto> applyDamageToGoal(@PathVariable Long goalId, @RequestParam String difficulty) {
-        return ResponseEntity.ok(goalService.applyDamageToGoal(goalId, difficulty));
+    public ResponseEntity<GoalDto> applyDamageToGoal(@PathVariable Long goalId, @RequestParam String difficulty,
+                                                     @RequestHeader(value = IdempotentResponses.HEADER, required = false) String idempotencyKey,
+                                                     HttpServletRequest request) {
+        return idempotentResponses.execute(userService.getCurrentFirebaseUid(), idempotencyKey,
+                IdempotentResponses.fingerprint(request), () -> {
+                    GoalDto damaged = goalService.applyDamageToGoal(goalId, difficulty);
+                    return ResponseEntity.ok().header(UserDataVersions.HEADER, currentVersion()).body(damaged);
+                });
+    }
+
+    // 레이드 goal 공격: 소유자가 아니어도 가능, HP 는 flush 주기만큼 늦게 반영될 수 있음
+    @PostMapping("/{goalId}/raid-attack")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<GoalDto> attackRaidGoal(@PathVariable Long goalId, @RequestParam String difficulty) {
+        return ResponseEntity.ok(raidService.attack(goalId, difficulty));
+    }
+
+    // 쓰기 응답에 쓰기 이후의 데이터 버전을 실어서, 클라이언트가 이후 목록 응답이 자기 쓰기를 반영했는지 비교할 수 있게 함
+    private String currentVersion() {
+        return String.valueOf(userDataVersions.current(userService.getCurrentFirebaseUid()));
     }
 }
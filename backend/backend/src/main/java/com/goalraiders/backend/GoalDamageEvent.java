@@ -0,0 +1,68 @@
+package com.goalraiders.backend;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+// goal 에 들어간 데미지 한 건 (추가만 하고 수정/삭제하지 않음). goals.current_hp 는 snapshot_event_id 까지의 이벤트를 반영한 스냅샷
+@Entity
+@Table(name = "goal_damage_events", indexes = @Index(name = "idx_goal_damage_events_goal_id_id", columnList = "goal_id, id"))
+public class GoalDamageEvent {
+
+    // ChangeSequence 에서 발급 (커밋 순서와 무관하게 컴팩터가 빠짐없이 접을 수 있도록 DB identity 대신 사용)
+    @Id
+    private Long id;
+
+    // 핫 경로의 INSERT 를 가볍게 하려고 연관관계 대신 id 만 저장
+    @Column(name = "goal_id", nullable = false)
+    private Long goalId;
+
+    @Column(name = "attacker_uid", nullable = false)
+    private String attackerUid;
+
+    private int damage;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getGoalId() {
+        return goalId;
+    }
+
+    public void setGoalId(Long goalId) {
+        this.goalId = goalId;
+    }
+
+    public String getAttackerUid() {
+        return attackerUid;
+    }
+
+    public void setAttackerUid(String attackerUid) {
+        this.attackerUid = attackerUid;
+    }
+
+    public int getDamage() {
+        return damage;
+    }
+
+    public void setDamage(int damage) {
+        this.damage = damage;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+}
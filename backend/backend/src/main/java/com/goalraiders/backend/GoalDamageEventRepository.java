@@ -0,0 +1,33 @@
+package com.goalraiders.backend;
+
+import com.goalraiders.backend.dto.GoalDamageTotal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface GoalDamageEventRepository extends JpaRepository<GoalDamageEvent, Long> {
+
+    @Query("select max(e.id) from GoalDamageEvent e")
+    Long findMaxId();
+
+    // 컴팩션 배치 끝: (afterId, upTo] 구간에서 offset 번째(0부터) 이벤트 id. 구간의 이벤트가 그보다 적으면 null
+    // 이벤트 id 는 ChangeSequence 순번이라 연속적이지 않으므로 id 차이 대신 건수로 배치 크기를 자름
+    @Query(value = "select id from goal_damage_events where id > :afterId and id <= :upTo order by id limit 1 offset :offset",
+            nativeQuery = true)
+    Long findIdAtOffset(@Param("afterId") long afterId, @Param("upTo") long upTo, @Param("offset") int offset);
+
+    // 컴팩션 구간 (afterId, upTo] 의 goal 별 데미지 합계
+    @Query("select e.goalId as goalId, sum(e.damage) as damage from GoalDamageEvent e " +
+            "where e.id > :afterId and e.id <= :upTo group by e.goalId")
+    List<GoalDamageTotal> sumDamageByGoal(@Param("afterId") long afterId, @Param("upTo") long upTo);
+
+    // 기동 시 아직 스냅샷에 반영되지 않은 goal 별 데미지 (메모리 pending 카운터 초기화용)
+    @Query("select e.goalId as goalId, sum(e.damage) as damage from GoalDamageEvent e, Goal g " +
+            "where g.id = e.goalId and e.id > coalesce(g.snapshotEventId, 0) group by e.goalId")
+    List<GoalDamageTotal> sumUnsnapshottedDamageByGoal();
+
+    @Query("select distinct e.attackerUid from GoalDamageEvent e where e.goalId = :goalId")
+    List<String> findAttackerUids(@Param("goalId") Long goalId);
+}
@@ -1,12 +1,106 @@
 package com.goalraiders.backend;
 
+import com.goalraiders.backend.dto.GoalDto;
+import com.goalraiders.backend.dto.GoalTreeRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface GoalRepository extends JpaRepository<Goal, Long> {
     List<Goal> findByUserId(Long userId);
     List<Goal> findByUserIdAndParentGoalIsNull(Long userId);
     List<Goal> findByParentGoalId(Long parentGoalId);
+
+    // 목록: user 만 함께 조회 (parentGoal 은 id 만 필요하므로 프록시로 충분)
+    @EntityGraph(attributePaths = "user")
     List<Goal> findByUserFirebaseUid(String firebaseUid);
+
+    // 읽기 전용 목록: 영속성 컨텍스트/매퍼를 거치지 않고 DTO 로 바로 조회
+    @Query("select new com.goalraiders.backend.dto.GoalDto(g.id, g.title, g.description, g.status, u.firebaseUid, " +
+            "p.id, g.dueDate, g.maxHp, g.currentHp, g.raid) " +
+            "from Goal g join g.user u left join g.parentGoal p " +
+            "where u.firebaseUid = :firebaseUid order by g.id")
+    List<GoalDto> findGoalDtosByUserFirebaseUid(@Param("firebaseUid") String firebaseUid);
+
+    // 위와 같은 목록을 전진 전용 커서로 한 행씩 읽음 (스트리밍 응답용, 호출 측 트랜잭션 안에서 닫아야 함)
+    @Query("select new com.goalraiders.backend.dto.GoalDto(g.id, g.title, g.description, g.status, u.firebaseUid, " +
+            "p.id, g.dueDate, g.maxHp, g.currentHp, g.raid) " +
+            "from Goal g join g.user u left join g.parentGoal p " +
+            "where u.firebaseUid = :firebaseUid order by g.id")
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    Stream<GoalDto> streamGoalDtosByUserFirebaseUid(@Param("firebaseUid") String firebaseUid);
+
+    // keyset 페이지: (user_id, id) 인덱스를 타고 afterId 다음부터 읽으므로 N 번째 페이지도 첫 페이지와 비용이 같음
+    @Query("select new com.goalraiders.backend.dto.GoalDto(g.id, g.title, g.description, g.status, u.firebaseUid, " +
+            "p.id, g.dueDate, g.maxHp, g.currentHp, g.raid) " +
+            "from Goal g join g.user u left join g.parentGoal p " +
+            "where g.user.id = :userId and g.id > :afterId order by g.id")
+    List<GoalDto> findGoalDtoPage(@Param("userId") Long userId, @Param("afterId") Long afterId, Pageable pageable);
+
+    // 델타 동기화: (user_id, change_seq) 인덱스를 타고 since 이후 생성/수정된 goal 만 조회
+    @Query("select new com.goalraiders.backend.dto.GoalDto(g.id, g.title, g.description, g.status, u.firebaseUid, " +
+            "p.id, g.dueDate, g.maxHp, g.currentHp, g.raid) " +
+            "from Goal g join g.user u left join g.parentGoal p " +
+            "where g.user.id = :userId and g.changeSeq > :since order by g.changeSeq, g.id")
+    List<GoalDto> findGoalDtosChangedSince(@Param("userId") Long userId, @Param("since") long since);
+
+    @Query("select max(g.changeSeq) from Goal g")
+    Long findMaxChangeSeq();
+
+    // 상세/수정/삭제/데미지: 소유자 조건을 쿼리에 포함해 남의 goal 은 조회되지 않음. user 는 DTO 변환용으로 함께 조회
+    @EntityGraph(attributePaths = "user")
+    Optional<Goal> findDetailByIdAndUserId(Long id, Long userId);
+
+    // 서브트리 전체(goal + 각 goal 의 task)를 재귀 CTE 한 번으로 조회. maxDepth 로 깊이와 순환을 제한
+    @Query(value = "with recursive subtree(id, depth) as (" +
+            "  select g.id, 0 from goals g where g.id = :rootId and g.user_id = :userId" +
+            "  union all" +
+            "  select c.id, s.depth + 1 from goals c join subtree s on c.parent_goal_id = s.id" +
+            "  where s.depth < :maxDepth and c.user_id = :userId" +
+            ") " +
+            "select g.id as id, g.title as title, g.description as description, g.status as status, " +
+            "g.parent_goal_id as parentGoalId, g.due_date as dueDate, g.max_hp as maxHp, g.current_hp as currentHp, " +
+            "g.defeated as defeated, s.depth as depth, " +
+            "t.id as taskId, t.title as taskTitle, t.completed as taskCompleted, t.parent_task_id as taskParentTaskId, " +
+            "t.recurrence_days as taskRecurrenceDays, t.last_completed as taskLastCompleted, t.difficulty as taskDifficulty, " +
+            "t.next_due_date as taskNextDueDate " +
+            "from subtree s join goals g on g.id = s.id left join tasks t on t.goal_id = g.id " +
+            "order by s.depth, g.id, t.id",
+            nativeQuery = true)
+    List<GoalTreeRow> findSubtreeRows(@Param("rootId") Long rootId, @Param("userId") Long userId, @Param("maxDepth") int maxDepth);
+
+    // 레이드 공격용: 소유자와 관계없이 레이드 goal 만 조회
+    @Query("select new com.goalraiders.backend.dto.GoalDto(g.id, g.title, g.description, g.status, u.firebaseUid, " +
+            "p.id, g.dueDate, g.maxHp, g.currentHp, g.raid) " +
+            "from Goal g join g.user u left join g.parentGoal p " +
+            "where g.id = :id and g.raid = true")
+    Optional<GoalDto> findRaidGoalDtoById(@Param("id") Long id);
+
+    // 이벤트 구간 (snapshotEventId, upTo] 의 데미지 합계를 스냅샷에 반영. 같은 구간을 두 번 빼지 않도록 snapshotEventId 로 조건
+    // HP 가 바뀌므로 changeSeq 도 함께 올려 소유자의 다음 동기화에 포함
+    @Modifying(flushAutomatically = true)
+    @Query("update Goal g set g.currentHp = greatest(0, g.currentHp - :damage), g.snapshotEventId = :upTo, g.changeSeq = :changeSeq " +
+            "where g.id = :id and (g.snapshotEventId is null or g.snapshotEventId < :upTo)")
+    int applySnapshot(@Param("id") Long id, @Param("damage") int damage, @Param("upTo") Long upTo, @Param("changeSeq") long changeSeq);
+
+    @Query("select max(g.snapshotEventId) from Goal g")
+    Long findMaxSnapshotEventId();
+
+    // HP 가 0 이 된 goal 을 처치 상태로 전환. 1 을 받은 호출 하나만 처치 보상을 지급
+    @Modifying(flushAutomatically = true)
+    @Query("update Goal g set g.defeated = true where g.id = :id and g.currentHp = 0 and g.defeated = false")
+    int markDefeated(@Param("id") Long id);
+
+    // 상위 goal / task 의 goal 검증용 (연관관계 설정만 하므로 user 는 조회하지 않음)
+    Optional<Goal> findByIdAndUserId(Long id, Long userId);
 }
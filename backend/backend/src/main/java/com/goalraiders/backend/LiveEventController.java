@@ -0,0 +1,27 @@
+package com.goalraiders.backend;
+
+import com.goalraiders.backend.service.LiveEventHub;
+import com.goalraiders.backend.service.UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/events")
+public class LiveEventController {
+
+    @Autowired
+    private LiveEventHub liveEventHub;
+
+    @Autowired
+    private UserService userService;
+
+    // 현재 사용자의 goal-hp / goal-defeated / xp 이벤트 스트림. 폴링 대신 연결을 열어 두고, 끊기면 재연결 후 /api/sync 로 따라잡음
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents() {
+        return liveEventHub.subscribe(userService.getCurrentFirebaseUid());
+    }
+}
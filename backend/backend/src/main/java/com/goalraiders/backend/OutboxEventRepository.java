@@ -0,0 +1,28 @@
+package com.goalraiders.backend;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 아직 처리되지 않았고 재시도 한도 안쪽인 이벤트를 오래된 순으로
+    @Query("select e from OutboxEvent e where e.processedAt is null and e.attempts < :maxAttempts order by e.id")
+    List<OutboxEvent> findPending(@Param("maxAttempts") int maxAttempts, Pageable pageable);
+
+    // 처리 선점. 핸들러와 같은 트랜잭션에서 실행되므로 1 을 돌려받은 쪽만 핸들러 결과를 커밋 (중복 처리 방지)
+    @Modifying
+    @Query("update OutboxEvent e set e.processedAt = :processedAt where e.id = :id and e.processedAt is null")
+    int markProcessed(@Param("id") Long id, @Param("processedAt") Instant processedAt);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.attempts = e.attempts + 1 where e.id = :id")
+    int incrementAttempts(@Param("id") Long id);
+
+    long countByType(OutboxEventType type);
+}
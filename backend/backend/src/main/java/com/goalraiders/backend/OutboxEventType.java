@@ -0,0 +1,6 @@
+package com.goalraiders.backend;
+
+public enum OutboxEventType {
+    GOAL_DEFEATED, // aggregateId = goal id
+    XP_AWARD       // firebaseUid 에게 amount 만큼 XP
+}
@@ -0,0 +1,25 @@
+package com.goalraiders.backend;
+
+import com.goalraiders.backend.dto.SyncChangesDto;
+import com.goalraiders.backend.service.SyncService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/sync")
+public class SyncController {
+
+    @Autowired
+    private SyncService syncService;
+
+    // 앱 재개 시 전체 목록 대신 호출. 응답의 version 을 다음 호출의 since 로 보내면 그 이후 변경과 삭제만 받음
+    @GetMapping
+    public ResponseEntity<SyncChangesDto> getChangesSince(@RequestParam(required = false) Long since) {
+        return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(syncService.getChangesSince(since));
+    }
+}
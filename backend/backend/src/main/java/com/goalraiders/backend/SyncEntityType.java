@@ -0,0 +1,6 @@
+package com.goalraiders.backend;
+
+public enum SyncEntityType {
+    TASK,
+    GOAL
+}
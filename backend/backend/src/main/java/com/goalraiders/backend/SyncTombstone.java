@@ -0,0 +1,67 @@
+package com.goalraiders.backend;
+
+import jakarta.persistence.*;
+
+// 삭제된 task/goal 한 건. 행이 없어졌으므로 /api/sync 는 이 기록으로 클라이언트에 삭제를 알림
+@Entity
+@Table(name = "sync_tombstones", indexes = @Index(name = "idx_sync_tombstones_user_id_change_seq", columnList = "user_id, change_seq"))
+public class SyncTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 16)
+    private SyncEntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public SyncEntityType getEntityType() {
+        return entityType;
+    }
+
+    public void setEntityType(SyncEntityType entityType) {
+        this.entityType = entityType;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public void setEntityId(Long entityId) {
+        this.entityId = entityId;
+    }
+
+    public long getChangeSeq() {
+        return changeSeq;
+    }
+
+    public void setChangeSeq(long changeSeq) {
+        this.changeSeq = changeSeq;
+    }
+}
@@ -0,0 +1,17 @@
+package com.goalraiders.backend;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface SyncTombstoneRepository extends JpaRepository<SyncTombstone, Long> {
+
+    // (user_id, change_seq) 인덱스 범위 조회
+    @Query("select t from SyncTombstone t where t.userId = :userId and t.changeSeq > :since order by t.changeSeq")
+    List<SyncTombstone> findChangedSince(@Param("userId") Long userId, @Param("since") long since);
+
+    @Query("select max(t.changeSeq) from SyncTombstone t")
+    Long findMaxChangeSeq();
+}
@@ -1,10 +1,16 @@
 package com.goalraiders.backend;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_user_id_id", columnList = "user_id, id"),
+        @Index(name = "idx_tasks_next_due_date", columnList = "next_due_date"),
+        @Index(name = "idx_tasks_user_id_change_seq", columnList = "user_id, change_seq")
+})
 public class Task {
 
     @Id
@@ -18,15 +24,22 @@ public class Task {
     private LocalDate lastCompleted;
     private String difficulty;
 
-    @ManyToOne
+    // 완료된 반복 task 가 다시 미완료로 돌아가는 날 (lastCompleted + recurrenceDays). 그 외에는 null
+    private LocalDate nextDueDate;
+
+    // 마지막으로 바뀐 시점의 ChangeSequence 값. /api/sync 가 이 값으로 변경분만 조회 (컬럼 추가 전 행은 0)
+    @ColumnDefault("0")
+    private long changeSeq;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "parent_task_id")
     private Task parentTask;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "goal_id")
     private Goal goal;
 
@@ -102,4 +115,20 @@ public class Task {
     public void setUser(User user) {
         this.user = user;
     }
+
+    public long getChangeSeq() {
+        return changeSeq;
+    }
+
+    public void setChangeSeq(long changeSeq) {
+        this.changeSeq = changeSeq;
+    }
+
+    public LocalDate getNextDueDate() {
+        return nextDueDate;
+    }
+
+    public void setNextDueDate(LocalDate nextDueDate) {
+        this.nextDueDate = nextDueDate;
+    }
 }
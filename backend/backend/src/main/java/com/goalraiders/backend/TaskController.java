@@ -1,11 +1,21 @@
 package com.goalraiders.backend;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import com.goalraiders.backend.dto.CursorPage;
 import com.goalraiders.backend.dto.TaskDto;
+import com.goalraiders.backend.service.IdempotentResponses;
 import com.goalraiders.backend.service.TaskService;
+import com.goalraiders.backend.service.UserDataVersions;
+import com.goalraiders.backend.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -13,12 +23,59 @@ import java.util.List;
 @RequestMapping("/api/tasks")
 public class TaskController {
 
+    // 브라우저 캐시에 두되 매번 ETag 로 재검증
+    private static final CacheControl LIST_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     @Autowired
     private TaskService taskService;
 
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserDataVersions userDataVersions;
+
+    @Autowired
+    private IdempotentResponses idempotentResponses;
+
+    // cursor/limit 가 없으면 기존처럼 전체 목록, 있으면 keyset 페이지 (다음 커서는 X-Next-Cursor 헤더)
+    // 사용자 데이터 버전을 ETag 로 내려주고, If-None-Match 가 같으면 DB 를 읽지 않고 304
     @GetMapping
-    public ResponseEntity<List<TaskDto>> getAllTasksForCurrentUser() {
-        return ResponseEntity.ok(taskService.getAllTasksForCurrentUser());
+    public ResponseEntity<List<TaskDto>> getAllTasksForCurrentUser(@RequestParam(required = false) String cursor,
+                                                                   @RequestParam(required = false) Integer limit,
+                                                                   WebRequest request) {
+        // 데이터보다 버전을 먼저 읽음. 그 사이 쓰기가 끼면 응답이 ETag 보다 새것일 뿐이라 다음 요청에서 다시 받음
+        long version = userDataVersions.current(userService.getCurrentFirebaseUid());
+        String etag = UserDataVersions.etag(version);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(LIST_CACHE_CONTROL)
+                    .header(UserDataVersions.HEADER, String.valueOf(version)).build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(etag).cacheControl(LIST_CACHE_CONTROL)
+                .header(UserDataVersions.HEADER, String.valueOf(version));
+        if (cursor == null && limit == null) {
+            return response.body(taskService.getAllTasksForCurrentUser());
+        }
+        CursorPage<TaskDto> page = taskService.getTasksPageForCurrentUser(cursor, limit);
+        if (page.getNextCursor() != null) {
+            response.header(CursorPage.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
+    }
+
+    // ?stream=true: 같은 목록을 DB 커서에서 읽는 대로 응답에 씀 (행 수가 많아도 요청당 메모리 일정, gzip 은 server.compression)
+    @GetMapping(params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamAllTasksForCurrentUser(WebRequest request) {
+        String firebaseUid = userService.getCurrentFirebaseUid();
+        long version = userDataVersions.current(firebaseUid);
+        String etag = UserDataVersions.etag(version);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(LIST_CACHE_CONTROL)
+                    .header(UserDataVersions.HEADER, String.valueOf(version)).build();
+        }
+        StreamingResponseBody body = out -> taskService.writeAllTasks(firebaseUid, out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).eTag(etag).cacheControl(LIST_CACHE_CONTROL)
+                .header(UserDataVersions.HEADER, String.valueOf(version)).body(body);
     }
 
     @GetMapping("/{id}")
@@ -28,22 +85,36 @@ public class TaskController {
 
     @PostMapping
     public ResponseEntity<TaskDto> createTask(@Valid @RequestBody TaskDto taskDto) {
-        return ResponseEntity.ok(taskService.createTask(taskDto));
+        TaskDto created = taskService.createTask(taskDto);
+        return ResponseEntity.ok().header(UserDataVersions.HEADER, currentVersion()).body(created);
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<TaskDto> updateTask(@PathVariable Long id, @Valid @RequestBody TaskDto taskDto) {
-        return ResponseEntity.ok(taskService.updateTask(id, taskDto));
+        TaskDto updated = taskService.updateTask(id, taskDto);
+        return ResponseEntity.ok().header(UserDataVersions.HEADER, currentVersion()).body(updated);
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteTask(@PathVariable Long id) {
         taskService.deleteTask(id);
-        return ResponseEntity.noContent().build();
+        return ResponseEntity.noContent().header(UserDataVersions.HEADER, currentVersion()).build();
     }
 
+    // 완료는 토글이라 재시도가 완료를 되돌릴 수 있으므로 Idempotency-Key 가 있으면 첫 응답을 재사용
     @PostMapping("/{taskId}/complete")
-    public ResponseEntity<TaskDto> completeTask(@PathVariable Long taskId) {
-        return ResponseEntity.ok(taskService.completeTask(taskId));
+    public ResponseEntity<TaskDto> completeTask(@PathVariable Long taskId,
+                                                @RequestHeader(value = IdempotentResponses.HEADER, required = false) String idempotencyKey,
+                                                HttpServletRequest request) {
+        return idempotentResponses.execute(userService.getCurrentFirebaseUid(), idempotencyKey,
+                IdempotentResponses.fingerprint(request), () -> {
+                    TaskDto completed = taskService.completeTask(taskId);
+                    return ResponseEntity.ok().header(UserDataVersions.HEADER, currentVersion()).body(completed);
+                });
+    }
+
+    // 쓰기 응답에 쓰기 이후의 데이터 버전을 실어서, 클라이언트가 이후 목록 응답이 자기 쓰기를 반영했는지 비교할 수 있게 함
+    private String currentVersion() {
+        return String.valueOf(userDataVersions.current(userService.getCurrentFirebaseUid()));
     }
 }
@@ -1,11 +1,96 @@
 package com.goalraiders.backend;
 
+import com.goalraiders.backend.dto.TaskDto;
+import com.goalraiders.backend.dto.TaskDueDate;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findByGoalId(Long goalId);
     List<Task> findByUserId(Long userId);
+
+    // 목록: user 만 함께 조회 (goal/parentTask 는 id 만 필요하므로 프록시로 충분)
+    @EntityGraph(attributePaths = "user")
     List<Task> findByUserFirebaseUid(String firebaseUid);
+
+    // 읽기 전용 목록: 영속성 컨텍스트/매퍼를 거치지 않고 DTO 로 바로 조회
+    @Query("select new com.goalraiders.backend.dto.TaskDto(t.id, t.title, t.completed, g.id, p.id, u.firebaseUid, " +
+            "t.recurrenceDays, t.lastCompleted, t.difficulty, t.nextDueDate) " +
+            "from Task t join t.user u left join t.goal g left join t.parentTask p " +
+            "where u.firebaseUid = :firebaseUid order by t.id")
+    List<TaskDto> findTaskDtosByUserFirebaseUid(@Param("firebaseUid") String firebaseUid);
+
+    // 위와 같은 목록을 전진 전용 커서로 한 행씩 읽음 (스트리밍 응답용, 호출 측 트랜잭션 안에서 닫아야 함)
+    @Query("select new com.goalraiders.backend.dto.TaskDto(t.id, t.title, t.completed, g.id, p.id, u.firebaseUid, " +
+            "t.recurrenceDays, t.lastCompleted, t.difficulty, t.nextDueDate) " +
+            "from Task t join t.user u left join t.goal g left join t.parentTask p " +
+            "where u.firebaseUid = :firebaseUid order by t.id")
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    Stream<TaskDto> streamTaskDtosByUserFirebaseUid(@Param("firebaseUid") String firebaseUid);
+
+    // keyset 페이지: (user_id, id) 인덱스를 타고 afterId 다음부터 읽으므로 N 번째 페이지도 첫 페이지와 비용이 같음
+    @Query("select new com.goalraiders.backend.dto.TaskDto(t.id, t.title, t.completed, g.id, p.id, u.firebaseUid, " +
+            "t.recurrenceDays, t.lastCompleted, t.difficulty, t.nextDueDate) " +
+            "from Task t join t.user u left join t.goal g left join t.parentTask p " +
+            "where t.user.id = :userId and t.id > :afterId order by t.id")
+    List<TaskDto> findTaskDtoPage(@Param("userId") Long userId, @Param("afterId") Long afterId, Pageable pageable);
+
+    // 델타 동기화: (user_id, change_seq) 인덱스를 타고 since 이후 생성/수정된 task 만 조회
+    @Query("select new com.goalraiders.backend.dto.TaskDto(t.id, t.title, t.completed, g.id, p.id, u.firebaseUid, " +
+            "t.recurrenceDays, t.lastCompleted, t.difficulty, t.nextDueDate) " +
+            "from Task t join t.user u left join t.goal g left join t.parentTask p " +
+            "where t.user.id = :userId and t.changeSeq > :since order by t.changeSeq, t.id")
+    List<TaskDto> findTaskDtosChangedSince(@Param("userId") Long userId, @Param("since") long since);
+
+    @Query("select max(t.changeSeq) from Task t")
+    Long findMaxChangeSeq();
+
+    // 상세/수정/삭제: 소유자 조건을 쿼리에 포함해 남의 task 는 조회되지 않음. user 는 DTO 변환용으로 함께 조회
+    @EntityGraph(attributePaths = "user")
+    Optional<Task> findDetailByIdAndUserId(Long id, Long userId);
+
+    // 완료 처리: 데미지를 줄 goal 까지 한 번에 조회
+    @EntityGraph(attributePaths = {"user", "goal"})
+    Optional<Task> findForCompletionByIdAndUserId(Long id, Long userId);
+
+    // 부모 task 검증용 (연관관계 설정만 하므로 user 는 조회하지 않음)
+    Optional<Task> findByIdAndUserId(Long id, Long userId);
+
+    // 반복 task 초기화: next_due_date 인덱스만 읽어 오늘까지 도래한 task id 를 청크 단위로
+    @Query("select t.id from Task t where t.nextDueDate <= :today order by t.nextDueDate, t.id")
+    List<Long> findDueTaskIds(@Param("today") LocalDate today, Pageable pageable);
+
+    // 기동 시 타이밍 휠 적재: 예정일이 있는 task 를 id keyset 페이지로
+    @Query("select t.id as id, t.nextDueDate as nextDueDate from Task t " +
+            "where t.nextDueDate is not null and t.id > :afterId order by t.id")
+    List<TaskDueDate> findDueDatesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select min(t.nextDueDate) from Task t")
+    LocalDate findOldestNextDueDate();
+
+    // 엔티티를 읽지 않고 한 번의 UPDATE 로 미완료 전환. 그 사이 사용자가 다시 완료했다면 nextDueDate 가 바뀌어 제외됨
+    @Modifying
+    @Query("update Task t set t.completed = false, t.lastCompleted = null, t.nextDueDate = null, t.changeSeq = :changeSeq " +
+            "where t.id in :ids and t.nextDueDate <= :today")
+    int resetDueTasks(@Param("ids") List<Long> ids, @Param("today") LocalDate today, @Param("changeSeq") long changeSeq);
+
+    // 컬럼 추가 전에 완료된 반복 task 의 nextDueDate 채우기 (기동 시 한 번)
+    @Modifying
+    @Query(value = "update tasks set next_due_date = case when last_completed is null then current_date " +
+            "else dateadd(DAY, recurrence_days, last_completed) end " +
+            "where completed = true and recurrence_days > 0 and next_due_date is null",
+            nativeQuery = true)
+    int backfillNextDueDates();
 }
@@ -25,25 +25,20 @@ public class User {
     @Column(unique = true) // firebaseUid는 고유해야 함
     private String firebaseUid;
 
-    private Integer level = 1;
-    private Integer experience = 0;
+    private Integer experience = 0; // 누적 XP. 레벨은 LevelCurve 로 계산
     private Integer currentHp = 100; // Default HP
     private Integer maxHp = 100; // Default Max HP
 
+    // 누적 XP 전환 전의 레벨 컬럼. LegacyLevelBackfill 이 XP 로 옮긴 뒤 null 로 비움 (새 사용자는 항상 null)
+    @Column(name = "level")
+    private Integer legacyLevel;
+
     @ElementCollection
     @CollectionTable(name = "user_roles", joinColumns = @JoinColumn(name = "user_id"))
     @Column(name = "role")
     private Set<String> roles = new HashSet<>();
 
     // Getters and Setters
-    public Integer getLevel() {
-        return level;
-    }
-
-    public void setLevel(Integer level) {
-        this.level = level;
-    }
-
     public Integer getExperience() {
         return experience;
     }
@@ -68,6 +63,14 @@ public class User {
         this.maxHp = maxHp;
     }
 
+    public Integer getLegacyLevel() {
+        return legacyLevel;
+    }
+
+    public void setLegacyLevel(Integer legacyLevel) {
+        this.legacyLevel = legacyLevel;
+    }
+
     public Long getId() {
         return id;
     }
@@ -1,9 +1,29 @@
 package com.goalraiders.backend;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByFirebaseUid(String firebaseUid);
+
+    // 조회 없이 DB 에서 바로 누적 (동시 지급이 서로 덮어쓰지 않음)
+    @Modifying
+    @Query("update User u set u.experience = coalesce(u.experience, 0) + :experience where u.firebaseUid = :firebaseUid")
+    int addExperience(@Param("firebaseUid") String firebaseUid, @Param("experience") int experience);
+
+    @Query("select u.experience from User u where u.firebaseUid = :firebaseUid")
+    Integer findExperienceByFirebaseUid(@Param("firebaseUid") String firebaseUid);
+
+    @Query("select distinct u.legacyLevel from User u where u.legacyLevel > 1")
+    List<Integer> findLegacyLevelsAboveOne();
+
+    // 이전 방식의 (레벨, 레벨 내 XP) 를 누적 XP 로 옮기고 레벨 컬럼을 비움. 다시 실행돼도 같은 행에 두 번 더하지 않음
+    @Modifying
+    @Query("update User u set u.experience = coalesce(u.experience, 0) + :threshold, u.legacyLevel = null where u.legacyLevel = :level")
+    int backfillLegacyLevel(@Param("level") int level, @Param("threshold") int threshold);
 }
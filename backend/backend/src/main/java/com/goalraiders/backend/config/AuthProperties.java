@@ -0,0 +1,66 @@
+package com.goalraiders.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "auth")
+public class AuthProperties {
+
+    private int tokenCacheMaxSize = 10000;
+
+    // firebase: Admin SDK 로 검증, local: 메모리 공개키로 직접 RS256 검증
+    private String verifierMode = "firebase";
+    private String projectId;
+    private String keyFile;
+    private long keyRefreshMarginSeconds = 300;
+    private long keyRetrySeconds = 30;
+
+    public int getTokenCacheMaxSize() {
+        return tokenCacheMaxSize;
+    }
+
+    public void setTokenCacheMaxSize(int tokenCacheMaxSize) {
+        this.tokenCacheMaxSize = tokenCacheMaxSize;
+    }
+
+    public String getVerifierMode() {
+        return verifierMode;
+    }
+
+    public void setVerifierMode(String verifierMode) {
+        this.verifierMode = verifierMode;
+    }
+
+    public String getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(String projectId) {
+        this.projectId = projectId;
+    }
+
+    public String getKeyFile() {
+        return keyFile;
+    }
+
+    public void setKeyFile(String keyFile) {
+        this.keyFile = keyFile;
+    }
+
+    public long getKeyRefreshMarginSeconds() {
+        return keyRefreshMarginSeconds;
+    }
+
+    public void setKeyRefreshMarginSeconds(long keyRefreshMarginSeconds) {
+        this.keyRefreshMarginSeconds = keyRefreshMarginSeconds;
+    }
+
+    public long getKeyRetrySeconds() {
+        return keyRetrySeconds;
+    }
+
+    public void setKeyRetrySeconds(long keyRetrySeconds) {
+        this.keyRetrySeconds = keyRetrySeconds;
+    }
+}
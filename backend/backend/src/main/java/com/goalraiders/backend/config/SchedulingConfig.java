@@ -0,0 +1,11 @@
+package com.goalraiders.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 백그라운드 작업 (데미지 로그 반영, outbox 처리, 반복 task 초기화 등)
+// 실행기는 Spring Boot 기본 ThreadPoolTaskScheduler. 긴 작업이 다른 작업을 막지 않도록 spring.task.scheduling.pool.size 를 작업 수만큼 설정
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
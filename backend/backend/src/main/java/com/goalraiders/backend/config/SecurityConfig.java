@@ -1,6 +1,8 @@
 package com.goalraiders.backend.config;
 
 import com.goalraiders.backend.security.FirebaseAuthenticationFilter;
+import com.goalraiders.backend.security.RateLimitFilter;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -19,9 +21,11 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 public class SecurityConfig {
 
     private final FirebaseAuthenticationFilter firebaseAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
 
-    public SecurityConfig(FirebaseAuthenticationFilter firebaseAuthenticationFilter) {
+    public SecurityConfig(FirebaseAuthenticationFilter firebaseAuthenticationFilter, RateLimitFilter rateLimitFilter) {
         this.firebaseAuthenticationFilter = firebaseAuthenticationFilter;
+        this.rateLimitFilter = rateLimitFilter;
     }
 
     @Bean
@@ -31,13 +35,16 @@ public class SecurityConfig {
             .cors(cors -> cors.configurationSource(corsConfigurationSource())) // CORS 설정 추가
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)) // 세션 사용 안 함
             .authorizeHttpRequests(auth -> auth
-                
+                // SSE/스트리밍 응답이 끝날 때의 ASYNC 디스패치에는 토큰이 없음 (최초 요청에서 이미 인증됨)
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers("/h2-console/**", "/api/test", "/api/config/game").permitAll() // H2 콘솔 및 /api/test 접근 허용 (개발 환경에서만)
                 .anyRequest().authenticated() // 그 외 모든 요청은 인증 필요
             );
 
         // FirebaseAuthenticationFilter를 UsernamePasswordAuthenticationFilter 이전에 추가
         http.addFilterBefore(firebaseAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+        // 인증된 uid 별 요청 수 제한은 인증 바로 다음
+        http.addFilterAfter(rateLimitFilter, FirebaseAuthenticationFilter.class);
 
         // H2 콘솔을 위한 설정 (개발 환경에서만 필요)
         http.headers(headers -> headers.frameOptions(frameOptions -> frameOptions.sameOrigin()));
@@ -50,7 +57,8 @@ public class SecurityConfig {
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowedOrigins(java.util.Arrays.asList("http://localhost:3000")); // 프론트엔드 URL 허용
         configuration.setAllowedMethods(java.util.Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
-        configuration.setAllowedHeaders(java.util.Arrays.asList("Authorization", "Content-Type"));
+        configuration.setAllowedHeaders(java.util.Arrays.asList("Authorization", "Content-Type", "Idempotency-Key"));
+        configuration.setExposedHeaders(java.util.Arrays.asList("X-Next-Cursor", "X-Data-Version", "ETag", "Retry-After", "Idempotent-Replayed")); // 페이지네이션 커서, 사용자 데이터 버전, 요청 제한 대기 시간, 재사용된 응답 표시
         configuration.setAllowCredentials(true);
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
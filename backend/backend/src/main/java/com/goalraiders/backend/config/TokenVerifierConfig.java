@@ -0,0 +1,60 @@
+package com.goalraiders.backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goalraiders.backend.security.FilePublicKeySource;
+import com.goalraiders.backend.security.FirebaseAdminTokenVerifier;
+import com.goalraiders.backend.security.GooglePublicKeySource;
+import com.goalraiders.backend.security.LocalJwtTokenVerifier;
+import com.goalraiders.backend.security.PublicKeySource;
+import com.goalraiders.backend.security.PublicKeyStore;
+import com.goalraiders.backend.security.TokenVerifier;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.Duration;
+
+@Configuration
+public class TokenVerifierConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "auth.verifier-mode", havingValue = "firebase", matchIfMissing = true)
+    public TokenVerifier firebaseAdminTokenVerifier() {
+        return new FirebaseAdminTokenVerifier();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "auth.verifier-mode", havingValue = "local")
+    public PublicKeySource publicKeySource(AuthProperties authProperties, ObjectMapper objectMapper) {
+        // key-file 이 지정되면 로컬 파일, 아니면 Google 공개키 엔드포인트 사용
+        if (authProperties.getKeyFile() != null && !authProperties.getKeyFile().isBlank()) {
+            return new FilePublicKeySource(Paths.get(authProperties.getKeyFile()),
+                    Duration.ofSeconds(authProperties.getKeyRefreshMarginSeconds() * 2),
+                    objectMapper, Clock.systemUTC());
+        }
+        return new GooglePublicKeySource(objectMapper, Clock.systemUTC());
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(name = "auth.verifier-mode", havingValue = "local")
+    public PublicKeyStore publicKeyStore(PublicKeySource publicKeySource, AuthProperties authProperties) {
+        return new PublicKeyStore(publicKeySource,
+                Duration.ofSeconds(authProperties.getKeyRefreshMarginSeconds()),
+                Duration.ofSeconds(authProperties.getKeyRetrySeconds()),
+                Clock.systemUTC());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "auth.verifier-mode", havingValue = "local")
+    public TokenVerifier localJwtTokenVerifier(PublicKeyStore publicKeyStore, AuthProperties authProperties,
+                                               ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        if (authProperties.getProjectId() == null || authProperties.getProjectId().isBlank()) {
+            throw new IllegalStateException("auth.project-id is required when auth.verifier-mode=local");
+        }
+        return new LocalJwtTokenVerifier(publicKeyStore, authProperties.getProjectId(), objectMapper,
+                Clock.systemUTC(), meterRegistry);
+    }
+}
@@ -0,0 +1,25 @@
+package com.goalraiders.backend.config;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+// virtual-threads 프로필 확인용. Spring Boot 는 JDK 21 미만이면 spring.threads.virtual.enabled 를 조용히 무시하므로 기동 시 알림
+@Configuration
+@Profile("virtual-threads")
+public class VirtualThreadConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    @PostConstruct
+    void checkRuntime() {
+        int feature = Runtime.version().feature();
+        if (feature < 21) {
+            logger.warn("virtual-threads profile is active but JDK {} has no virtual threads; requests run on the platform thread pool", feature);
+        } else {
+            logger.info("Running requests and background executors on virtual threads (JDK {})", feature);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.goalraiders.backend.dto;
+
+import java.util.List;
+
+public class CursorPage<T> {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private final List<T> items;
+    private final String nextCursor;
+
+    public CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    // 다음 페이지가 없으면 null
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
@@ -0,0 +1,44 @@
+package com.goalraiders.backend.dto;
+
+// SSE xp 이벤트 payload. experience 는 UserDto 와 같이 현재 레벨 안에서의 XP
+public class ExperienceEventDto {
+    private final int gained;
+    private final long totalExperience;
+    private final int level;
+    private final int experience;
+    private final long nextLevelExperience;
+    private final boolean levelUp;
+
+    public ExperienceEventDto(int gained, long totalExperience, int level, int experience, long nextLevelExperience, boolean levelUp) {
+        this.gained = gained;
+        this.totalExperience = totalExperience;
+        this.level = level;
+        this.experience = experience;
+        this.nextLevelExperience = nextLevelExperience;
+        this.levelUp = levelUp;
+    }
+
+    public int getGained() {
+        return gained;
+    }
+
+    public long getTotalExperience() {
+        return totalExperience;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getExperience() {
+        return experience;
+    }
+
+    public long getNextLevelExperience() {
+        return nextLevelExperience;
+    }
+
+    public boolean isLevelUp() {
+        return levelUp;
+    }
+}
@@ -6,10 +6,12 @@ public class GameConfigDto {
 
     private Map<String, Integer> difficultyDamageMap;
     private Map<String, Integer> bossHpMap;
+    private Map<String, Integer> bossXpRewardMap;
 
-    public GameConfigDto(Map<String, Integer> difficultyDamageMap, Map<String, Integer> bossHpMap) {
+    public GameConfigDto(Map<String, Integer> difficultyDamageMap, Map<String, Integer> bossHpMap, Map<String, Integer> bossXpRewardMap) {
         this.difficultyDamageMap = difficultyDamageMap;
         this.bossHpMap = bossHpMap;
+        this.bossXpRewardMap = bossXpRewardMap;
     }
 
     // Getters and setters
@@ -28,4 +30,12 @@ public class GameConfigDto {
     public void setBossHpMap(Map<String, Integer> bossHpMap) {
         this.bossHpMap = bossHpMap;
     }
+
+    public Map<String, Integer> getBossXpRewardMap() {
+        return bossXpRewardMap;
+    }
+
+    public void setBossXpRewardMap(Map<String, Integer> bossXpRewardMap) {
+        this.bossXpRewardMap = bossXpRewardMap;
+    }
 }
@@ -0,0 +1,9 @@
+package com.goalraiders.backend.dto;
+
+// goal 별 데미지 합계 (GoalDamageEventRepository 집계 쿼리 결과)
+public interface GoalDamageTotal {
+
+    Long getGoalId();
+
+    Long getDamage();
+}
@@ -19,6 +19,25 @@ public class GoalDto {
     private int maxHp;
     @Min(value = 0, message = "Current HP cannot be negative")
     private int currentHp;
+    private boolean raid;
+
+    public GoalDto() {
+    }
+
+    // 목록 조회용 JPQL 생성자 프로젝션 (엔티티를 거치지 않고 바로 DTO 로 조회)
+    public GoalDto(Long id, String title, String description, String status, String userId, Long parentGoalId,
+                   LocalDate dueDate, int maxHp, int currentHp, boolean raid) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.status = status;
+        this.userId = userId;
+        this.parentGoalId = parentGoalId != null ? parentGoalId.toString() : null;
+        this.dueDate = dueDate;
+        this.maxHp = maxHp;
+        this.currentHp = currentHp;
+        this.raid = raid;
+    }
 
     // Getters and Setters
     public Long getId() {
@@ -92,4 +111,12 @@ public class GoalDto {
     public void setCurrentHp(int currentHp) {
         this.currentHp = currentHp;
     }
+
+    public boolean isRaid() {
+        return raid;
+    }
+
+    public void setRaid(boolean raid) {
+        this.raid = raid;
+    }
 }
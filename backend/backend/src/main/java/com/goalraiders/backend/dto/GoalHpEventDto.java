@@ -0,0 +1,32 @@
+package com.goalraiders.backend.dto;
+
+// SSE goal-hp / goal-defeated 이벤트 payload
+public class GoalHpEventDto {
+    private final Long goalId;
+    private final int currentHp;
+    private final int maxHp;
+    private final boolean defeated;
+
+    public GoalHpEventDto(Long goalId, int currentHp, int maxHp, boolean defeated) {
+        this.goalId = goalId;
+        this.currentHp = currentHp;
+        this.maxHp = maxHp;
+        this.defeated = defeated;
+    }
+
+    public Long getGoalId() {
+        return goalId;
+    }
+
+    public int getCurrentHp() {
+        return currentHp;
+    }
+
+    public int getMaxHp() {
+        return maxHp;
+    }
+
+    public boolean isDefeated() {
+        return defeated;
+    }
+}
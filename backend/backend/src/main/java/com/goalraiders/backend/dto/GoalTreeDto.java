@@ -0,0 +1,136 @@
+package com.goalraiders.backend.dto;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+public class GoalTreeDto {
+    private Long id;
+    private String title;
+    private String description;
+    private String status;
+    private String parentGoalId;
+    private LocalDate dueDate;
+    private int maxHp;
+    private int currentHp;
+    private boolean defeated;
+    private int depth;
+    // 자신 + 모든 하위 goal 의 HP 합계
+    private long totalMaxHp;
+    private long totalCurrentHp;
+    private List<TaskDto> tasks = new ArrayList<>();
+    private List<GoalTreeDto> subGoals = new ArrayList<>();
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getParentGoalId() {
+        return parentGoalId;
+    }
+
+    public void setParentGoalId(String parentGoalId) {
+        this.parentGoalId = parentGoalId;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(LocalDate dueDate) {
+        this.dueDate = dueDate;
+    }
+
+    public int getMaxHp() {
+        return maxHp;
+    }
+
+    public void setMaxHp(int maxHp) {
+        this.maxHp = maxHp;
+    }
+
+    public int getCurrentHp() {
+        return currentHp;
+    }
+
+    public void setCurrentHp(int currentHp) {
+        this.currentHp = currentHp;
+    }
+
+    public boolean isDefeated() {
+        return defeated;
+    }
+
+    public void setDefeated(boolean defeated) {
+        this.defeated = defeated;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public void setDepth(int depth) {
+        this.depth = depth;
+    }
+
+    public long getTotalMaxHp() {
+        return totalMaxHp;
+    }
+
+    public void setTotalMaxHp(long totalMaxHp) {
+        this.totalMaxHp = totalMaxHp;
+    }
+
+    public long getTotalCurrentHp() {
+        return totalCurrentHp;
+    }
+
+    public void setTotalCurrentHp(long totalCurrentHp) {
+        this.totalCurrentHp = totalCurrentHp;
+    }
+
+    public List<TaskDto> getTasks() {
+        return tasks;
+    }
+
+    public void setTasks(List<TaskDto> tasks) {
+        this.tasks = tasks;
+    }
+
+    public List<GoalTreeDto> getSubGoals() {
+        return subGoals;
+    }
+
+    public void setSubGoals(List<GoalTreeDto> subGoals) {
+        this.subGoals = subGoals;
+    }
+}
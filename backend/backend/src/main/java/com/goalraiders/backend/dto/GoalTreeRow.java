@@ -0,0 +1,43 @@
+package com.goalraiders.backend.dto;
+
+import java.time.LocalDate;
+
+// goal 서브트리 재귀 쿼리의 한 행 (goal 컬럼 + 해당 goal 의 task 컬럼, task 가 없으면 task 컬럼은 null)
+public interface GoalTreeRow {
+
+    Long getId();
+
+    String getTitle();
+
+    String getDescription();
+
+    String getStatus();
+
+    Long getParentGoalId();
+
+    LocalDate getDueDate();
+
+    Integer getMaxHp();
+
+    Integer getCurrentHp();
+
+    Boolean getDefeated();
+
+    Integer getDepth();
+
+    Long getTaskId();
+
+    String getTaskTitle();
+
+    Boolean getTaskCompleted();
+
+    Long getTaskParentTaskId();
+
+    Integer getTaskRecurrenceDays();
+
+    LocalDate getTaskLastCompleted();
+
+    String getTaskDifficulty();
+
+    LocalDate getTaskNextDueDate();
+}
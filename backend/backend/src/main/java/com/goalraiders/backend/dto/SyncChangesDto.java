@@ -0,0 +1,54 @@
+package com.goalraiders.backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// /api/sync 응답: since 이후 생성/수정된 행과 삭제된 id. 클라이언트는 version 을 다음 요청의 since 로 보냄
+public class SyncChangesDto {
+    private long version;
+    private List<TaskDto> tasks = new ArrayList<>();
+    private List<GoalDto> goals = new ArrayList<>();
+    private List<Long> deletedTaskIds = new ArrayList<>();
+    private List<Long> deletedGoalIds = new ArrayList<>();
+
+    // Getters and Setters
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public List<TaskDto> getTasks() {
+        return tasks;
+    }
+
+    public void setTasks(List<TaskDto> tasks) {
+        this.tasks = tasks;
+    }
+
+    public List<GoalDto> getGoals() {
+        return goals;
+    }
+
+    public void setGoals(List<GoalDto> goals) {
+        this.goals = goals;
+    }
+
+    public List<Long> getDeletedTaskIds() {
+        return deletedTaskIds;
+    }
+
+    public void setDeletedTaskIds(List<Long> deletedTaskIds) {
+        this.deletedTaskIds = deletedTaskIds;
+    }
+
+    public List<Long> getDeletedGoalIds() {
+        return deletedGoalIds;
+    }
+
+    public void setDeletedGoalIds(List<Long> deletedGoalIds) {
+        this.deletedGoalIds = deletedGoalIds;
+    }
+}
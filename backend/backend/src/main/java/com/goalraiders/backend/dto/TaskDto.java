@@ -18,6 +18,24 @@ public class TaskDto {
     private LocalDate lastCompleted;
     @NotBlank(message = "Difficulty cannot be blank")
     private String difficulty;
+    private LocalDate nextDueDate;
+
+    public TaskDto() {
+    }
+
+    // 목록 조회용 JPQL 생성자 프로젝션 (엔티티를 거치지 않고 바로 DTO 로 조회)
+    public TaskDto(Long id, String title, boolean completed, Long goalId, Long parentTaskId, String userId,
+                   int recurrenceDays, LocalDate lastCompleted, String difficulty, LocalDate nextDueDate) {
+        this.id = id;
+        this.title = title;
+        this.completed = completed;
+        this.goalId = goalId != null ? goalId.toString() : null;
+        this.parentTaskId = parentTaskId != null ? parentTaskId.toString() : null;
+        this.userId = userId;
+        this.recurrenceDays = recurrenceDays;
+        this.lastCompleted = lastCompleted;
+        this.difficulty = difficulty;
+    }
 
     // Getters and Setters
     public Long getId() {
@@ -74,6 +92,7 @@ public class TaskDto {
 
     public void setDifficulty(String difficulty) {
         this.difficulty = difficulty;
+        this.nextDueDate = nextDueDate;
     }
 
     public String getParentTaskId() {
@@ -91,4 +110,12 @@ public class TaskDto {
     public void setUserId(String userId) {
         this.userId = userId;
     }
+
+    public LocalDate getNextDueDate() {
+        return nextDueDate;
+    }
+
+    public void setNextDueDate(LocalDate nextDueDate) {
+        this.nextDueDate = nextDueDate;
+    }
 }
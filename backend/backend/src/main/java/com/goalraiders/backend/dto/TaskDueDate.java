@@ -0,0 +1,11 @@
+package com.goalraiders.backend.dto;
+
+import java.time.LocalDate;
+
+// 타이밍 휠 적재용 (id, 초기화 예정일) 프로젝션
+public interface TaskDueDate {
+
+    Long getId();
+
+    LocalDate getNextDueDate();
+}
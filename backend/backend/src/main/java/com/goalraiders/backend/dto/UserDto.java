@@ -8,6 +8,8 @@ public class UserDto {
     private Integer experience;
     private Integer currentHp;
     private Integer maxHp;
+    private Long totalExperience;
+    private Long nextLevelExperience; // 현재 레벨에서 다음 레벨까지 필요한 XP (최대 레벨이면 0)
 
     public UserDto(Long id, String username, String email, Integer level, Integer experience, Integer currentHp, Integer maxHp) {
         this.id = id;
@@ -75,4 +77,20 @@ public class UserDto {
     public void setMaxHp(Integer maxHp) {
         this.maxHp = maxHp;
     }
+
+    public Long getTotalExperience() {
+        return totalExperience;
+    }
+
+    public void setTotalExperience(Long totalExperience) {
+        this.totalExperience = totalExperience;
+    }
+
+    public Long getNextLevelExperience() {
+        return nextLevelExperience;
+    }
+
+    public void setNextLevelExperience(Long nextLevelExperience) {
+        this.nextLevelExperience = nextLevelExperience;
+    }
 }
@@ -23,8 +23,11 @@ public interface GoalMapper {
     @Mapping(target = "parentGoal", ignore = true) // ParentGoal은 서비스 레이어에서 설정
     @Mapping(target = "subGoals", ignore = true)
     @Mapping(target = "defeated", ignore = true)
+    @Mapping(target = "snapshotEventId", ignore = true)
+    @Mapping(target = "changeSeq", ignore = true) // 서비스 레이어에서 ChangeSequence 로 설정
     Goal toEntity(GoalDto goalDto);
 
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "changeSeq", ignore = true)
     void updateGoalFromDto(GoalDto goalDto, @MappingTarget Goal goal);
 }
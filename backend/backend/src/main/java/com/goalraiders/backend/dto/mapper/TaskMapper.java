@@ -23,8 +23,12 @@ public interface TaskMapper {
     @Mapping(target = "user", ignore = true)
     @Mapping(target = "goal", ignore = true)
     @Mapping(target = "parentTask", ignore = true)
+    @Mapping(target = "nextDueDate", ignore = true) // 서버에서 계산
+    @Mapping(target = "changeSeq", ignore = true) // 서비스 레이어에서 ChangeSequence 로 설정
     Task toEntity(TaskDto taskDto);
 
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "nextDueDate", ignore = true)
+    @Mapping(target = "changeSeq", ignore = true)
     void updateTaskFromDto(TaskDto taskDto, @MappingTarget Task task);
 }
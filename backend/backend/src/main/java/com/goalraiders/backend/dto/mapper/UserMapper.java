@@ -2,12 +2,23 @@ package com.goalraiders.backend.dto.mapper;
 
 import com.goalraiders.backend.User;
 import com.goalraiders.backend.dto.UserDto;
+import com.goalraiders.backend.service.CurrentUser;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
 
 @Mapper(componentModel = "spring")
 public interface UserMapper {
     UserMapper INSTANCE = Mappers.getMapper(UserMapper.class);
 
+    // 레벨 관련 값은 UserService 에서 LevelCurve 로 채움
+    @Mapping(target = "level", ignore = true)
+    @Mapping(target = "totalExperience", ignore = true)
+    @Mapping(target = "nextLevelExperience", ignore = true)
     UserDto toDto(User user);
+
+    @Mapping(target = "level", ignore = true)
+    @Mapping(target = "totalExperience", ignore = true)
+    @Mapping(target = "nextLevelExperience", ignore = true)
+    UserDto toDto(CurrentUser user);
 }
@@ -0,0 +1,32 @@
+package com.goalraiders.backend.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+
+// 로컬/테스트 환경용: Google 엔드포인트와 같은 형식의 JSON 파일에서 키를 읽음
+public class FilePublicKeySource implements PublicKeySource {
+
+    private final Path path;
+    private final Duration reloadInterval;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    public FilePublicKeySource(Path path, Duration reloadInterval, ObjectMapper objectMapper, Clock clock) {
+        this.path = path;
+        this.reloadInterval = reloadInterval;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    @Override
+    public PublicKeySet load() throws IOException {
+        String json = Files.readString(path, StandardCharsets.US_ASCII);
+        return new PublicKeySet(X509KeyParser.parse(objectMapper, json), clock.millis() + reloadInterval.toMillis());
+    }
+}
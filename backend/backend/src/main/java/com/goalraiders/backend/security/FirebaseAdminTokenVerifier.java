@@ -0,0 +1,27 @@
+package com.goalraiders.backend.security;
+
+import com.google.firebase.auth.FirebaseAuth;
+import com.google.firebase.auth.FirebaseAuthException;
+import com.google.firebase.auth.FirebaseToken;
+
+// 기본 모드: Firebase Admin SDK 로 토큰 검증 (키 조회는 SDK 내부에서 처리)
+public class FirebaseAdminTokenVerifier implements TokenVerifier {
+
+    @Override
+    public VerifiedToken verify(String idToken) throws TokenVerificationException {
+        try {
+            FirebaseToken decodedToken = FirebaseAuth.getInstance().verifyIdToken(idToken);
+            return new VerifiedToken(decodedToken.getUid(), expiresAtMillis(decodedToken));
+        } catch (FirebaseAuthException e) {
+            throw new TokenVerificationException(e.getMessage(), e);
+        }
+    }
+
+    private static long expiresAtMillis(FirebaseToken decodedToken) {
+        Object exp = decodedToken.getClaims().get("exp");
+        if (exp instanceof Number) {
+            return ((Number) exp).longValue() * 1000L;
+        }
+        return 0L; // exp 가 없으면 캐시하지 않음
+    }
+}
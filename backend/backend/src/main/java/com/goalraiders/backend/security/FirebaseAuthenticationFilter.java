@@ -1,8 +1,5 @@
 package com.goalraiders.backend.security;
 
-import com.google.firebase.auth.FirebaseAuth;
-import com.google.firebase.auth.FirebaseAuthException;
-import com.google.firebase.auth.FirebaseToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -19,11 +16,18 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Component
 public class FirebaseAuthenticationFilter extends OncePerRequestFilter {
 
+    private final TokenVerifier tokenVerifier;
+    private final FirebaseTokenCache tokenCache;
+
+    public FirebaseAuthenticationFilter(TokenVerifier tokenVerifier, FirebaseTokenCache tokenCache) {
+        this.tokenVerifier = tokenVerifier;
+        this.tokenCache = tokenCache;
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
@@ -39,29 +43,25 @@ public class FirebaseAuthenticationFilter extends OncePerRequestFilter {
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
             String idToken = authorizationHeader.substring(7);
 
-            try {
-                FirebaseToken decodedToken = FirebaseAuth.getInstance().verifyIdToken(idToken);
-                String uid = decodedToken.getUid();
-
-                // Spring Security UserDetails 객체 생성
-                List<GrantedAuthority> authorities = Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"));
-                UserDetails userDetails = User.builder()
-                        .username(uid)
-                        .password("") // Firebase 인증이므로 비밀번호는 필요 없음
-                        .authorities(authorities) // 권한은 필요에 따라 추가
-                        .build();
-
-                // Spring Security 컨텍스트에 인증 정보 설정
-                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities());
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-
-            } catch (FirebaseAuthException e) {
-                // 토큰 검증 실패
-                response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                response.getWriter().write("Unauthorized: Invalid Firebase ID token");
-                return;
+            // 같은 토큰은 exp 전까지 캐시된 결과를 재사용
+            UserDetails userDetails = tokenCache.get(idToken);
+            if (userDetails == null) {
+                try {
+                    VerifiedToken verifiedToken = tokenVerifier.verify(idToken);
+                    userDetails = buildUserDetails(verifiedToken.getUid());
+                    tokenCache.put(idToken, userDetails, verifiedToken.getExpiresAtMillis());
+                } catch (TokenVerificationException e) {
+                    // 토큰 검증 실패
+                    response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+                    response.getWriter().write("Unauthorized: Invalid Firebase ID token");
+                    return;
+                }
             }
+
+            // Spring Security 컨텍스트에 인증 정보 설정
+            UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                    userDetails, null, userDetails.getAuthorities());
+            SecurityContextHolder.getContext().setAuthentication(authentication);
         } else {
             // Authorization 헤더가 없거나 Bearer 토큰 형식이 아닌 경우
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
@@ -71,4 +71,14 @@ public class FirebaseAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    // Spring Security UserDetails 객체 생성
+    private static UserDetails buildUserDetails(String uid) {
+        List<GrantedAuthority> authorities = Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"));
+        return User.builder()
+                .username(uid)
+                .password("") // Firebase 인증이므로 비밀번호는 필요 없음
+                .authorities(authorities) // 권한은 필요에 따라 추가
+                .build();
+    }
 }
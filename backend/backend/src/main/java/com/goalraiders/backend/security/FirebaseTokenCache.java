@@ -0,0 +1,132 @@
+package com.goalraiders.backend.security;
+
+import com.goalraiders.backend.config.AuthProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+// 검증된 토큰 → UserDetails 캐시. 모든 인증 요청이 거치므로 전역 잠금 없이 ConcurrentHashMap 으로 조회
+// 크기 제한은 근사 LRU: 상한을 넘기면 한 스레드만 마지막 사용 순서로 정렬해 오래된 항목부터 상한의 90% 까지 정리
+@Component
+public class FirebaseTokenCache {
+
+    private final int maxSize;
+    private final int trimTo;
+    private final Clock clock;
+    private final LongSupplier ticker;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    private final ConcurrentHashMap<String, CachedToken> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean trimming = new AtomicBoolean();
+
+    @Autowired
+    public FirebaseTokenCache(AuthProperties authProperties, MeterRegistry meterRegistry) {
+        this(authProperties.getTokenCacheMaxSize(), Clock.systemUTC(), System::nanoTime, meterRegistry);
+    }
+
+    FirebaseTokenCache(int maxSize, Clock clock, LongSupplier ticker, MeterRegistry meterRegistry) {
+        this.maxSize = maxSize;
+        this.trimTo = maxSize - maxSize / 10;
+        this.clock = clock;
+        this.ticker = ticker;
+        this.hitCounter = meterRegistry.counter("auth.token.cache.hits");
+        this.missCounter = meterRegistry.counter("auth.token.cache.misses");
+        this.evictionCounter = meterRegistry.counter("auth.token.cache.evictions");
+        Gauge.builder("auth.token.cache.size", this, FirebaseTokenCache::size).register(meterRegistry);
+    }
+
+    // 검증이 끝난 토큰이면 캐시된 UserDetails 를, 없거나 만료(exp)되었으면 null 을 반환
+    public UserDetails get(String idToken) {
+        String key = hash(idToken);
+        CachedToken cached = entries.get(key);
+        if (cached != null) {
+            if (cached.expiresAtMillis > clock.millis()) {
+                cached.lastAccess = ticker.getAsLong();
+                hitCounter.increment();
+                return cached.userDetails;
+            }
+            entries.remove(key, cached);
+        }
+        missCounter.increment();
+        return null;
+    }
+
+    public void put(String idToken, UserDetails userDetails, long expiresAtMillis) {
+        if (expiresAtMillis <= clock.millis()) {
+            return;
+        }
+        entries.put(hash(idToken), new CachedToken(userDetails, expiresAtMillis, ticker.getAsLong()));
+        if (entries.size() > maxSize && trimming.compareAndSet(false, true)) {
+            try {
+                trim();
+            } finally {
+                trimming.set(false);
+            }
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // 만료 항목을 먼저 지우고, 그래도 넘치면 마지막 사용이 오래된 순으로 trimTo 까지 제거
+    // 정리하는 동안 다른 스레드의 조회/추가는 막지 않으므로 잠시 상한을 넘을 수 있음
+    private void trim() {
+        long now = clock.millis();
+        entries.values().removeIf(cached -> cached.expiresAtMillis <= now);
+        int excess = entries.size() - trimTo;
+        if (excess <= 0) {
+            return;
+        }
+        List<Map.Entry<String, CachedToken>> snapshot = new ArrayList<>(entries.entrySet());
+        snapshot.sort(Comparator.comparingLong(entry -> entry.getValue().lastAccess));
+        for (int i = 0; i < excess && i < snapshot.size(); i++) {
+            Map.Entry<String, CachedToken> entry = snapshot.get(i);
+            if (entries.remove(entry.getKey(), entry.getValue())) {
+                evictionCounter.increment();
+            }
+        }
+    }
+
+    // 원본 토큰을 메모리에 보관하지 않도록 SHA-256 해시를 키로 사용
+    private static String hash(String idToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hashed = digest.digest(idToken.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(hashed);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static final class CachedToken {
+        private final UserDetails userDetails;
+        private final long expiresAtMillis;
+        // 정렬용 마지막 사용 시점. 조회마다 잠금 없이 덮어쓰므로 동시 조회 시 순서는 근사치
+        private volatile long lastAccess;
+
+        private CachedToken(UserDetails userDetails, long expiresAtMillis, long lastAccess) {
+            this.userDetails = userDetails;
+            this.expiresAtMillis = expiresAtMillis;
+            this.lastAccess = lastAccess;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.goalraiders.backend.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class GooglePublicKeySource implements PublicKeySource {
+
+    static final String FIREBASE_CERTS_URL =
+            "https://www.googleapis.com/robot/v1/metadata/x509/securetoken@system.gserviceaccount.com";
+
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+    private static final long DEFAULT_MAX_AGE_SECONDS = 3600;
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    public GooglePublicKeySource(ObjectMapper objectMapper, Clock clock) {
+        this.httpClient = HttpClient.newBuilder().connectTimeout(REQUEST_TIMEOUT).build();
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    @Override
+    public PublicKeySet load() throws IOException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(FIREBASE_CERTS_URL))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while fetching public keys", e);
+        }
+        if (response.statusCode() != 200) {
+            throw new IOException("Unexpected status fetching public keys: " + response.statusCode());
+        }
+
+        // Cache-Control 의 max-age 만큼 키가 유효함
+        long maxAgeSeconds = response.headers().firstValue("Cache-Control")
+                .map(MAX_AGE::matcher)
+                .filter(Matcher::find)
+                .map(matcher -> Long.parseLong(matcher.group(1)))
+                .orElse(DEFAULT_MAX_AGE_SECONDS);
+        return new PublicKeySet(X509KeyParser.parse(objectMapper, response.body()),
+                clock.millis() + maxAgeSeconds * 1000L);
+    }
+}
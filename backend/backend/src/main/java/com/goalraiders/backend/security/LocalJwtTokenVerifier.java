@@ -0,0 +1,141 @@
+package com.goalraiders.backend.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+// Firebase ID 토큰(RS256 JWT)을 메모리의 공개키로 직접 검증
+public class LocalJwtTokenVerifier implements TokenVerifier {
+
+    private static final String ISSUER_PREFIX = "https://securetoken.google.com/";
+    private static final long ALLOWED_CLOCK_SKEW_SECONDS = 60;
+
+    private final PublicKeyStore keyStore;
+    private final String projectId;
+    private final String issuer;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    private final Timer parseTimer;
+    private final Timer keyLookupTimer;
+    private final Timer signatureTimer;
+    private final Timer claimsTimer;
+
+    public LocalJwtTokenVerifier(PublicKeyStore keyStore, String projectId, ObjectMapper objectMapper,
+                                 Clock clock, MeterRegistry meterRegistry) {
+        this.keyStore = keyStore;
+        this.projectId = projectId;
+        this.issuer = ISSUER_PREFIX + projectId;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.parseTimer = stageTimer(meterRegistry, "parse");
+        this.keyLookupTimer = stageTimer(meterRegistry, "key_lookup");
+        this.signatureTimer = stageTimer(meterRegistry, "signature");
+        this.claimsTimer = stageTimer(meterRegistry, "claims");
+    }
+
+    @Override
+    public VerifiedToken verify(String idToken) throws TokenVerificationException {
+        long start = System.nanoTime();
+        int firstDot = idToken.indexOf('.');
+        int secondDot = idToken.indexOf('.', firstDot + 1);
+        if (firstDot < 0 || secondDot < 0 || idToken.indexOf('.', secondDot + 1) >= 0) {
+            throw new TokenVerificationException("Malformed token");
+        }
+        JsonNode header = decodeJson(idToken.substring(0, firstDot));
+        JsonNode payload = decodeJson(idToken.substring(firstDot + 1, secondDot));
+        byte[] signature = decodeBase64(idToken.substring(secondDot + 1));
+        if (!"RS256".equals(header.path("alg").asText())) {
+            throw new TokenVerificationException("Unsupported algorithm: " + header.path("alg").asText());
+        }
+        long parsed = record(parseTimer, start);
+
+        String kid = header.path("kid").asText("");
+        PublicKey key = keyStore.getKey(kid);
+        if (key == null) {
+            throw new TokenVerificationException("Unknown key id: " + kid);
+        }
+        long keyFound = record(keyLookupTimer, parsed);
+
+        verifySignature(key, idToken.substring(0, secondDot), signature);
+        long signatureVerified = record(signatureTimer, keyFound);
+
+        VerifiedToken verifiedToken = verifyClaims(payload);
+        record(claimsTimer, signatureVerified);
+        return verifiedToken;
+    }
+
+    private VerifiedToken verifyClaims(JsonNode payload) throws TokenVerificationException {
+        long nowSeconds = clock.millis() / 1000L;
+        long exp = payload.path("exp").asLong(0L);
+        if (exp + ALLOWED_CLOCK_SKEW_SECONDS <= nowSeconds) {
+            throw new TokenVerificationException("Token has expired");
+        }
+        if (payload.path("iat").asLong(Long.MAX_VALUE) - ALLOWED_CLOCK_SKEW_SECONDS > nowSeconds) {
+            throw new TokenVerificationException("Token issued in the future");
+        }
+        if (!projectId.equals(payload.path("aud").asText())) {
+            throw new TokenVerificationException("Invalid audience");
+        }
+        if (!issuer.equals(payload.path("iss").asText())) {
+            throw new TokenVerificationException("Invalid issuer");
+        }
+        String uid = payload.path("sub").asText("");
+        if (uid.isEmpty() || uid.length() > 128) {
+            throw new TokenVerificationException("Invalid subject");
+        }
+        return new VerifiedToken(uid, exp * 1000L);
+    }
+
+    private static void verifySignature(PublicKey key, String signingInput, byte[] signature)
+            throws TokenVerificationException {
+        try {
+            Signature verifier = Signature.getInstance("SHA256withRSA");
+            verifier.initVerify(key);
+            verifier.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+            if (!verifier.verify(signature)) {
+                throw new TokenVerificationException("Invalid signature");
+            }
+        } catch (GeneralSecurityException e) {
+            throw new TokenVerificationException("Invalid signature", e);
+        }
+    }
+
+    private JsonNode decodeJson(String part) throws TokenVerificationException {
+        try {
+            return objectMapper.readTree(decodeBase64(part));
+        } catch (IOException e) {
+            throw new TokenVerificationException("Malformed token", e);
+        }
+    }
+
+    private static byte[] decodeBase64(String part) throws TokenVerificationException {
+        try {
+            return Base64.getUrlDecoder().decode(part);
+        } catch (IllegalArgumentException e) {
+            throw new TokenVerificationException("Malformed token", e);
+        }
+    }
+
+    private static long record(Timer timer, long stageStartNanos) {
+        long now = System.nanoTime();
+        timer.record(now - stageStartNanos, TimeUnit.NANOSECONDS);
+        return now;
+    }
+
+    private static Timer stageTimer(MeterRegistry meterRegistry, String stage) {
+        return Timer.builder("auth.token.verify")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,34 @@
+package com.goalraiders.backend.security;
+
+import java.security.PublicKey;
+import java.util.Collections;
+import java.util.Map;
+
+public class PublicKeySet {
+
+    private static final PublicKeySet EMPTY = new PublicKeySet(Collections.emptyMap(), 0L);
+
+    private final Map<String, PublicKey> keys;
+    private final long expiresAtMillis;
+
+    public PublicKeySet(Map<String, PublicKey> keys, long expiresAtMillis) {
+        this.keys = Map.copyOf(keys);
+        this.expiresAtMillis = expiresAtMillis;
+    }
+
+    public static PublicKeySet empty() {
+        return EMPTY;
+    }
+
+    public PublicKey getKey(String kid) {
+        return keys.get(kid);
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    public long getExpiresAtMillis() {
+        return expiresAtMillis;
+    }
+}
@@ -0,0 +1,8 @@
+package com.goalraiders.backend.security;
+
+import java.io.IOException;
+
+// 서명 검증용 공개키 집합을 가져오는 곳 (Google 엔드포인트, 로컬 파일, 테스트용 stub 등)
+public interface PublicKeySource {
+    PublicKeySet load() throws IOException;
+}
@@ -0,0 +1,74 @@
+package com.goalraiders.backend.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.security.PublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 요청 스레드는 메모리의 키 집합만 읽고, 키 갱신(I/O)은 백그라운드 스케줄러가 만료 전에 수행
+public class PublicKeyStore implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PublicKeyStore.class);
+    private static final long MIN_REFRESH_DELAY_MILLIS = 1000L;
+
+    private final PublicKeySource source;
+    private final Duration refreshMargin;
+    private final Duration retryDelay;
+    private final Clock clock;
+    private final AtomicReference<PublicKeySet> current = new AtomicReference<>(PublicKeySet.empty());
+    private final ScheduledExecutorService scheduler;
+
+    public PublicKeyStore(PublicKeySource source, Duration refreshMargin, Duration retryDelay, Clock clock) {
+        this.source = source;
+        this.refreshMargin = refreshMargin;
+        this.retryDelay = retryDelay;
+        this.clock = clock;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jwt-key-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // 애플리케이션 시작 시 한 번 로드한 뒤 이후 갱신은 스케줄러에 맡김
+    public void start() {
+        refreshAndReschedule();
+    }
+
+    public PublicKey getKey(String kid) {
+        return current.get().getKey(kid);
+    }
+
+    public void refresh() throws IOException {
+        PublicKeySet keySet = source.load();
+        current.set(keySet);
+        log.debug("Loaded {} public keys, valid until {}", keySet.size(), keySet.getExpiresAtMillis());
+    }
+
+    private void refreshAndReschedule() {
+        long delayMillis;
+        try {
+            refresh();
+            delayMillis = current.get().getExpiresAtMillis() - refreshMargin.toMillis() - clock.millis();
+        } catch (IOException | RuntimeException e) {
+            // 갱신에 실패해도 기존 키는 유지 (Google 은 키를 겹치게 교체함)
+            log.warn("Failed to refresh public keys, retrying in {}", retryDelay, e);
+            delayMillis = retryDelay.toMillis();
+        }
+        if (!scheduler.isShutdown()) {
+            scheduler.schedule(this::refreshAndReschedule, Math.max(delayMillis, MIN_REFRESH_DELAY_MILLIS), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
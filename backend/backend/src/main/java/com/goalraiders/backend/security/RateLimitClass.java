@@ -0,0 +1,24 @@
+package com.goalraiders.backend.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+// 요청 제한 한도 구분. GAME_ACTION 은 데미지/보상으로 이어지는 POST, 나머지 요청(조회와 생성/수정/삭제)은 모두 READ 한도
+public enum RateLimitClass {
+    READ,
+    GAME_ACTION;
+
+    // 요청마다 호출되므로 패턴 매칭 없이 문자열 비교만
+    public static RateLimitClass of(HttpServletRequest request) {
+        if (!"POST".equals(request.getMethod())) {
+            return READ;
+        }
+        String uri = request.getRequestURI();
+        if (uri.startsWith("/api/tasks/") && uri.endsWith("/complete")) {
+            return GAME_ACTION;
+        }
+        if (uri.startsWith("/api/goals/") && (uri.endsWith("/damage") || uri.endsWith("/raid-attack"))) {
+            return GAME_ACTION;
+        }
+        return READ;
+    }
+}
@@ -0,0 +1,54 @@
+package com.goalraiders.backend.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// FirebaseAuthenticationFilter 바로 뒤에서 인증된 uid 기준으로 요청 수 제한. 인증 정보가 없는 요청(permitAll 경로)은 통과
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final RateLimiter rateLimiter;
+    private final boolean enabled;
+
+    public RateLimitFilter(RateLimiter rateLimiter, @Value("${rate-limit.enabled:true}") boolean enabled) {
+        this.rateLimiter = rateLimiter;
+        this.enabled = enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (!enabled || authentication == null || !(authentication.getPrincipal() instanceof UserDetails userDetails)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long waitNanos = rateLimiter.tryAcquire(userDetails.getUsername(), RateLimitClass.of(request));
+        if (waitNanos > 0) {
+            // Retry-After 는 초 단위라 올림 (최소 1초)
+            long retryAfterSeconds = Math.max(1L, (waitNanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+            response.getWriter().write("Too Many Requests: rate limit exceeded");
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,123 @@
+package com.goalraiders.backend.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// firebase uid 별 토큰 버킷. 버킷 상태를 "버킷이 다시 가득 차는 시각"(GCRA 의 TAT) long 하나로 두고 CAS 로만 갱신해서 잠금 없음
+// 가득 찬 버킷은 새 버킷과 구별되지 않으므로 주기적으로 지워서, 메모리는 최근 한도를 쓴 사용자 수에만 비례 (상한 max-tracked-users)
+@Component
+public class RateLimiter {
+
+    private final ConcurrentHashMap<String, AtomicLong>[] buckets;
+    // 한도 구분별 토큰 1개 보충 간격과 버스트 허용폭 (ns)
+    private final long[] intervalNanos;
+    private final long[] burstNanos;
+    private final int maxTrackedUsers;
+    private final LongSupplier nanoTime;
+    private final long origin;
+    private final Counter[] throttledCounters;
+    private final Counter untrackedCounter;
+
+    @Autowired
+    public RateLimiter(@Value("${rate-limit.read.per-second:20}") double readPerSecond,
+                       @Value("${rate-limit.read.burst:40}") int readBurst,
+                       @Value("${rate-limit.game-action.per-second:2}") double gameActionPerSecond,
+                       @Value("${rate-limit.game-action.burst:10}") int gameActionBurst,
+                       @Value("${rate-limit.max-tracked-users:1000000}") int maxTrackedUsers,
+                       MeterRegistry meterRegistry) {
+        this(readPerSecond, readBurst, gameActionPerSecond, gameActionBurst, maxTrackedUsers, System::nanoTime, meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    RateLimiter(double readPerSecond, int readBurst, double gameActionPerSecond, int gameActionBurst,
+                int maxTrackedUsers, LongSupplier nanoTime, MeterRegistry meterRegistry) {
+        int classes = RateLimitClass.values().length;
+        this.buckets = new ConcurrentHashMap[classes];
+        this.intervalNanos = new long[classes];
+        this.burstNanos = new long[classes];
+        this.throttledCounters = new Counter[classes];
+        limit(RateLimitClass.READ, readPerSecond, readBurst);
+        limit(RateLimitClass.GAME_ACTION, gameActionPerSecond, gameActionBurst);
+        for (RateLimitClass limitClass : RateLimitClass.values()) {
+            buckets[limitClass.ordinal()] = new ConcurrentHashMap<>();
+            throttledCounters[limitClass.ordinal()] = meterRegistry.counter("rate.limit.throttled",
+                    "class", limitClass.name().toLowerCase());
+        }
+        this.maxTrackedUsers = maxTrackedUsers;
+        this.nanoTime = nanoTime;
+        this.origin = nanoTime.getAsLong();
+        this.untrackedCounter = meterRegistry.counter("rate.limit.untracked");
+        Gauge.builder("rate.limit.buckets", this, RateLimiter::size).register(meterRegistry);
+    }
+
+    private void limit(RateLimitClass limitClass, double perSecond, int burst) {
+        if (perSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("rate-limit." + limitClass.name().toLowerCase().replace('_', '-')
+                    + " needs per-second > 0 and burst >= 1: " + perSecond + "/" + burst);
+        }
+        long interval = Math.max(1L, Math.round(1_000_000_000L / perSecond));
+        intervalNanos[limitClass.ordinal()] = interval;
+        burstNanos[limitClass.ordinal()] = interval * burst;
+    }
+
+    // 토큰을 하나 쓰면 0, 모자라면 다음 토큰까지 남은 ns (토큰은 쓰지 않음)
+    public long tryAcquire(String firebaseUid, RateLimitClass limitClass) {
+        int index = limitClass.ordinal();
+        ConcurrentHashMap<String, AtomicLong> classBuckets = buckets[index];
+        long now = now();
+        AtomicLong fullAt = classBuckets.get(firebaseUid);
+        if (fullAt == null) {
+            // 상한을 넘으면 추적하지 않고 통과 (다음 정리 때 가득 찬 버킷이 빠지면서 다시 추적)
+            if (classBuckets.size() >= maxTrackedUsers) {
+                untrackedCounter.increment();
+                return 0L;
+            }
+            fullAt = classBuckets.computeIfAbsent(firebaseUid, uid -> new AtomicLong(now));
+        }
+        long interval = intervalNanos[index];
+        long burst = burstNanos[index];
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + interval;
+            long excess = next - now - burst;
+            if (excess > 0) {
+                throttledCounters[index].increment();
+                return excess;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0L;
+            }
+        }
+    }
+
+    // 가득 찬 버킷 정리. 지우는 순간 다른 요청이 같은 버킷에서 토큰을 썼다면 그 1개만 새 버킷에서 다시 채워짐
+    @Scheduled(fixedDelayString = "${rate-limit.sweep-interval-ms:10000}")
+    public void evictIdle() {
+        long now = now();
+        for (ConcurrentHashMap<String, AtomicLong> classBuckets : buckets) {
+            classBuckets.values().removeIf(fullAt -> fullAt.get() <= now);
+        }
+    }
+
+    int size() {
+        int size = 0;
+        for (ConcurrentHashMap<String, AtomicLong> classBuckets : buckets) {
+            size += classBuckets.size();
+        }
+        return size;
+    }
+
+    // nanoTime 은 음수일 수 있으므로 생성 시각 기준으로 (새 버킷의 초기값이 항상 지금 이하가 되도록)
+    private long now() {
+        return nanoTime.getAsLong() - origin;
+    }
+}
@@ -0,0 +1,11 @@
+package com.goalraiders.backend.security;
+
+public class TokenVerificationException extends Exception {
+    public TokenVerificationException(String message) {
+        super(message);
+    }
+
+    public TokenVerificationException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
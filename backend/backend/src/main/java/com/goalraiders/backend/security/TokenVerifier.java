@@ -0,0 +1,5 @@
+package com.goalraiders.backend.security;
+
+public interface TokenVerifier {
+    VerifiedToken verify(String idToken) throws TokenVerificationException;
+}
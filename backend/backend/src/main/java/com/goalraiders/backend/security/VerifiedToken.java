@@ -0,0 +1,20 @@
+package com.goalraiders.backend.security;
+
+public class VerifiedToken {
+
+    private final String uid;
+    private final long expiresAtMillis;
+
+    public VerifiedToken(String uid, long expiresAtMillis) {
+        this.uid = uid;
+        this.expiresAtMillis = expiresAtMillis;
+    }
+
+    public String getUid() {
+        return uid;
+    }
+
+    public long getExpiresAtMillis() {
+        return expiresAtMillis;
+    }
+}
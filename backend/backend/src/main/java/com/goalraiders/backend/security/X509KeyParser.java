@@ -0,0 +1,38 @@
+package com.goalraiders.backend.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.PublicKey;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+// {"kid": "-----BEGIN CERTIFICATE-----..."} 형식(Google securetoken 엔드포인트와 동일)을 파싱
+final class X509KeyParser {
+
+    private X509KeyParser() {
+    }
+
+    static Map<String, PublicKey> parse(ObjectMapper objectMapper, String json) throws IOException {
+        JsonNode root = objectMapper.readTree(json);
+        Map<String, PublicKey> keys = new HashMap<>();
+        try {
+            CertificateFactory certificateFactory = CertificateFactory.getInstance("X.509");
+            Iterator<Map.Entry<String, JsonNode>> fields = root.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                byte[] pem = field.getValue().asText().getBytes(StandardCharsets.US_ASCII);
+                keys.put(field.getKey(), certificateFactory.generateCertificate(new ByteArrayInputStream(pem)).getPublicKey());
+            }
+        } catch (CertificateException e) {
+            throw new IOException("Invalid public key certificate", e);
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,75 @@
+package com.goalraiders.backend.service;
+
+import com.goalraiders.backend.GoalDamageEventRepository;
+import com.goalraiders.backend.GoalRepository;
+import com.goalraiders.backend.SyncTombstoneRepository;
+import com.goalraiders.backend.TaskRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+// task/goal 행과 삭제 기록(SyncTombstone)에 붙이는 전역 변경 순번. /api/sync 는 클라이언트가 받은 순번 이후의 행만 조회
+// 데미지 이벤트 id 로도 사용해서 GoalSnapshotCompactor 가 watermark 까지만 접음 (커밋이 늦은 이벤트를 건너뛰지 않도록)
+// 메모리 카운터라 기동 시 DB 의 최댓값과 기동 시각(ms x 1000) 중 큰 값에서 시작 (단일 인스턴스 기준)
+@Component
+public class ChangeSequence {
+
+    private final AtomicLong sequence;
+    // 발급됐지만 아직 커밋/롤백되지 않은 순번. 늦게 커밋되는 트랜잭션이 있으면 watermark 가 그 아래에 머묾
+    private final ConcurrentSkipListSet<Long> inFlight = new ConcurrentSkipListSet<>();
+
+    @Autowired
+    public ChangeSequence(TaskRepository taskRepository, GoalRepository goalRepository, SyncTombstoneRepository syncTombstoneRepository,
+                          GoalDamageEventRepository goalDamageEventRepository) {
+        this(Math.max(System.currentTimeMillis() * 1000, max(
+                taskRepository.findMaxChangeSeq(), goalRepository.findMaxChangeSeq(), syncTombstoneRepository.findMaxChangeSeq(),
+                goalDamageEventRepository.findMaxId())));
+    }
+
+    ChangeSequence(long initial) {
+        this.sequence = new AtomicLong(initial);
+    }
+
+    // 행을 쓰는 트랜잭션 안에서 호출. 트랜잭션이 끝날 때까지 in-flight 로 남음
+    public long next() {
+        long value;
+        synchronized (this) {
+            // watermark() 가 잠금 없이 읽으므로 in-flight 등록을 카운터 증가보다 먼저
+            value = sequence.get() + 1;
+            inFlight.add(value);
+            sequence.set(value);
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    inFlight.remove(value);
+                }
+            });
+        } else {
+            inFlight.remove(value); // 트랜잭션 밖이면 바로 보이는 쓰기
+        }
+        return value;
+    }
+
+    // 이 값 이하의 변경은 모두 커밋(또는 롤백)됨. 동기화 응답의 version 으로 내려가서 다음 요청의 since 가 됨
+    public long watermark() {
+        long issued = sequence.get();
+        Long oldest = inFlight.ceiling(Long.MIN_VALUE); // 비어 있으면 null (first() 는 동시에 비워지면 예외)
+        return oldest != null && oldest <= issued ? oldest - 1 : issued;
+    }
+
+    private static long max(Long... values) {
+        long max = 0L;
+        for (Long value : values) {
+            if (value != null && value > max) {
+                max = value;
+            }
+        }
+        return max;
+    }
+}
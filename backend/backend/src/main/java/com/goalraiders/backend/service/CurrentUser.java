@@ -0,0 +1,60 @@
+package com.goalraiders.backend.service;
+
+import com.goalraiders.backend.User;
+
+// CurrentUserCache 에 두는 사용자 스냅샷. 요청 스레드끼리 공유하므로 불변이고 지연 로딩 필드가 없음
+// 엔티티가 필요하면(연관관계 설정 등) UserService.getCurrentUserEntity() 로 트랜잭션 안에서 다시 얻음
+public final class CurrentUser {
+
+    private final Long id;
+    private final String firebaseUid;
+    private final String username;
+    private final String email;
+    private final Integer experience;
+    private final Integer currentHp;
+    private final Integer maxHp;
+
+    public CurrentUser(Long id, String firebaseUid, String username, String email,
+                       Integer experience, Integer currentHp, Integer maxHp) {
+        this.id = id;
+        this.firebaseUid = firebaseUid;
+        this.username = username;
+        this.email = email;
+        this.experience = experience;
+        this.currentHp = currentHp;
+        this.maxHp = maxHp;
+    }
+
+    public static CurrentUser of(User user) {
+        return new CurrentUser(user.getId(), user.getFirebaseUid(), user.getUsername(), user.getEmail(),
+                user.getExperience(), user.getCurrentHp(), user.getMaxHp());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getFirebaseUid() {
+        return firebaseUid;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public Integer getExperience() {
+        return experience;
+    }
+
+    public Integer getCurrentHp() {
+        return currentHp;
+    }
+
+    public Integer getMaxHp() {
+        return maxHp;
+    }
+}
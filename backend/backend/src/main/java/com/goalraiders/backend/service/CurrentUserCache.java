@@ -0,0 +1,142 @@
+package com.goalraiders.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// firebaseUid -> CurrentUser 캐시. 요청 범위(request attribute) + 요청 간 공유(LRU, TTL) 2단계로 동작
+// 여러 요청 스레드가 같은 값을 받으므로 JPA 엔티티(가변, 지연 로딩)가 아니라 불변 스냅샷만 보관
+@Component
+public class CurrentUserCache {
+
+    private static final String REQUEST_ATTRIBUTE_PREFIX = CurrentUserCache.class.getName() + ".";
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Clock clock;
+
+    private final Counter requestHitCounter;
+    private final Counter sharedHitCounter;
+    private final Counter missCounter;
+
+    private final Map<String, CachedUser> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedUser> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    @Autowired
+    public CurrentUserCache(@Value("${user-cache.max-size:10000}") int maxSize,
+                            @Value("${user-cache.ttl:PT5M}") Duration ttl,
+                            MeterRegistry meterRegistry) {
+        this(maxSize, ttl, Clock.systemUTC(), meterRegistry);
+    }
+
+    CurrentUserCache(int maxSize, Duration ttl, Clock clock, MeterRegistry meterRegistry) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+        // 히트 수 = 절약한 users 테이블 조회 수
+        this.requestHitCounter = meterRegistry.counter("user.cache.hits", "layer", "request");
+        this.sharedHitCounter = meterRegistry.counter("user.cache.hits", "layer", "shared");
+        this.missCounter = meterRegistry.counter("user.cache.misses");
+        Gauge.builder("user.cache.hit.ratio", this, CurrentUserCache::hitRatio).register(meterRegistry);
+    }
+
+    public CurrentUser get(String firebaseUid) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null) {
+            Object requestScoped = requestAttributes.getAttribute(REQUEST_ATTRIBUTE_PREFIX + firebaseUid, RequestAttributes.SCOPE_REQUEST);
+            if (requestScoped != null) {
+                requestHitCounter.increment();
+                return (CurrentUser) requestScoped;
+            }
+        }
+
+        CurrentUser user = null;
+        synchronized (entries) {
+            CachedUser cached = entries.get(firebaseUid);
+            if (cached != null) {
+                if (cached.expiresAtMillis > clock.millis()) {
+                    user = cached.user;
+                } else {
+                    entries.remove(firebaseUid);
+                }
+            }
+        }
+        if (user == null) {
+            missCounter.increment();
+            return null;
+        }
+        sharedHitCounter.increment();
+        storeInRequest(requestAttributes, user);
+        return user;
+    }
+
+    public void put(CurrentUser user) {
+        synchronized (entries) {
+            entries.put(user.getFirebaseUid(), new CachedUser(user, clock.millis() + ttlMillis));
+        }
+        storeInRequest(RequestContextHolder.getRequestAttributes(), user);
+    }
+
+    // 사용자 정보가 변경되면(경험치 등) 두 단계 모두에서 제거
+    public void evict(String firebaseUid) {
+        synchronized (entries) {
+            entries.remove(firebaseUid);
+        }
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null) {
+            requestAttributes.removeAttribute(REQUEST_ATTRIBUTE_PREFIX + firebaseUid, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    // 쓰기 트랜잭션 안에서 호출. 커밋 전에 지우면 그 사이 다른 요청이 변경 전 행을 읽어 TTL 동안 다시 캐시할 수 있으므로 커밋 후에 제거
+    public void evictAfterCommit(String firebaseUid) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(firebaseUid);
+                }
+            });
+            return;
+        }
+        evict(firebaseUid);
+    }
+
+    public double hitRatio() {
+        double hits = requestHitCounter.count() + sharedHitCounter.count();
+        double total = hits + missCounter.count();
+        return total == 0 ? 0.0 : hits / total;
+    }
+
+    private static void storeInRequest(RequestAttributes requestAttributes, CurrentUser user) {
+        if (requestAttributes != null) {
+            requestAttributes.setAttribute(REQUEST_ATTRIBUTE_PREFIX + user.getFirebaseUid(), user, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    private static final class CachedUser {
+        private final CurrentUser user;
+        private final long expiresAtMillis;
+
+        private CachedUser(CurrentUser user, long expiresAtMillis) {
+            this.user = user;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.goalraiders.backend.service;
+
+import com.goalraiders.backend.OutboxEvent;
+import com.goalraiders.backend.OutboxEventType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ExperienceAwardHandler implements OutboxHandler {
+
+    @Autowired
+    private UserService userService;
+
+    @Override
+    public OutboxEventType type() {
+        return OutboxEventType.XP_AWARD;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        userService.addExperience(event.getFirebaseUid(), event.getAmount());
+    }
+}
@@ -0,0 +1,62 @@
+package com.goalraiders.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goalraiders.backend.dto.GameConfigDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+// GET /api/config/game 응답 본문을 미리 직렬화해 둔 것. GameRuleBook 의 표가 바뀐 경우에만 다시 만듦
+@Component
+public class GameConfigPayload {
+
+    private final GameRuleBook gameRuleBook;
+    private final ObjectMapper objectMapper;
+    private volatile Body body;
+
+    @Autowired
+    public GameConfigPayload(GameRuleBook gameRuleBook, ObjectMapper objectMapper) {
+        this.gameRuleBook = gameRuleBook;
+        this.objectMapper = objectMapper;
+    }
+
+    public Body current() {
+        GameRules rules = gameRuleBook.current();
+        Body cached = body;
+        if (cached == null || cached.rules != rules) {
+            // 동시에 여러 스레드가 만들어도 같은 표에서 같은 바이트가 나오므로 잠그지 않음
+            cached = new Body(rules, serialize(rules));
+            body = cached;
+        }
+        return cached;
+    }
+
+    private byte[] serialize(GameRules rules) {
+        try {
+            return objectMapper.writeValueAsBytes(new GameConfigDto(rules.damageMap(), rules.bossHpMap(), rules.xpRewardMap()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize game config", e);
+        }
+    }
+
+    public static final class Body {
+        private final GameRules rules;
+        private final byte[] bytes;
+        private final String etag;
+
+        private Body(GameRules rules, byte[] bytes) {
+            this.rules = rules;
+            this.bytes = bytes;
+            this.etag = "\"" + DigestUtils.md5DigestAsHex(bytes) + "\""; // 내용 기반 strong ETag
+        }
+
+        public byte[] bytes() {
+            return bytes;
+        }
+
+        public String etag() {
+            return etag;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.goalraiders.backend.service;
+
+import com.goalraiders.backend.Difficulty;
+import com.goalraiders.backend.config.GameConfigProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 현재 GameRules 를 들고 있는 홀더. 조회는 참조 하나 읽기, 재적재는 새 표를 다 컴파일한 뒤 참조만 교체
+// game.rules-file 이 지정되면 그 파일(game.* 속성)의 변경을 감지해 재시작 없이 반영. 파일에 없는 값은 기동 시 설정을 유지
+@Component
+public class GameRuleBook {
+
+    private static final Logger logger = LoggerFactory.getLogger(GameRuleBook.class);
+
+    private final AtomicReference<GameRules> rules;
+    private final GameConfigProperties baseProperties;
+    private final Path rulesFile;
+    private long rulesFileModified;
+
+    @Autowired
+    public GameRuleBook(GameConfigProperties properties, @Value("${game.rules-file:}") String rulesFile) {
+        this.baseProperties = properties;
+        this.rulesFile = rulesFile.isBlank() ? null : Path.of(rulesFile);
+        this.rules = new AtomicReference<>(GameRules.compile(properties)); // 설정이 잘못되면 기동 실패
+        reloadIfChanged();
+    }
+
+    GameRuleBook(GameRules rules) {
+        this.baseProperties = null;
+        this.rulesFile = null;
+        this.rules = new AtomicReference<>(rules);
+    }
+
+    public GameRules current() {
+        return rules.get();
+    }
+
+    // 컴파일은 호출 전에 끝나므로 잘못된 설정이면 교체 없이 기존 표가 남음
+    public void reload(GameRules next) {
+        rules.set(next);
+    }
+
+    @Scheduled(fixedDelayString = "${game.rules-reload-interval-ms:10000}")
+    public synchronized void reloadIfChanged() {
+        if (rulesFile == null || !Files.isRegularFile(rulesFile)) {
+            return;
+        }
+        try {
+            long modified = Files.getLastModifiedTime(rulesFile).toMillis();
+            if (modified == rulesFileModified) {
+                return;
+            }
+            rulesFileModified = modified;
+            reload(GameRules.compile(overlay(readProperties(rulesFile))));
+            logger.info("Reloaded game rules from {}", rulesFile);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Keeping current game rules, failed to load {}", rulesFile, e);
+        }
+    }
+
+    private GameConfigProperties overlay(Properties fileProperties) {
+        GameConfigProperties fromFile = new Binder(new MapConfigurationPropertySource(fileProperties))
+                .bind("game", GameConfigProperties.class)
+                .orElseGet(GameConfigProperties::new);
+        GameConfigProperties merged = new GameConfigProperties();
+        merged.setDifficultyDamageMap(merge(baseProperties.getDifficultyDamageMap(), fromFile.getDifficultyDamageMap()));
+        merged.setBossHpMap(merge(baseProperties.getBossHpMap(), fromFile.getBossHpMap()));
+        merged.setBossXpRewardMap(merge(baseProperties.getBossXpRewardMap(), fromFile.getBossXpRewardMap()));
+        return merged;
+    }
+
+    private static HashMap<String, Integer> merge(Map<String, Integer> base, Map<String, Integer> override) {
+        // "easy" 와 "Easy" 처럼 표기만 다른 키가 서로 덮어쓰도록 label 로 맞춘 뒤 병합
+        HashMap<String, Integer> merged = new HashMap<>();
+        base.forEach((key, value) -> merged.put(normalize(key), value));
+        override.forEach((key, value) -> merged.put(normalize(key), value));
+        return merged;
+    }
+
+    private static String normalize(String key) {
+        Difficulty difficulty = Difficulty.fromLabel(key);
+        return difficulty != null ? difficulty.label() : key;
+    }
+
+    private static Properties readProperties(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        }
+        return properties;
+    }
+}
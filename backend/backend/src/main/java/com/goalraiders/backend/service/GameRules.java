@@ -0,0 +1,97 @@
+package com.goalraiders.backend.service;
+
+import com.goalraiders.backend.Difficulty;
+import com.goalraiders.backend.config.GameConfigProperties;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// GameConfigProperties 의 문자열 키 맵을 Difficulty ordinal 로 색인한 int[] 로 컴파일한 불변 규칙표
+// 교체는 GameRuleBook 이 참조를 통째로 바꿔서 하므로 조회 중에 값이 섞이지 않음
+public final class GameRules {
+
+    private final int[] damage;
+    private final int[] bossHp;
+    private final int[] xpReward;
+    private final Map<String, Integer> damageMap;
+    private final Map<String, Integer> bossHpMap;
+    private final Map<String, Integer> xpRewardMap;
+
+    private GameRules(int[] damage, int[] bossHp, int[] xpReward) {
+        this.damage = damage;
+        this.bossHp = bossHp;
+        this.xpReward = xpReward;
+        this.damageMap = toMap(damage);
+        this.bossHpMap = toMap(bossHp);
+        this.xpRewardMap = toMap(xpReward);
+    }
+
+    public static GameRules compile(GameConfigProperties properties) {
+        return compile(properties.getDifficultyDamageMap(), properties.getBossHpMap(), properties.getBossXpRewardMap());
+    }
+
+    // 모든 난이도에 값이 있어야 하고, 모르는 키가 있으면 설정 오타로 보고 거부 (IllegalArgumentException)
+    public static GameRules compile(Map<String, Integer> damageMap, Map<String, Integer> bossHpMap, Map<String, Integer> xpRewardMap) {
+        return new GameRules(
+                table("difficulty-damage-map", damageMap, 0),
+                table("boss-hp-map", bossHpMap, 1),
+                table("boss-xp-reward-map", xpRewardMap, 0));
+    }
+
+    public int damage(Difficulty difficulty) {
+        return damage[difficulty.ordinal()];
+    }
+
+    public int bossHp(Difficulty difficulty) {
+        return bossHp[difficulty.ordinal()];
+    }
+
+    public int xpReward(Difficulty difficulty) {
+        return xpReward[difficulty.ordinal()];
+    }
+
+    // /api/config/game 응답용 (label → 값, 난이도 순서)
+    public Map<String, Integer> damageMap() {
+        return damageMap;
+    }
+
+    public Map<String, Integer> bossHpMap() {
+        return bossHpMap;
+    }
+
+    public Map<String, Integer> xpRewardMap() {
+        return xpRewardMap;
+    }
+
+    private static int[] table(String name, Map<String, Integer> source, int min) {
+        int[] table = new int[Difficulty.values().length];
+        boolean[] present = new boolean[table.length];
+        for (Map.Entry<String, Integer> entry : source.entrySet()) {
+            Difficulty difficulty = Difficulty.fromLabel(entry.getKey());
+            if (difficulty == null) {
+                throw new IllegalArgumentException("game." + name + " has unknown difficulty: " + entry.getKey());
+            }
+            Integer value = entry.getValue();
+            if (value == null || value < min) {
+                throw new IllegalArgumentException("game." + name + "." + entry.getKey() + " must be at least " + min + ": " + value);
+            }
+            table[difficulty.ordinal()] = value;
+            present[difficulty.ordinal()] = true;
+        }
+        for (Difficulty difficulty : Difficulty.values()) {
+            if (!present[difficulty.ordinal()]) {
+                throw new IllegalArgumentException("game." + name + " is missing " + difficulty.label());
+            }
+        }
+        return table;
+    }
+
+    private static Map<String, Integer> toMap(int[] table) {
+        Map<String, Integer> map = new LinkedHashMap<>();
+        for (Difficulty difficulty : Difficulty.values()) {
+            map.put(difficulty.label(), table[difficulty.ordinal()]);
+        }
+        return Collections.unmodifiableMap(map);
+    }
+}
@@ -0,0 +1,79 @@
+package com.goalraiders.backend.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 데미지 이벤트 기록. 호출자 트랜잭션 안에서 goal_damage_events 에 한 건 INSERT (추가만 하므로 goal 행과 경합하지 않음)
+// 스냅샷에 아직 반영되지 않은 데미지는 goal 별 카운터로 유지해서 현재 HP = 스냅샷 - pending 을 O(1) 로 계산
+@Component
+public class GoalDamageLog {
+
+    private static final String INSERT_SQL =
+            "insert into goal_damage_events (id, goal_id, attacker_uid, damage, created_at) values (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ChangeSequence changeSequence;
+    private final Clock clock;
+    private final ConcurrentHashMap<Long, Long> unsnapshotted = new ConcurrentHashMap<>();
+
+    @Autowired
+    public GoalDamageLog(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, ChangeSequence changeSequence) {
+        this(jdbcTemplate, transactionManager, changeSequence, Clock.systemUTC());
+    }
+
+    GoalDamageLog(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, ChangeSequence changeSequence, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.changeSequence = changeSequence;
+        this.clock = clock;
+    }
+
+    // 호출자 트랜잭션(작업 완료 등)과 함께 커밋되므로 재기동해도 데미지가 사라지지 않고, 롤백되면 없던 일이 됨 (트랜잭션 밖이면 자체 트랜잭션)
+    // 이벤트 id 는 ChangeSequence 순번. 커밋 전까지 in-flight 로 남아서 컴팩터가 늦게 커밋되는 이벤트를 건너뛰지 않음
+    public void record(Long goalId, String attackerUid, int damage) {
+        transactionTemplate.executeWithoutResult(status -> {
+            long eventId = changeSequence.next();
+            jdbcTemplate.update(INSERT_SQL, eventId, goalId, attackerUid, damage, Timestamp.from(clock.instant()));
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        adjustPending(goalId, damage);
+                    }
+                });
+                return;
+            }
+            adjustPending(goalId, damage);
+        });
+    }
+
+    // 스냅샷에 아직 반영되지 않은 데미지 (커밋됐지만 컴팩션 전인 것)
+    public long pending(Long goalId) {
+        Long pending = unsnapshotted.get(goalId);
+        return pending != null ? pending : 0L;
+    }
+
+    // 키 단위로 원자적으로 더하고 0 이 되면 항목을 지워서, 다 접힌 goal(삭제된 goal 포함)이 맵에 남지 않게 함
+    // 카운터에 없던 데미지를 빼는 경우(재기동 전에 기록된 삭제된 goal 의 이벤트 등)는 0 에서 멈춤
+    void adjustPending(Long goalId, long delta) {
+        if (delta > 0) {
+            unsnapshotted.merge(goalId, delta, Long::sum);
+        } else if (delta < 0) {
+            unsnapshotted.computeIfPresent(goalId, (id, pending) -> pending + delta > 0 ? pending + delta : null);
+        }
+    }
+
+    int trackedGoals() {
+        return unsnapshotted.size();
+    }
+}
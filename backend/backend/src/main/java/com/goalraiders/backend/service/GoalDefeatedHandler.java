@@ -0,0 +1,88 @@
+package com.goalraiders.backend.service;
+
+import com.goalraiders.backend.Difficulty;
+import com.goalraiders.backend.Goal;
+import com.goalraiders.backend.GoalDamageEventRepository;
+import com.goalraiders.backend.GoalRepository;
+import com.goalraiders.backend.OutboxEvent;
+import com.goalraiders.backend.OutboxEventType;
+import com.goalraiders.backend.dto.GoalHpEventDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+// 처치된 goal 을 공격한 사용자 전원에게 보스 XP 지급 이벤트를 만들고, 소유자와 참가자에게 처치 SSE 이벤트를 보냄
+@Component
+public class GoalDefeatedHandler implements OutboxHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(GoalDefeatedHandler.class);
+
+    @Autowired
+    private GoalRepository goalRepository;
+
+    @Autowired
+    private GoalDamageEventRepository goalDamageEventRepository;
+
+    @Autowired
+    private GameRuleBook gameRuleBook;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private LiveEventHub liveEventHub;
+
+    @Override
+    public OutboxEventType type() {
+        return OutboxEventType.GOAL_DEFEATED;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        Long goalId = event.getAggregateId();
+        Optional<Goal> goal = goalRepository.findById(goalId);
+        if (goal.isEmpty()) {
+            return; // 처치 직후 삭제된 goal
+        }
+        List<String> attackers = rewardAttackers(goalId, goal.get().getStatus());
+        notifyDefeated(goal.get(), attackers);
+    }
+
+    private List<String> rewardAttackers(Long goalId, String status) {
+        Difficulty difficulty = Difficulty.fromLabel(status);
+        if (difficulty == null) {
+            // API 검증 이전에 저장된 값. 재시도해도 같으므로 예외 대신 건너뜀
+            logger.warn("Goal {} has unknown difficulty '{}', no XP awarded", goalId, status);
+            return List.of();
+        }
+        int xpReward = gameRuleBook.current().xpReward(difficulty);
+        if (xpReward <= 0) {
+            return List.of();
+        }
+        List<String> attackers = goalDamageEventRepository.findAttackerUids(goalId);
+        for (String firebaseUid : attackers) {
+            outboxService.enqueue(OutboxEventType.XP_AWARD, goalId, firebaseUid, xpReward);
+        }
+        logger.info("Goal {} defeated, rewarding {} attackers", goalId, attackers.size());
+        return attackers;
+    }
+
+    // 소유자와 공격 참가자에게 처치 이벤트 (이 트랜잭션이 커밋된 뒤 전송)
+    private void notifyDefeated(Goal goal, List<String> attackers) {
+        Set<String> recipients = new LinkedHashSet<>();
+        if (goal.getUser() != null) {
+            recipients.add(goal.getUser().getFirebaseUid());
+        }
+        recipients.addAll(attackers);
+        GoalHpEventDto defeated = new GoalHpEventDto(goal.getId(), 0, goal.getMaxHp(), true);
+        for (String firebaseUid : recipients) {
+            liveEventHub.publish(firebaseUid, "goal-defeated", () -> defeated);
+        }
+    }
+}
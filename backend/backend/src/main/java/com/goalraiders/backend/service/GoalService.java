@@ -1,19 +1,30 @@
 package com.goalraiders.backend.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goalraiders.backend.Difficulty;
 import com.goalraiders.backend.Goal;
 import com.goalraiders.backend.GoalRepository;
-import com.goalraiders.backend.User;
-import com.goalraiders.backend.config.GameConfigProperties;
+import com.goalraiders.backend.SyncEntityType;
+import com.goalraiders.backend.SyncTombstone;
+import com.goalraiders.backend.SyncTombstoneRepository;
+import com.goalraiders.backend.dto.CursorPage;
 import com.goalraiders.backend.dto.GoalDto;
+import com.goalraiders.backend.dto.GoalHpEventDto;
+import com.goalraiders.backend.dto.GoalTreeDto;
 import com.goalraiders.backend.dto.mapper.GoalMapper;
 import com.goalraiders.backend.exception.InvalidInputException;
 import com.goalraiders.backend.exception.ResourceNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class GoalService {
@@ -25,62 +36,110 @@ public class GoalService {
     private UserService userService;
 
     @Autowired
-    private GameConfigProperties gameConfigProperties;
+    private GameRuleBook gameRuleBook;
 
     @Autowired
     private GoalMapper goalMapper;
 
+    @Autowired
+    private GoalDamageLog goalDamageLog;
+
+    @Autowired
+    private UserDataVersions userDataVersions;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ChangeSequence changeSequence;
+
+    @Autowired
+    private SyncTombstoneRepository syncTombstoneRepository;
+
+    @Autowired
+    private LiveEventHub liveEventHub;
+
     public List<GoalDto> getAllGoalsForCurrentUser() {
-        User currentUser = userService.getCurrentUserEntity();
-        List<Goal> goals = goalRepository.findByUserFirebaseUid(currentUser.getFirebaseUid());
-        return goals.stream().map(goalMapper::toDto).collect(Collectors.toList());
+        CurrentUser currentUser = userService.getCurrentUser();
+        List<GoalDto> goals = goalRepository.findGoalDtosByUserFirebaseUid(currentUser.getFirebaseUid());
+        goals.forEach(this::applyPendingDamage);
+        return goals;
+    }
+
+    // 전체 목록을 List 로 만들지 않고 커서에서 읽는 대로 out 에 JSON 배열로 씀 (미반영 데미지는 행마다 적용)
+    @Transactional(readOnly = true)
+    public int writeAllGoals(String firebaseUid, OutputStream out) throws IOException {
+        try (Stream<GoalDto> rows = goalRepository.streamGoalDtosByUserFirebaseUid(firebaseUid)) {
+            return JsonArrayStreams.write(objectMapper, GoalDto.class, rows, this::applyPendingDamage, out);
+        }
+    }
+
+    public CursorPage<GoalDto> getGoalsPageForCurrentUser(String cursor, Integer limit) {
+        CurrentUser currentUser = userService.getCurrentUser();
+        int pageSize = PageCursor.limit(limit);
+        List<GoalDto> rows = goalRepository.findGoalDtoPage(currentUser.getId(), PageCursor.afterId(cursor), PageRequest.of(0, pageSize + 1));
+        rows.forEach(this::applyPendingDamage);
+        return PageCursor.toPage(rows, pageSize, GoalDto::getId);
     }
 
     public GoalDto getGoalById(Long id) {
-        User currentUser = userService.getCurrentUserEntity();
-        Goal goal = goalRepository.findById(id)
+        CurrentUser currentUser = userService.getCurrentUser();
+        Goal goal = goalRepository.findDetailByIdAndUserId(id, currentUser.getId())
                 .orElseThrow(() -> new ResourceNotFoundException("Goal not found with id " + id));
-        if (!goal.getUser().getFirebaseUid().equals(currentUser.getFirebaseUid())) {
+        return applyPendingDamage(goalMapper.toDto(goal));
+    }
+
+    public GoalTreeDto getGoalTree(Long id, Integer depth) {
+        CurrentUser currentUser = userService.getCurrentUser();
+        int maxDepth = GoalTreeAssembler.maxDepth(depth);
+        GoalTreeDto tree = GoalTreeAssembler.assemble(
+                goalRepository.findSubtreeRows(id, currentUser.getId(), maxDepth), currentUser.getFirebaseUid(), goalDamageLog::pending);
+        if (tree == null) {
             throw new ResourceNotFoundException("Goal not found with id " + id);
         }
-        return goalMapper.toDto(goal);
+        return tree;
     }
 
+    @Transactional
     public GoalDto createGoal(GoalDto goalDto) {
-        User currentUser = userService.getCurrentUserEntity();
+        Difficulty difficulty = Difficulty.parse(goalDto.getStatus());
+        goalDto.setStatus(difficulty.label());
+        CurrentUser currentUser = userService.getCurrentUser();
         Goal goal = goalMapper.toEntity(goalDto);
-        goal.setUser(currentUser);
+        goal.setUser(userService.getCurrentUserEntity());
 
-        int finalMaxHp = goalDto.getMaxHp() > 0 ? goalDto.getMaxHp() : gameConfigProperties.getBossHpMap().getOrDefault(goalDto.getStatus(), 100);
+        int finalMaxHp = goalDto.getMaxHp() > 0 ? goalDto.getMaxHp() : gameRuleBook.current().bossHp(difficulty);
         goal.setMaxHp(finalMaxHp);
         goal.setCurrentHp(finalMaxHp);
 
         if (goalDto.getParentGoalId() != null) {
-            Optional<Goal> parentGoal = goalRepository.findById(Long.parseLong(goalDto.getParentGoalId()));
-            if (parentGoal.isEmpty() || !parentGoal.get().getUser().getFirebaseUid().equals(currentUser.getFirebaseUid())) {
+            Optional<Goal> parentGoal = goalRepository.findByIdAndUserId(Long.parseLong(goalDto.getParentGoalId()), currentUser.getId());
+            if (parentGoal.isEmpty()) {
                 throw new InvalidInputException("Invalid parent goal id: " + goalDto.getParentGoalId());
             }
             goal.setParentGoal(parentGoal.get());
         }
 
+        goal.setChangeSeq(changeSequence.next());
         Goal savedGoal = goalRepository.save(goal);
+        userDataVersions.bump(currentUser.getFirebaseUid());
         return goalMapper.toDto(savedGoal);
     }
 
+    @Transactional
     public GoalDto updateGoal(Long id, GoalDto goalDto) {
-        User currentUser = userService.getCurrentUserEntity();
-        Goal goalToUpdate = goalRepository.findById(id)
+        goalDto.setStatus(Difficulty.parse(goalDto.getStatus()).label());
+        CurrentUser currentUser = userService.getCurrentUser();
+        Goal goalToUpdate = goalRepository.findDetailByIdAndUserId(id, currentUser.getId())
                 .orElseThrow(() -> new ResourceNotFoundException("Goal not found with id " + id));
 
-        if (!goalToUpdate.getUser().getId().equals(currentUser.getId())) {
-            throw new ResourceNotFoundException("Goal not found with id " + id);
-        }
-
+        int snapshotHp = goalToUpdate.getCurrentHp();
         goalMapper.updateGoalFromDto(goalDto, goalToUpdate); // Update existing entity
+        goalToUpdate.setCurrentHp(snapshotHp); // HP 는 데미지 이벤트로만 바뀜 (클라이언트가 보낸 값으로 스냅샷을 덮어쓰지 않음)
 
         if (goalDto.getParentGoalId() != null) {
-            Optional<Goal> parentGoal = goalRepository.findById(Long.parseLong(goalDto.getParentGoalId()));
-            if (parentGoal.isEmpty() || !parentGoal.get().getUser().getFirebaseUid().equals(currentUser.getFirebaseUid())) {
+            Optional<Goal> parentGoal = goalRepository.findByIdAndUserId(Long.parseLong(goalDto.getParentGoalId()), currentUser.getId());
+            if (parentGoal.isEmpty()) {
                  throw new InvalidInputException("Invalid parent goal id: " + goalDto.getParentGoalId());
             }
             goalToUpdate.setParentGoal(parentGoal.get());
@@ -88,36 +147,71 @@ public class GoalService {
             goalToUpdate.setParentGoal(null);
         }
 
+        goalToUpdate.setChangeSeq(changeSequence.next());
         Goal updatedGoal = goalRepository.save(goalToUpdate);
-        return goalMapper.toDto(updatedGoal);
+        userDataVersions.bump(currentUser.getFirebaseUid());
+        return applyPendingDamage(goalMapper.toDto(updatedGoal));
     }
 
+    @Transactional
     public void deleteGoal(Long id) {
-        User currentUser = userService.getCurrentUserEntity();
-        Goal goal = goalRepository.findById(id)
+        CurrentUser currentUser = userService.getCurrentUser();
+        Goal goal = goalRepository.findDetailByIdAndUserId(id, currentUser.getId())
                 .orElseThrow(() -> new ResourceNotFoundException("Goal not found with id " + id));
 
-        if (!goal.getUser().getFirebaseUid().equals(currentUser.getFirebaseUid())) {
-            throw new ResourceNotFoundException("Goal not found with id " + id);
-        }
-
+        // 하위 goal 도 cascade 로 함께 삭제되므로 서브트리 전체의 삭제 기록을 같은 트랜잭션에 남김
+        long changeSeq = changeSequence.next();
+        List<SyncTombstone> tombstones = new ArrayList<>();
+        collectTombstones(goal, currentUser.getId(), changeSeq, tombstones);
         goalRepository.delete(goal);
+        syncTombstoneRepository.saveAll(tombstones);
+        userDataVersions.bump(currentUser.getFirebaseUid());
+    }
+
+    private static void collectTombstones(Goal goal, Long userId, long changeSeq, List<SyncTombstone> tombstones) {
+        SyncTombstone tombstone = new SyncTombstone();
+        tombstone.setUserId(userId);
+        tombstone.setEntityType(SyncEntityType.GOAL);
+        tombstone.setEntityId(goal.getId());
+        tombstone.setChangeSeq(changeSeq);
+        tombstones.add(tombstone);
+        for (Goal subGoal : goal.getSubGoals()) {
+            collectTombstones(subGoal, userId, changeSeq, tombstones);
+        }
     }
 
     public GoalDto applyDamageToGoal(Long goalId, String difficulty) {
-        User currentUser = userService.getCurrentUserEntity();
-        Goal goal = goalRepository.findById(goalId)
+        Difficulty attackDifficulty = Difficulty.parse(difficulty);
+        CurrentUser currentUser = userService.getCurrentUser();
+        Goal goal = goalRepository.findDetailByIdAndUserId(goalId, currentUser.getId())
                 .orElseThrow(() -> new ResourceNotFoundException("Goal not found with id " + goalId));
 
-        if (!goal.getUser().getFirebaseUid().equals(currentUser.getFirebaseUid())) {
-            throw new ResourceNotFoundException("Goal not found with id " + goalId);
+        int damage = gameRuleBook.current().damage(attackDifficulty);
+        dealDamage(goal, currentUser, damage);
+        userDataVersions.bump(currentUser.getFirebaseUid());
+
+        return applyPendingDamage(goalMapper.toDto(goal));
+    }
+
+    // 데미지는 goal 행을 갱신하지 않고 이벤트로 기록. 스냅샷 반영과 처치/XP 지급은 GoalSnapshotCompactor 가 수행
+    public void dealDamage(Goal goal, CurrentUser attacker, int damage) {
+        if (damage > 0) {
+            goalDamageLog.record(goal.getId(), attacker.getFirebaseUid(), damage);
+            // 개인 goal 이므로 공격자가 곧 소유자. 커밋 후(위 기록이 pending 에 반영된 뒤) HP 를 계산해서 보냄
+            Long goalId = goal.getId();
+            int snapshotHp = goal.getCurrentHp();
+            int maxHp = goal.getMaxHp();
+            liveEventHub.publish(attacker.getFirebaseUid(), "goal-hp", () -> hpEvent(goalId, snapshotHp, maxHp));
         }
+    }
 
-        int damage = gameConfigProperties.getDifficultyDamageMap().getOrDefault(difficulty, 0);
-        int newHp = goal.getCurrentHp() - damage;
-        goal.setCurrentHp(Math.max(0, newHp));
+    GoalHpEventDto hpEvent(Long goalId, int snapshotHp, int maxHp) {
+        return new GoalHpEventDto(goalId, (int) Math.max(0, snapshotHp - goalDamageLog.pending(goalId)), maxHp, false);
+    }
 
-        Goal updatedGoal = goalRepository.save(goal);
-        return goalMapper.toDto(updatedGoal);
+    // 스냅샷 HP 에서 아직 반영되지 않은 데미지를 뺀 현재 HP
+    GoalDto applyPendingDamage(GoalDto goalDto) {
+        goalDto.setCurrentHp((int) Math.max(0, goalDto.getCurrentHp() - goalDamageLog.pending(goalDto.getId())));
+        return goalDto;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,131 @@
+package com.goalraiders.backend.service;
+
+import com.goalraiders.backend.GoalDamageEventRepository;
+import com.goalraiders.backend.GoalRepository;
+import com.goalraiders.backend.OutboxEventType;
+import com.goalraiders.backend.dto.GoalDamageTotal;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// goal_damage_events 를 goals.current_hp 스냅샷으로 접어 넣음. 처치 판정도 여기서 한 번만 하고, 보상은 outbox 로 넘김
+@Component
+public class GoalSnapshotCompactor {
+
+    private static final Logger logger = LoggerFactory.getLogger(GoalSnapshotCompactor.class);
+
+    private final GoalRepository goalRepository;
+    private final GoalDamageEventRepository goalDamageEventRepository;
+    private final OutboxService outboxService;
+    private final GoalDamageLog goalDamageLog;
+    private final ChangeSequence changeSequence;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    // 이 id 까지의 이벤트는 모든 goal 스냅샷에 반영됨
+    private volatile long watermark;
+
+    @Autowired
+    public GoalSnapshotCompactor(GoalRepository goalRepository, GoalDamageEventRepository goalDamageEventRepository,
+                                 OutboxService outboxService, GoalDamageLog goalDamageLog, ChangeSequence changeSequence,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${game.damage-log.compact-batch-size:10000}") int batchSize) {
+        this.goalRepository = goalRepository;
+        this.goalDamageEventRepository = goalDamageEventRepository;
+        this.outboxService = outboxService;
+        this.goalDamageLog = goalDamageLog;
+        this.changeSequence = changeSequence;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @PostConstruct
+    void init() {
+        Long lastSnapshotEventId = goalRepository.findMaxSnapshotEventId();
+        watermark = lastSnapshotEventId != null ? lastSnapshotEventId : 0L;
+        for (GoalDamageTotal total : goalDamageEventRepository.sumUnsnapshottedDamageByGoal()) {
+            goalDamageLog.adjustPending(total.getGoalId(), total.getDamage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${game.damage-log.compact-interval-ms:500}")
+    public synchronized void compact() {
+        try {
+            while (compactBatch()) {
+                // 밀린 이벤트가 batchSize 보다 많으면 따라잡을 때까지 반복
+            }
+        } catch (RuntimeException e) {
+            // 워터마크를 올리지 않았으므로 다음 주기에 같은 구간부터 다시 시도
+            logger.warn("Goal snapshot compaction failed after event {}", watermark, e);
+        }
+    }
+
+    // 커밋 직전에 pending 에서 뺌. 커밋 뒤에 빼면 그 사이 새 스냅샷과 이전 pending 을 함께 읽은 요청이 데미지를 두 번 뺌
+    // 대신 커밋되기까지의 짧은 구간에는 이번 데미지가 빠진 HP 가 보임 (실제보다 낮게 보이지는 않음). 롤백되면 되돌림
+    private void releasePending(List<GoalDamageTotal> totals) {
+        for (GoalDamageTotal total : totals) {
+            goalDamageLog.adjustPending(total.getGoalId(), -total.getDamage());
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        for (GoalDamageTotal total : totals) {
+                            goalDamageLog.adjustPending(total.getGoalId(), total.getDamage());
+                        }
+                    }
+                }
+            });
+        }
+    }
+
+    long watermark() {
+        return watermark;
+    }
+
+    private boolean compactBatch() {
+        // 발급됐지만 아직 커밋되지 않은 이벤트 id 아래까지만. 나중에 커밋되는 작은 id 를 워터마크가 지나치지 않도록 먼저 읽음
+        long committed = changeSequence.watermark();
+        Long maxEventId = goalDamageEventRepository.findMaxId();
+        if (maxEventId == null) {
+            return false;
+        }
+        long limit = Math.min(maxEventId, committed);
+        if (limit <= watermark) {
+            return false;
+        }
+        long afterId = watermark;
+        Long batchEnd = goalDamageEventRepository.findIdAtOffset(afterId, limit, batchSize - 1);
+        // 남은 이벤트가 batchSize 보다 적으면 null. 구간 밖 값은 믿지 않음 (워터마크가 제자리면 compact() 가 끝나지 않음)
+        long upTo = batchEnd != null && batchEnd > afterId && batchEnd < limit ? batchEnd : limit;
+
+        transactionTemplate.executeWithoutResult(status -> {
+            long changeSeq = changeSequence.next();
+            List<GoalDamageTotal> totals = goalDamageEventRepository.sumDamageByGoal(afterId, upTo);
+            for (GoalDamageTotal total : totals) {
+                int damage = (int) Math.min(total.getDamage(), Integer.MAX_VALUE);
+                // snapshot_event_id 조건으로 이미 반영된 구간은 다시 빼지 않음. 삭제된 goal 은 0 건이지만 pending 은 아래에서 함께 해제
+                if (goalRepository.applySnapshot(total.getGoalId(), damage, upTo, changeSeq) == 1
+                        && goalRepository.markDefeated(total.getGoalId()) == 1) {
+                    // 처치 전환과 같은 트랜잭션에 기록. 참가자 조회와 XP 지급은 OutboxDispatcher 가 컴팩션 밖에서 처리
+                    outboxService.enqueue(OutboxEventType.GOAL_DEFEATED, total.getGoalId(), null, 0);
+                }
+            }
+            releasePending(totals);
+        });
+
+        watermark = upTo;
+        return upTo < limit;
+    }
+}
@@ -0,0 +1,111 @@
+package com.goalraiders.backend.service;
+
+import com.goalraiders.backend.dto.GoalTreeDto;
+import com.goalraiders.backend.dto.GoalTreeRow;
+import com.goalraiders.backend.dto.TaskDto;
+import com.goalraiders.backend.exception.InvalidInputException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+// 재귀 쿼리 결과(평평한 행 목록)를 트리로 조립. 행 수에 비례하는 O(n)
+final class GoalTreeAssembler {
+
+    static final int DEFAULT_MAX_DEPTH = 16;
+    static final int MAX_DEPTH_LIMIT = 64;
+
+    private GoalTreeAssembler() {
+    }
+
+    static int maxDepth(Integer requested) {
+        if (requested == null) {
+            return DEFAULT_MAX_DEPTH;
+        }
+        if (requested < 0 || requested > MAX_DEPTH_LIMIT) {
+            throw new InvalidInputException("Depth must be between 0 and " + MAX_DEPTH_LIMIT);
+        }
+        return requested;
+    }
+
+    // rows 의 첫 depth 0 행이 루트. 결과가 없으면 null
+    // pendingDamage: goal id 별 스냅샷에 아직 반영되지 않은 데미지
+    static GoalTreeDto assemble(List<GoalTreeRow> rows, String firebaseUid, ToLongFunction<Long> pendingDamage) {
+        Map<Long, GoalTreeDto> nodes = new HashMap<>(rows.size() * 2);
+        List<GoalTreeDto> order = new ArrayList<>();
+        GoalTreeDto root = null;
+
+        for (GoalTreeRow row : rows) {
+            GoalTreeDto node = nodes.get(row.getId());
+            if (node == null) {
+                node = toNode(row, pendingDamage);
+                nodes.put(node.getId(), node);
+                order.add(node);
+                if (node.getDepth() == 0) {
+                    root = node;
+                }
+            } else if (node.getDepth() != row.getDepth()) {
+                // parent_goal_id 순환이 있으면 같은 goal 이 더 깊은 depth 로 다시 나오므로 무시
+                continue;
+            }
+            if (row.getTaskId() != null) {
+                node.getTasks().add(toTask(row, firebaseUid));
+            }
+        }
+        if (root == null) {
+            return null;
+        }
+
+        for (GoalTreeDto node : order) {
+            if (node.getDepth() > 0) {
+                GoalTreeDto parent = nodes.get(Long.parseLong(node.getParentGoalId()));
+                if (parent != null) {
+                    parent.getSubGoals().add(node);
+                }
+            }
+        }
+
+        // 루트부터 너비 우선으로 나열한 뒤 역순으로 부모에 HP 를 누적 (재귀 없이 깊은 트리도 처리)
+        List<GoalTreeDto> breadthFirst = new ArrayList<>(order.size());
+        breadthFirst.add(root);
+        for (int i = 0; i < breadthFirst.size(); i++) {
+            breadthFirst.addAll(breadthFirst.get(i).getSubGoals());
+        }
+        for (int i = breadthFirst.size() - 1; i >= 0; i--) {
+            GoalTreeDto node = breadthFirst.get(i);
+            node.setTotalMaxHp(node.getTotalMaxHp() + node.getMaxHp());
+            node.setTotalCurrentHp(node.getTotalCurrentHp() + node.getCurrentHp());
+            if (node.getDepth() > 0) {
+                GoalTreeDto parent = nodes.get(Long.parseLong(node.getParentGoalId()));
+                parent.setTotalMaxHp(parent.getTotalMaxHp() + node.getTotalMaxHp());
+                parent.setTotalCurrentHp(parent.getTotalCurrentHp() + node.getTotalCurrentHp());
+            }
+        }
+        return root;
+    }
+
+    private static GoalTreeDto toNode(GoalTreeRow row, ToLongFunction<Long> pendingDamage) {
+        GoalTreeDto node = new GoalTreeDto();
+        node.setId(row.getId());
+        node.setTitle(row.getTitle());
+        node.setDescription(row.getDescription());
+        node.setStatus(row.getStatus());
+        node.setParentGoalId(row.getParentGoalId() != null ? row.getParentGoalId().toString() : null);
+        node.setDueDate(row.getDueDate());
+        node.setMaxHp(row.getMaxHp() != null ? row.getMaxHp() : 0);
+        int snapshotHp = row.getCurrentHp() != null ? row.getCurrentHp() : 0;
+        node.setCurrentHp((int) Math.max(0, snapshotHp - pendingDamage.applyAsLong(row.getId())));
+        node.setDefeated(Boolean.TRUE.equals(row.getDefeated()));
+        node.setDepth(row.getDepth());
+        return node;
+    }
+
+    private static TaskDto toTask(GoalTreeRow row, String firebaseUid) {
+        return new TaskDto(row.getTaskId(), row.getTaskTitle(), Boolean.TRUE.equals(row.getTaskCompleted()),
+                row.getId(), row.getTaskParentTaskId(), firebaseUid,
+                row.getTaskRecurrenceDays() != null ? row.getTaskRecurrenceDays() : 0,
+                row.getTaskLastCompleted(), row.getTaskDifficulty(), row.getTaskNextDueDate());
+    }
+}
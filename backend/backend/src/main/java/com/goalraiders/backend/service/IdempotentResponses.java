@@ -0,0 +1,206 @@
+package com.goalraiders.backend.service;
+
+import com.goalraiders.backend.exception.InvalidInputException;
+import com.goalraiders.backend.exception.RequestInProgressException;
+import com.goalraiders.backend.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+// Idempotency-Key 헤더가 붙은 게임 액션 요청의 첫 응답을 (uid, key) 로 저장해 두고 재시도에는 다시 실행하지 않고 같은 응답을 돌려줌
+// 같은 키가 처리 중이면 wait-timeout 까지 그 결과를 기다림. LRU(max-size) + TTL 로 크기 제한, 메모리 저장이라 단일 인스턴스 기준
+@Component
+public class IdempotentResponses {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final long waitTimeoutMillis;
+    private final Clock clock;
+
+    private final Counter executedCounter;
+    private final Counter replayedCounter;
+    private final Counter waitedCounter;
+    private final Counter evictionCounter;
+
+    // 접근 순서(LRU) 맵. 처리 중인 항목은 밀어내면 같은 키가 두 번 실행되므로 evictCompleted 에서 응답이 저장된 항목만 제거
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    @Autowired
+    public IdempotentResponses(@Value("${idempotency.max-size:100000}") int maxSize,
+                               @Value("${idempotency.ttl:PT24H}") Duration ttl,
+                               @Value("${idempotency.wait-timeout:PT10S}") Duration waitTimeout,
+                               MeterRegistry meterRegistry) {
+        this(maxSize, ttl, waitTimeout, Clock.systemUTC(), meterRegistry);
+    }
+
+    IdempotentResponses(int maxSize, Duration ttl, Duration waitTimeout, Clock clock, MeterRegistry meterRegistry) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+        this.waitTimeoutMillis = waitTimeout.toMillis();
+        this.clock = clock;
+        this.executedCounter = meterRegistry.counter("idempotency.requests", "result", "executed");
+        this.replayedCounter = meterRegistry.counter("idempotency.requests", "result", "replayed");
+        this.waitedCounter = meterRegistry.counter("idempotency.requests", "result", "waited");
+        this.evictionCounter = meterRegistry.counter("idempotency.evictions");
+        Gauge.builder("idempotency.cache.size", this, IdempotentResponses::size).register(meterRegistry);
+    }
+
+    // 키가 없으면 그냥 실행. 같은 키를 다른 요청(경로/파라미터)에 다시 쓰면 400
+    // 실패한 실행은 저장하지 않으므로 재시도하면 다시 실행됨 (이미 기다리던 요청은 같은 예외를 받음)
+    // 처리 중인 같은 키를 wait-timeout 안에 못 받으면 409, 처리 중인 항목만으로 max-size 가 차 있으면 새 키는 503
+    @SuppressWarnings("unchecked")
+    public <T> ResponseEntity<T> execute(String firebaseUid, String idempotencyKey, String fingerprint,
+                                         Supplier<ResponseEntity<T>> action) {
+        if (idempotencyKey == null) {
+            return action.get();
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new InvalidInputException(HEADER + " must be 1-" + MAX_KEY_LENGTH + " characters");
+        }
+
+        String cacheKey = firebaseUid + ":" + idempotencyKey;
+        Entry entry;
+        boolean owner = false;
+        synchronized (entries) {
+            entry = entries.get(cacheKey);
+            if (entry != null && entry.isExpired(clock.millis())) {
+                entries.remove(cacheKey);
+                entry = null;
+            }
+            if (entry == null) {
+                if (entries.size() >= maxSize && !evictCompleted(entries.size() - maxSize + 1)) {
+                    throw new ServiceBusyException("Too many requests in progress, please retry");
+                }
+                entry = new Entry(fingerprint);
+                entries.put(cacheKey, entry);
+                owner = true;
+            }
+        }
+        if (!entry.fingerprint.equals(fingerprint)) {
+            throw new InvalidInputException(HEADER + " was already used for a different request");
+        }
+
+        if (owner) {
+            executedCounter.increment();
+            return (ResponseEntity<T>) run(cacheKey, entry, action);
+        }
+        if (entry.response.isDone()) {
+            replayedCounter.increment();
+        } else {
+            waitedCounter.increment();
+        }
+        try {
+            // 공유 future 에 직접 orTimeout 을 걸면 다른 대기자와 실행 중인 요청의 결과까지 실패로 끝나므로 복사본에 건다
+            return (ResponseEntity<T>) replayed(entry.response.copy().orTimeout(waitTimeoutMillis, TimeUnit.MILLISECONDS).join());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                throw new RequestInProgressException("A request with this " + HEADER + " is still in progress");
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private ResponseEntity<?> run(String cacheKey, Entry entry, Supplier<? extends ResponseEntity<?>> action) {
+        ResponseEntity<?> response;
+        try {
+            response = action.get();
+        } catch (RuntimeException | Error e) {
+            synchronized (entries) {
+                entries.remove(cacheKey, entry);
+            }
+            entry.response.completeExceptionally(e);
+            throw e;
+        }
+        entry.expiresAtMillis = clock.millis() + ttlMillis;
+        entry.response.complete(response);
+        return response;
+    }
+
+    // 오래 안 쓰인 순서로 응답이 저장된 항목을 count 개 제거 (처리 중인 항목은 건너뜀). entries 잠금 안에서 호출
+    // 처리 중인 항목은 진행 중인 요청 수만큼이라 건너뛰는 비용은 작음
+    private boolean evictCompleted(int count) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (count > 0 && iterator.hasNext()) {
+            if (iterator.next().response.isDone()) {
+                iterator.remove();
+                evictionCounter.increment();
+                count--;
+            }
+        }
+        return count == 0;
+    }
+
+    // LRU 로 밀려나지 않고 남아 있는 만료 항목 정리
+    @Scheduled(fixedDelayString = "${idempotency.sweep-interval-ms:60000}")
+    public void evictExpired() {
+        long now = clock.millis();
+        synchronized (entries) {
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().isExpired(now)) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    // 같은 요청 판별용: 메서드 + 경로 + 쿼리 (uid 는 캐시 키에 이미 포함)
+    public static String fingerprint(HttpServletRequest request) {
+        String query = request.getQueryString();
+        return request.getMethod() + " " + request.getRequestURI() + (query != null ? "?" + query : "");
+    }
+
+    private static ResponseEntity<?> replayed(ResponseEntity<?> response) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.addAll(response.getHeaders());
+        headers.set(REPLAYED_HEADER, "true");
+        return new ResponseEntity<>(response.getBody(), headers, response.getStatusCode());
+    }
+
+    private static final class Entry {
+        private final String fingerprint;
+        private final CompletableFuture<ResponseEntity<?>> response = new CompletableFuture<>();
+        // 응답이 저장된 시점부터 TTL. 처리 중인 항목은 만료되지 않음
+        private volatile long expiresAtMillis = Long.MAX_VALUE;
+
+        private Entry(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAtMillis <= now;
+        }
+    }
+}
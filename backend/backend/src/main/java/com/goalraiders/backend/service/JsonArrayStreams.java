@@ -0,0 +1,36 @@
+package com.goalraiders.backend.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+// 행 스트림을 JSON 배열로 바로 출력. 목록을 메모리에 모으지 않으므로 요청당 메모리는 행 수와 무관하게 생성기 버퍼 크기로 유지
+final class JsonArrayStreams {
+
+    private JsonArrayStreams() {
+    }
+
+    static <T> int write(ObjectMapper objectMapper, Class<T> type, Stream<T> rows, UnaryOperator<T> adjust, OutputStream out) throws IOException {
+        // 행마다 flush 하면 응답이 작은 청크로 쪼개지므로 끄고, 버퍼가 찰 때만 내보냄
+        ObjectWriter writer = objectMapper.writerFor(type).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        int count = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.writeStartArray();
+            Iterator<T> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, adjust.apply(iterator.next()));
+                count++;
+            }
+            generator.writeEndArray();
+        }
+        return count;
+    }
+}
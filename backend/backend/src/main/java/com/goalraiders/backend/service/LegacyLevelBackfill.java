@@ -0,0 +1,44 @@
+package com.goalraiders.backend.service;
+
+import com.goalraiders.backend.UserRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// users.experience 가 레벨 내 XP 에서 누적 XP 로 바뀌기 전에 저장된 사용자를 기동 시 한 번 옮김
+// experience = 레벨 내 XP + 그 레벨의 도달 XP. 옮긴 행은 level 컬럼을 비우므로 재기동해도 다시 더하지 않음
+@Component
+public class LegacyLevelBackfill {
+
+    private static final Logger logger = LoggerFactory.getLogger(LegacyLevelBackfill.class);
+
+    private final UserRepository userRepository;
+    private final LevelCurve levelCurve;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public LegacyLevelBackfill(UserRepository userRepository, LevelCurve levelCurve, PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.levelCurve = levelCurve;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    void backfill() {
+        Integer filled = transactionTemplate.execute(status -> {
+            int users = 0;
+            for (Integer level : userRepository.findLegacyLevelsAboveOne()) {
+                int threshold = (int) Math.min(levelCurve.thresholdFor(level), Integer.MAX_VALUE);
+                users += userRepository.backfillLegacyLevel(level, threshold);
+            }
+            return users;
+        });
+        if (filled != null && filled > 0) {
+            logger.info("Backfilled cumulative experience for {} users from their stored level", filled);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.goalraiders.backend.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+// 누적 XP → 레벨 변환표. 기동 시 레벨별 도달 XP 를 long[] 로 미리 계산해 두고 이진 탐색으로 조회
+@Component
+public class LevelCurve {
+
+    // thresholds[i] = 레벨 i+1 에 도달하는 누적 XP (thresholds[0] = 0)
+    private final long[] thresholds;
+
+    @Autowired
+    public LevelCurve(@Value("${game.level-curve.base-experience:100}") int baseExperience,
+                      @Value("${game.level-curve.growth-percent:0}") int growthPercent,
+                      @Value("${game.level-curve.max-level:100}") int maxLevel) {
+        if (baseExperience < 1 || growthPercent < 0 || maxLevel < 1) {
+            throw new IllegalArgumentException("Invalid level curve: base=" + baseExperience
+                    + ", growth=" + growthPercent + "%, maxLevel=" + maxLevel);
+        }
+        thresholds = new long[maxLevel];
+        double required = baseExperience;
+        for (int i = 1; i < maxLevel; i++) {
+            // 레벨마다 필요 XP 가 growthPercent% 씩 증가. 최소 1 이상이라 표는 순증가 (long 범위를 넘으면 최댓값으로 고정)
+            long step = Math.max(1L, Math.round(required));
+            thresholds[i] = thresholds[i - 1] > Long.MAX_VALUE - step ? Long.MAX_VALUE : thresholds[i - 1] + step;
+            required *= 1 + growthPercent / 100.0;
+        }
+    }
+
+    public int levelFor(long totalExperience) {
+        int index = Arrays.binarySearch(thresholds, Math.max(0L, totalExperience));
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    // 해당 레벨에 도달하는 누적 XP
+    public long thresholdFor(int level) {
+        return thresholds[Math.min(Math.max(level, 1), thresholds.length) - 1];
+    }
+
+    // 다음 레벨까지 필요한 XP (최대 레벨이면 0)
+    public long experienceToNextLevel(int level) {
+        if (level >= thresholds.length) {
+            return 0L;
+        }
+        return thresholds[level] - thresholdFor(level);
+    }
+
+    public int maxLevel() {
+        return thresholds.length;
+    }
+}
@@ -0,0 +1,290 @@
+package com.goalraiders.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// 사용자별 SSE 연결에 goal HP / 처치 / XP 이벤트를 보냄. 발행하는 쪽은 연결별 큐에 넣기만 하고 전송은 sender 풀이 담당
+// 연결마다 큐 크기가 고정이라 느린 클라이언트는 큐가 차는 순간 끊고(클라이언트가 재연결 후 목록/동기화로 따라잡음) 메모리는 연결 수에 비례
+// 전송(소켓 쓰기)이 send-timeout 을 넘긴 연결도 끊고, 그 쓰기에 묶인 sender 스레드만큼 풀을 늘려서 다른 연결의 전송이 밀리지 않게 함
+@Component
+public class LiveEventHub {
+
+    private static final Logger logger = LoggerFactory.getLogger(LiveEventHub.class);
+
+    private static final long RECONNECT_MILLIS = 3000;
+
+    private final ConcurrentHashMap<String, List<Connection>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final Executor senders;
+    private final ExecutorService ownedSenders;
+    private final ThreadPoolExecutor resizableSenders;
+    private final int senderThreads;
+    private final int maxSenderThreads;
+    private final int bufferSize;
+    private final int maxConnectionsPerUser;
+    private final long timeoutMillis;
+    private final long sendTimeoutNanos;
+    private final Counter evictedCounter;
+    // 쓰기가 send-timeout 을 넘겨 끊었지만 아직 쓰기에서 돌아오지 않은 연결 (그만큼 sender 스레드가 묶여 있음)
+    private final Set<Connection> stalledSends = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public LiveEventHub(MeterRegistry meterRegistry,
+                        @Value("${live-events.buffer-size:32}") int bufferSize,
+                        @Value("${live-events.max-connections-per-user:5}") int maxConnectionsPerUser,
+                        @Value("${live-events.timeout:PT30M}") Duration timeout,
+                        @Value("${live-events.send-timeout:PT5S}") Duration sendTimeout,
+                        @Value("${live-events.sender-threads:4}") int senderThreads,
+                        @Value("${live-events.max-sender-threads:64}") int maxSenderThreads) {
+        this(meterRegistry, bufferSize, maxConnectionsPerUser, timeout, sendTimeout, senderExecutor(senderThreads), maxSenderThreads);
+    }
+
+    LiveEventHub(MeterRegistry meterRegistry, int bufferSize, int maxConnectionsPerUser, Duration timeout, Duration sendTimeout,
+                 Executor senders, int maxSenderThreads) {
+        this.bufferSize = bufferSize;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        this.timeoutMillis = timeout.toMillis();
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        this.senders = senders;
+        this.ownedSenders = senders instanceof ExecutorService executorService ? executorService : null;
+        this.resizableSenders = senders instanceof ThreadPoolExecutor pool ? pool : null;
+        this.senderThreads = resizableSenders != null ? resizableSenders.getCorePoolSize() : 0;
+        this.maxSenderThreads = Math.max(maxSenderThreads, senderThreads);
+        this.evictedCounter = meterRegistry.counter("live.events.evicted");
+        Gauge.builder("live.events.connections", connectionCount, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("live.events.stalled.sends", stalledSends, Set::size).register(meterRegistry);
+    }
+
+    // sender 작업은 연결당 최대 하나만 대기하므로 큐 길이는 연결 수를 넘지 않음
+    private static ExecutorService senderExecutor(int threads) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "live-events-sender-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public SseEmitter subscribe(String firebaseUid) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        subscribe(firebaseUid, emitter);
+        return emitter;
+    }
+
+    void subscribe(String firebaseUid, SseEmitter emitter) {
+        Connection connection = new Connection(firebaseUid, emitter, bufferSize);
+        // 마지막 연결이 빠지며 목록이 지워지는 것과 겹치지 않도록 추가/제거 모두 키 단위 compute 안에서
+        List<Connection> userConnections = connections.compute(firebaseUid, (uid, list) -> {
+            List<Connection> target = list != null ? list : new CopyOnWriteArrayList<>();
+            target.add(connection);
+            return target;
+        });
+        connectionCount.incrementAndGet();
+        // 같은 사용자가 탭/기기를 계속 열어도 연결 수는 상한까지만 (가장 오래된 연결부터 정리)
+        while (userConnections.size() > maxConnectionsPerUser) {
+            evict(userConnections.get(0), "too many connections");
+        }
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> remove(connection));
+        emitter.onError(e -> remove(connection));
+        enqueue(connection, SseEmitter.event().comment("connected").reconnectTime(RECONNECT_MILLIS));
+    }
+
+    // 트랜잭션 안이면 커밋된 뒤에 보냄. data 는 그 시점에 만들어서 커밋된 값(미반영 데미지 포함)을 담음
+    public void publish(String firebaseUid, String name, Supplier<?> data) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(firebaseUid, name, data);
+                }
+            });
+            return;
+        }
+        send(firebaseUid, name, data);
+    }
+
+    private void send(String firebaseUid, String name, Supplier<?> data) {
+        List<Connection> userConnections = connections.get(firebaseUid);
+        if (userConnections == null || userConnections.isEmpty()) {
+            return; // 구독자가 없으면 payload 도 만들지 않음
+        }
+        Object payload = data.get();
+        for (Connection connection : userConnections) {
+            enqueue(connection, SseEmitter.event().name(name).data(payload, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    // 프록시/로드밸런서의 유휴 연결 종료를 막고, 이미 끊긴 연결은 전송 실패로 정리
+    @Scheduled(fixedDelayString = "${live-events.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        for (List<Connection> userConnections : connections.values()) {
+            for (Connection connection : userConnections) {
+                enqueue(connection, SseEmitter.event().comment("heartbeat"));
+            }
+        }
+    }
+
+    // 쓰기가 send-timeout 을 넘긴 연결을 끊음. 블로킹 쓰기는 중단할 수 없으므로 스레드는 쓰기가 끝날 때까지 묶이고,
+    // 그 수만큼 풀을 키워서(max-sender-threads 까지) 뒤에 대기 중인 다른 연결의 전송을 계속 처리
+    @Scheduled(fixedDelayString = "${live-events.stall-check-interval-ms:1000}")
+    public void evictStalledSenders() {
+        long now = System.nanoTime();
+        for (List<Connection> userConnections : connections.values()) {
+            for (Connection connection : userConnections) {
+                long since = connection.sendingSince;
+                if (since != 0L && now - since > sendTimeoutNanos) {
+                    stalledSends.add(connection);
+                    evict(connection, "send timeout");
+                }
+            }
+        }
+        resizeSenders();
+    }
+
+    int connectionCount() {
+        return connectionCount.get();
+    }
+
+    private void resizeSenders() {
+        if (resizableSenders == null) {
+            return;
+        }
+        int target = Math.min(senderThreads + stalledSends.size(), maxSenderThreads);
+        synchronized (resizableSenders) {
+            // core <= max 를 유지하도록 늘릴 때는 max 먼저, 줄일 때는 core 먼저 (줄어든 스레드는 하던 전송을 마친 뒤 종료)
+            if (target > resizableSenders.getMaximumPoolSize()) {
+                resizableSenders.setMaximumPoolSize(target);
+                resizableSenders.setCorePoolSize(target);
+            } else if (target != resizableSenders.getCorePoolSize()) {
+                resizableSenders.setCorePoolSize(target);
+                resizableSenders.setMaximumPoolSize(target);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        for (List<Connection> userConnections : connections.values()) {
+            for (Connection connection : userConnections) {
+                // evict 와 같이 전송 중인 연결은 sender 가 닫음 (느린 쓰기에 종료가 묶이지 않도록)
+                if (remove(connection) && connection.draining.compareAndSet(false, true)) {
+                    connection.emitter.complete();
+                }
+            }
+        }
+        if (ownedSenders != null) {
+            ownedSenders.shutdown();
+        }
+    }
+
+    private void enqueue(Connection connection, SseEmitter.SseEventBuilder event) {
+        if (connection.closed.get()) {
+            return;
+        }
+        if (!connection.queue.offer(event)) {
+            evict(connection, "slow consumer");
+            return;
+        }
+        if (connection.draining.compareAndSet(false, true)) {
+            senders.execute(() -> drain(connection));
+        }
+    }
+
+    private void drain(Connection connection) {
+        while (true) {
+            SseEmitter.SseEventBuilder event;
+            while (!connection.closed.get() && (event = connection.queue.poll()) != null) {
+                connection.sendingSince = System.nanoTime();
+                try {
+                    connection.emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    // 클라이언트가 끊었거나 이미 완료된 연결
+                    remove(connection);
+                    return;
+                } finally {
+                    connection.sendingSince = 0L;
+                    stalledSends.remove(connection);
+                }
+            }
+            if (connection.closed.get()) {
+                // 전송 중에 밀려난 연결. emitter 의 send/complete 는 같은 잠금을 쓰므로 전송을 마친 이 스레드가 닫음
+                connection.emitter.complete();
+                return;
+            }
+            connection.draining.set(false);
+            // 플래그를 내린 사이 들어온 이벤트나 밀려남은 enqueue/evict 가 못 봤을 수 있으므로 다시 확인
+            if ((connection.queue.isEmpty() && !connection.closed.get()) || !connection.draining.compareAndSet(false, true)) {
+                return;
+            }
+        }
+    }
+
+    private void evict(Connection connection, String reason) {
+        if (remove(connection)) {
+            evictedCounter.increment();
+            logger.debug("Closing live event stream for {}: {}", connection.firebaseUid, reason);
+            // 전송 중(또는 전송 예약됨)이면 그 sender 가 닫음. 여기서 닫으면 느린 쓰기가 끝날 때까지 발행한 쪽이 잠금에서 막힘
+            if (connection.draining.compareAndSet(false, true)) {
+                connection.emitter.complete();
+            }
+        }
+    }
+
+    private boolean remove(Connection connection) {
+        if (!connection.closed.compareAndSet(false, true)) {
+            return false;
+        }
+        connections.computeIfPresent(connection.firebaseUid, (uid, list) -> {
+            list.remove(connection);
+            return list.isEmpty() ? null : list;
+        });
+        connectionCount.decrementAndGet();
+        connection.queue.clear();
+        return true;
+    }
+
+    private static final class Connection {
+        private final String firebaseUid;
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<SseEmitter.SseEventBuilder> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        // 진행 중인 쓰기의 시작 시각(System.nanoTime), 쓰는 중이 아니면 0
+        private volatile long sendingSince;
+
+        Connection(String firebaseUid, SseEmitter emitter, int bufferSize) {
+            this.firebaseUid = firebaseUid;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+}
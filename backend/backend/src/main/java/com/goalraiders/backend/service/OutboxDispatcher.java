@@ -0,0 +1,170 @@
+package com.goalraiders.backend.service;
+
+import com.goalraiders.backend.OutboxEvent;
+import com.goalraiders.backend.OutboxEventRepository;
+import com.goalraiders.backend.OutboxEventType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// outbox_events 를 배치로 읽어 크기가 고정된 워커 풀에서 처리. 이벤트마다 선점(markProcessed) + 핸들러를 한 트랜잭션으로 실행
+@Component
+public class OutboxDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final Map<OutboxEventType, OutboxHandler> handlers = new EnumMap<>(OutboxEventType.class);
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+    private final Clock clock;
+    private final int batchSize;
+    private final int maxAttempts;
+
+    private final MeterRegistry meterRegistry;
+    private final Timer lagTimer;
+    private final Counter failedCounter;
+    // 마지막으로 읽은 배치에서 가장 오래된 미처리 이벤트의 대기 시간
+    private final AtomicLong oldestPendingAgeMillis = new AtomicLong();
+
+    @Autowired
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository, List<OutboxHandler> handlers,
+                            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                            @Value("${outbox.batch-size:100}") int batchSize,
+                            @Value("${outbox.worker-threads:4}") int workerThreads,
+                            @Value("${outbox.queue-capacity:200}") int queueCapacity,
+                            @Value("${outbox.max-attempts:5}") int maxAttempts) {
+        this(outboxEventRepository, handlers, transactionManager, meterRegistry, batchSize, workerThreads, queueCapacity, maxAttempts, Clock.systemUTC());
+    }
+
+    OutboxDispatcher(OutboxEventRepository outboxEventRepository, List<OutboxHandler> handlers,
+                     PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                     int batchSize, int workerThreads, int queueCapacity, int maxAttempts, Clock clock) {
+        this.outboxEventRepository = outboxEventRepository;
+        for (OutboxHandler handler : handlers) {
+            this.handlers.put(handler.type(), handler);
+        }
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.clock = clock;
+
+        // 큐가 차면 스케줄러 스레드가 직접 실행해서 읽기 속도를 처리 속도에 맞춤
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "outbox-worker-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        this.meterRegistry = meterRegistry;
+        this.lagTimer = meterRegistry.timer("outbox.dispatch.lag");
+        this.failedCounter = meterRegistry.counter("outbox.events.failed");
+        Gauge.builder("outbox.pending.age", oldestPendingAgeMillis, AtomicLong::get)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.dispatch-interval-ms:200}")
+    public synchronized void dispatch() {
+        while (true) {
+            List<OutboxEvent> batch = outboxEventRepository.findPending(maxAttempts, PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                oldestPendingAgeMillis.set(0L);
+                return;
+            }
+            oldestPendingAgeMillis.set(Duration.between(batch.get(0).getCreatedAt(), clock.instant()).toMillis());
+
+            List<Future<Boolean>> results = new ArrayList<>(batch.size());
+            for (OutboxEvent event : batch) {
+                results.add(executor.submit(() -> process(event)));
+            }
+            int processed = 0;
+            for (Future<Boolean> result : results) {
+                if (await(result)) {
+                    processed++;
+                }
+            }
+            // 배치가 덜 찼거나 모두 실패했으면 다음 주기에 (실패 이벤트를 바로 재시도하며 돌지 않도록)
+            if (batch.size() < batchSize || processed == 0) {
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdown();
+    }
+
+    // 이벤트 한 건 처리. 실패하면 선점과 핸들러 결과가 함께 롤백되고 시도 횟수만 올림
+    boolean process(OutboxEvent event) {
+        try {
+            Boolean handled = transactionTemplate.execute(status -> {
+                if (outboxEventRepository.markProcessed(event.getId(), clock.instant()) == 0) {
+                    return false; // 다른 워커/노드가 이미 처리
+                }
+                handler(event.getType()).handle(event);
+                return true;
+            });
+            if (Boolean.TRUE.equals(handled)) {
+                lagTimer.record(Duration.between(event.getCreatedAt(), clock.instant()));
+                meterRegistry.counter("outbox.events.processed", "type", event.getType().name()).increment();
+            }
+            return Boolean.TRUE.equals(handled);
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            transactionTemplate.executeWithoutResult(status -> outboxEventRepository.incrementAttempts(event.getId()));
+            logger.warn("Outbox event {} ({}) failed on attempt {}", event.getId(), event.getType(), event.getAttempts() + 1, e);
+            return false;
+        }
+    }
+
+    private OutboxHandler handler(OutboxEventType type) {
+        OutboxHandler handler = handlers.get(type);
+        if (handler == null) {
+            throw new IllegalStateException("No outbox handler for " + type);
+        }
+        return handler;
+    }
+
+    private boolean await(Future<Boolean> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            logger.warn("Outbox worker failed", e.getCause());
+            return false;
+        }
+    }
+}
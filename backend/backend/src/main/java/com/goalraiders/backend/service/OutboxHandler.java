@@ -0,0 +1,12 @@
+package com.goalraiders.backend.service;
+
+import com.goalraiders.backend.OutboxEvent;
+import com.goalraiders.backend.OutboxEventType;
+
+// OutboxDispatcher 가 이벤트 선점과 같은 트랜잭션에서 호출. 예외를 던지면 선점도 롤백되어 다음 주기에 재시도
+public interface OutboxHandler {
+
+    OutboxEventType type();
+
+    void handle(OutboxEvent event);
+}
@@ -0,0 +1,30 @@
+package com.goalraiders.backend.service;
+
+import com.goalraiders.backend.OutboxEvent;
+import com.goalraiders.backend.OutboxEventRepository;
+import com.goalraiders.backend.OutboxEventType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+@Service
+public class OutboxService {
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    // 호출자의 트랜잭션 안에서만 기록 (본 작업과 후속 작업이 함께 커밋/롤백)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(OutboxEventType type, Long aggregateId, String firebaseUid, int amount) {
+        OutboxEvent event = new OutboxEvent();
+        event.setType(type);
+        event.setAggregateId(aggregateId);
+        event.setFirebaseUid(firebaseUid);
+        event.setAmount(amount);
+        event.setCreatedAt(Instant.now());
+        outboxEventRepository.save(event);
+    }
+}
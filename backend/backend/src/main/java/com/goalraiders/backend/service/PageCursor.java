@@ -0,0 +1,61 @@
+package com.goalraiders.backend.service;
+
+import com.goalraiders.backend.dto.CursorPage;
+import com.goalraiders.backend.exception.InvalidInputException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+// id 기준 keyset 페이지네이션용 커서. 클라이언트에는 불투명한 문자열로만 노출
+final class PageCursor {
+
+    static final int DEFAULT_LIMIT = 100;
+    static final int MAX_LIMIT = 500;
+
+    private static final String PREFIX = "id:";
+
+    private PageCursor() {
+    }
+
+    static int limit(Integer requested) {
+        if (requested == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (requested < 1) {
+            throw new InvalidInputException("Invalid page limit: " + requested);
+        }
+        return Math.min(requested, MAX_LIMIT);
+    }
+
+    // 커서가 없으면 첫 페이지 (id > 0)
+    static long afterId(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return 0L;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(PREFIX)) {
+                throw new InvalidInputException("Invalid cursor: " + cursor);
+            }
+            return Long.parseLong(decoded.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) { // NumberFormatException 포함
+            throw new InvalidInputException("Invalid cursor: " + cursor);
+        }
+    }
+
+    static String encode(long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // limit + 1 건을 조회해서 초과분이 있으면 다음 페이지 커서를 만듦
+    static <T> CursorPage<T> toPage(List<T> rows, int limit, Function<T, Long> idExtractor) {
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, limit);
+        return new CursorPage<>(items, encode(idExtractor.apply(items.get(limit - 1))));
+    }
+}
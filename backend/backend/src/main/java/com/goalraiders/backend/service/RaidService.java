@@ -0,0 +1,54 @@
+package com.goalraiders.backend.service;
+
+import com.goalraiders.backend.Difficulty;
+import com.goalraiders.backend.GoalRepository;
+import com.goalraiders.backend.dto.GoalDto;
+import com.goalraiders.backend.dto.GoalHpEventDto;
+import com.goalraiders.backend.exception.InvalidInputException;
+import com.goalraiders.backend.exception.ResourceNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+@Service
+public class RaidService {
+
+    @Autowired
+    private GoalRepository goalRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private GameRuleBook gameRuleBook;
+
+    @Autowired
+    private GoalDamageLog goalDamageLog;
+
+    @Autowired
+    private UserDataVersions userDataVersions;
+
+    @Autowired
+    private LiveEventHub liveEventHub;
+
+    // 공격은 데미지 이벤트로만 기록하고 바로 응답 (goal 행을 잠그지 않음). 처치 판정과 참가자 XP 지급은 GoalSnapshotCompactor 에서
+    public GoalDto attack(Long goalId, String difficulty) {
+        Difficulty attackDifficulty = Difficulty.parse(difficulty);
+        CurrentUser attacker = userService.getCurrentUser();
+        GoalDto boss = goalRepository.findRaidGoalDtoById(goalId)
+                .orElseThrow(() -> new ResourceNotFoundException("Raid goal not found with id " + goalId));
+        if (boss.getCurrentHp() - goalDamageLog.pending(goalId) <= 0) {
+            throw new InvalidInputException("Raid goal already defeated: " + goalId);
+        }
+
+        int damage = gameRuleBook.current().damage(attackDifficulty);
+        if (damage > 0) {
+            goalDamageLog.record(goalId, attacker.getFirebaseUid(), damage);
+            userDataVersions.bump(boss.getUserId()); // 보스 HP 는 소유자의 goal 목록에 보임
+            int snapshotHp = boss.getCurrentHp();
+            liveEventHub.publish(boss.getUserId(), "goal-hp", () -> new GoalHpEventDto(goalId,
+                    (int) Math.max(0, snapshotHp - goalDamageLog.pending(goalId)), boss.getMaxHp(), false));
+        }
+        boss.setCurrentHp((int) Math.max(0, boss.getCurrentHp() - goalDamageLog.pending(goalId)));
+        return boss;
+    }
+}
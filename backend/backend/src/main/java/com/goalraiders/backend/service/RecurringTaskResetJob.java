@@ -0,0 +1,112 @@
+package com.goalraiders.backend.service;
+
+import com.goalraiders.backend.TaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 초기화 예정일(next_due_date)이 지난 반복 task 를 미완료로 되돌림. 엔티티를 읽지 않고 id 청크 단위 UPDATE 로 처리
+@Component
+public class RecurringTaskResetJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecurringTaskResetJob.class);
+
+    private final TaskRepository taskRepository;
+    private final UserDataVersions userDataVersions;
+    private final ChangeSequence changeSequence;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final int chunkSize;
+
+    private final Counter resetCounter;
+    private final Timer runTimer;
+    // 실행 시점에 가장 오래 밀려 있던 task 의 예정일로부터 지난 시간
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    @Autowired
+    public RecurringTaskResetJob(TaskRepository taskRepository, UserDataVersions userDataVersions, ChangeSequence changeSequence,
+                                 PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                                 @Value("${tasks.recurring-reset.chunk-size:1000}") int chunkSize) {
+        this(taskRepository, userDataVersions, changeSequence, transactionManager, meterRegistry, chunkSize, Clock.systemDefaultZone());
+    }
+
+    RecurringTaskResetJob(TaskRepository taskRepository, UserDataVersions userDataVersions, ChangeSequence changeSequence,
+                          PlatformTransactionManager transactionManager, MeterRegistry meterRegistry, int chunkSize, Clock clock) {
+        this.taskRepository = taskRepository;
+        this.userDataVersions = userDataVersions;
+        this.changeSequence = changeSequence;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.clock = clock;
+        this.resetCounter = meterRegistry.counter("tasks.recurring.reset");
+        this.runTimer = meterRegistry.timer("tasks.recurring.reset.duration");
+        Gauge.builder("tasks.recurring.reset.lag", lagSeconds, AtomicLong::get)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void backfill() {
+        Integer filled = transactionTemplate.execute(status -> taskRepository.backfillNextDueDates());
+        if (filled != null && filled > 0) {
+            logger.info("Backfilled next due date for {} recurring tasks", filled);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.recurring-reset.interval-ms:60000}")
+    public synchronized int resetDueTasks() {
+        LocalDate today = LocalDate.now(clock);
+        recordLag(today);
+
+        long started = System.nanoTime();
+        int total = 0;
+        while (true) {
+            List<Long> ids = taskRepository.findDueTaskIds(today, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            // 청크마다 짧은 트랜잭션으로 커밋해서 잠금 범위와 undo 크기를 청크 크기로 제한
+            // 청크의 task 는 같은 변경 순번을 받음 (동기화에는 since 보다 큰지만 중요)
+            Integer reset = transactionTemplate.execute(status -> taskRepository.resetDueTasks(ids, today, changeSequence.next()));
+            total += reset != null ? reset : 0;
+            resetCounter.increment(reset != null ? reset : 0);
+            if (ids.size() < chunkSize) {
+                break;
+            }
+        }
+        runTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        if (total > 0) {
+            // id 만으로 처리해서 소유자를 모르므로 모든 사용자의 목록 버전을 올림 (대부분 하루 한 번)
+            userDataVersions.bumpAll();
+            logger.debug("Reset {} due recurring tasks", total);
+        }
+        return total;
+    }
+
+    private void recordLag(LocalDate today) {
+        LocalDate oldestDue = taskRepository.findOldestNextDueDate();
+        if (oldestDue == null || oldestDue.isAfter(today)) {
+            lagSeconds.set(0L);
+            return;
+        }
+        lagSeconds.set(Duration.between(oldestDue.atStartOfDay(clock.getZone()).toInstant(), clock.instant()).getSeconds());
+    }
+}
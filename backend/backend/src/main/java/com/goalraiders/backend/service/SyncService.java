@@ -0,0 +1,60 @@
+package com.goalraiders.backend.service;
+
+import com.goalraiders.backend.GoalRepository;
+import com.goalraiders.backend.SyncEntityType;
+import com.goalraiders.backend.SyncTombstone;
+import com.goalraiders.backend.SyncTombstoneRepository;
+import com.goalraiders.backend.TaskRepository;
+import com.goalraiders.backend.dto.SyncChangesDto;
+import com.goalraiders.backend.exception.InvalidInputException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class SyncService {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private GoalRepository goalRepository;
+
+    @Autowired
+    private SyncTombstoneRepository syncTombstoneRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private GoalService goalService;
+
+    @Autowired
+    private ChangeSequence changeSequence;
+
+    // since 이후 바뀐 task/goal 과 삭제된 id 만 조회 (전체 목록 대신 변경 건수에 비례). since 가 없으면 전체
+    @Transactional(readOnly = true)
+    public SyncChangesDto getChangesSince(Long since) {
+        if (since != null && since < 0) {
+            throw new InvalidInputException("since must not be negative: " + since);
+        }
+        CurrentUser currentUser = userService.getCurrentUser();
+        // 조회보다 먼저 읽음. 그 사이 커밋된 변경은 이번 응답과 다음 응답에 중복될 뿐 빠지지 않음
+        long version = changeSequence.watermark();
+        long after = since != null ? since : -1L; // 컬럼 추가 전 행은 changeSeq 가 0
+
+        SyncChangesDto changes = new SyncChangesDto();
+        changes.setVersion(version);
+        changes.setTasks(taskRepository.findTaskDtosChangedSince(currentUser.getId(), after));
+        changes.setGoals(goalRepository.findGoalDtosChangedSince(currentUser.getId(), after));
+        changes.getGoals().forEach(goalService::applyPendingDamage);
+        for (SyncTombstone tombstone : syncTombstoneRepository.findChangedSince(currentUser.getId(), after)) {
+            if (tombstone.getEntityType() == SyncEntityType.TASK) {
+                changes.getDeletedTaskIds().add(tombstone.getEntityId());
+            } else {
+                changes.getDeletedGoalIds().add(tombstone.getEntityId());
+            }
+        }
+        return changes;
+    }
+}
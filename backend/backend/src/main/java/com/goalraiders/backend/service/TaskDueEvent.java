@@ -0,0 +1,23 @@
+package com.goalraiders.backend.service;
+
+import java.time.LocalDate;
+
+// 완료된 반복 task 의 초기화 예정일이 되었을 때 발행 (알림 등은 @EventListener 로 구독)
+public class TaskDueEvent {
+
+    private final Long taskId;
+    private final LocalDate dueDate;
+
+    public TaskDueEvent(Long taskId, LocalDate dueDate) {
+        this.taskId = taskId;
+        this.dueDate = dueDate;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+}
@@ -0,0 +1,174 @@
+package com.goalraiders.backend.service;
+
+import com.goalraiders.backend.TaskRepository;
+import com.goalraiders.backend.dto.TaskDueDate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// 반복 task 의 초기화 예정 시각을 TaskDueWheel 에 올려 두고, 도래하면 TaskDueEvent 발행 (tasks 테이블을 폴링하지 않음)
+@Component
+public class TaskDueScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskDueScheduler.class);
+
+    private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+    private final int loadPageSize;
+    private final TaskDueWheel wheel;
+    private final Counter firedCounter;
+    // 적재 중에 반영된 예약/취소의 task id (적재 중이 아니면 null). 페이지를 읽은 뒤에 커밋된 삭제/완료가
+    // 이미 읽어 둔 오래된 행으로 다시 예약되지 않도록 적재가 끝날 때까지 기억 (this 로 보호)
+    private Set<Long> changedDuringLoad;
+
+    @Autowired
+    public TaskDueScheduler(TaskRepository taskRepository, ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry,
+                            @Value("${tasks.due-wheel.tick-ms:1000}") long tickMillis,
+                            @Value("${tasks.due-wheel.load-page-size:10000}") int loadPageSize) {
+        this(taskRepository, eventPublisher, meterRegistry, tickMillis, loadPageSize, Clock.systemDefaultZone());
+    }
+
+    TaskDueScheduler(TaskRepository taskRepository, ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry,
+                     long tickMillis, int loadPageSize, Clock clock) {
+        this.taskRepository = taskRepository;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.loadPageSize = loadPageSize;
+        this.wheel = new TaskDueWheel(tickMillis, clock.millis());
+        this.firedCounter = meterRegistry.counter("tasks.due.events");
+        Gauge.builder("tasks.due.scheduled", this, TaskDueScheduler::size).register(meterRegistry);
+    }
+
+    // 기동을 막지 않도록 애플리케이션이 준비된 뒤 별도 스레드에서 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadInBackground() {
+        Thread loader = new Thread(this::load, "task-due-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    void load() {
+        synchronized (this) {
+            changedDuringLoad = new HashSet<>();
+        }
+        long afterId = 0L;
+        int loaded = 0;
+        try {
+            while (true) {
+                List<TaskDueDate> page = taskRepository.findDueDatesAfter(afterId, PageRequest.of(0, loadPageSize));
+                synchronized (this) {
+                    for (TaskDueDate row : page) {
+                        // 적재 중에 TaskService 가 반영한 예약/취소가 더 최신이므로 덮어쓰거나 되살리지 않음
+                        if (!changedDuringLoad.contains(row.getId())) {
+                            wheel.scheduleIfAbsent(row.getId(), toMillis(row.getNextDueDate()));
+                        }
+                    }
+                }
+                loaded += page.size();
+                if (page.size() < loadPageSize) {
+                    break;
+                }
+                afterId = page.get(page.size() - 1).getId();
+            }
+        } finally {
+            synchronized (this) {
+                changedDuringLoad = null;
+            }
+        }
+        logger.info("Loaded {} recurring task due dates into timing wheel", loaded);
+    }
+
+    // TaskService 쓰기 후 호출. 트랜잭션 안이면 커밋된 뒤에 반영 (nextDueDate 가 null 이면 예약 취소)
+    public void update(Long taskId, LocalDate nextDueDate) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(taskId, nextDueDate);
+                }
+            });
+            return;
+        }
+        apply(taskId, nextDueDate);
+    }
+
+    public void cancel(Long taskId) {
+        update(taskId, null);
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.due-wheel.tick-ms:1000}")
+    public void tick() {
+        long[] due;
+        synchronized (this) {
+            LongBuffer fired = new LongBuffer();
+            wheel.advance(clock.millis(), fired::add);
+            due = fired.toArray();
+        }
+        // 콜백은 잠금 밖에서 (리스너가 느려도 TaskService 쓰기를 막지 않음)
+        LocalDate today = LocalDate.now(clock);
+        for (long taskId : due) {
+            eventPublisher.publishEvent(new TaskDueEvent(taskId, today));
+        }
+        firedCounter.increment(due.length);
+    }
+
+    synchronized int size() {
+        return wheel.size();
+    }
+
+    synchronized boolean isScheduled(Long taskId) {
+        return wheel.isScheduled(taskId);
+    }
+
+    private synchronized void apply(Long taskId, LocalDate nextDueDate) {
+        if (changedDuringLoad != null) {
+            changedDuringLoad.add(taskId);
+        }
+        if (nextDueDate == null) {
+            wheel.cancel(taskId);
+        } else {
+            wheel.schedule(taskId, toMillis(nextDueDate));
+        }
+    }
+
+    // RecurringTaskResetJob 과 같은 기준으로 예정일 00:00 (서버 시간대)에 도래
+    private long toMillis(LocalDate date) {
+        return date.atStartOfDay(clock.getZone()).toInstant().toEpochMilli();
+    }
+
+    private static final class LongBuffer {
+        private long[] values = new long[16];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.goalraiders.backend.service;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+// 계층형 타이밍 휠 (3단 x 1024 슬롯). tick 이 1초면 1단 17분, 2단 12일, 3단 34년까지 담음
+// 슬롯에는 (task id, 만료 tick) 을 원시 배열로만 저장하고, id → 현재 만료 tick 은 open addressing 맵으로 유지
+// 재예약/취소는 맵만 바꾸고 슬롯의 옛 항목은 그 슬롯을 지날 때 버림. 항목은 단마다 최대 한 번 내려가므로 만료 처리는 분할 상환 O(1)
+// 스레드 안전하지 않음 (TaskDueScheduler 가 동기화)
+final class TaskDueWheel {
+
+    private static final int SLOT_BITS = 10;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 3;
+    private static final int MAX_DELTA = (1 << (SLOT_BITS * LEVELS)) - 1;
+    private static final int NONE = Integer.MIN_VALUE;
+
+    private final long tickMillis;
+    private final long originMillis;
+    private final Slot[][] wheels = new Slot[LEVELS][SLOTS];
+    private final LongIntMap deadlines = new LongIntMap();
+    // originMillis 부터 지난 tick 수 (1초 tick 기준 int 로 68년)
+    private int currentTick;
+
+    TaskDueWheel(long tickMillis, long nowMillis) {
+        if (tickMillis < 1) {
+            throw new IllegalArgumentException("tickMillis must be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.originMillis = nowMillis;
+    }
+
+    // 같은 id 를 다시 예약하면 이전 예약을 대체
+    void schedule(long id, long deadlineMillis) {
+        int tick = toTick(deadlineMillis);
+        if (deadlines.get(id) == tick) {
+            return;
+        }
+        deadlines.put(id, tick);
+        place(id, tick);
+    }
+
+    // 기동 시 적재처럼 이미 더 최신 예약이 있을 수 있는 경우
+    void scheduleIfAbsent(long id, long deadlineMillis) {
+        if (deadlines.get(id) == NONE) {
+            schedule(id, deadlineMillis);
+        }
+    }
+
+    void cancel(long id) {
+        deadlines.remove(id);
+    }
+
+    boolean isScheduled(long id) {
+        return deadlines.get(id) != NONE;
+    }
+
+    int size() {
+        return deadlines.size();
+    }
+
+    // nowMillis 까지 tick 을 진행하며 만료된 id 를 onDue 로 전달. 만료된 개수 반환
+    int advance(long nowMillis, LongConsumer onDue) {
+        long target = Math.min((nowMillis - originMillis) / tickMillis, Integer.MAX_VALUE);
+        int fired = 0;
+        while (currentTick < target) {
+            currentTick++;
+            int index = currentTick & MASK;
+            if (index == 0) {
+                int index1 = (currentTick >>> SLOT_BITS) & MASK;
+                if (index1 == 0) {
+                    cascade(2, (currentTick >>> (SLOT_BITS * 2)) & MASK);
+                }
+                cascade(1, index1);
+            }
+            fired += expire(index, onDue);
+        }
+        return fired;
+    }
+
+    // 맵과 슬롯 배열이 차지하는 바이트 수 (객체 헤더 제외)
+    long footprintBytes() {
+        long bytes = deadlines.footprintBytes();
+        for (Slot[] wheel : wheels) {
+            for (Slot slot : wheel) {
+                if (slot != null) {
+                    bytes += (long) slot.ids.length * Long.BYTES + (long) slot.ticks.length * Integer.BYTES;
+                }
+            }
+        }
+        return bytes;
+    }
+
+    private int toTick(long deadlineMillis) {
+        long tick = Math.floorDiv(deadlineMillis - originMillis, tickMillis);
+        // 지난 시각은 현재 tick 으로, 너무 먼 시각은 휠이 담을 수 있는 마지막 tick 으로
+        return (int) Math.max(currentTick, Math.min(tick, (long) currentTick + MAX_DELTA));
+    }
+
+    private void place(long id, int tick) {
+        int delta = tick - currentTick;
+        if (delta <= 0) {
+            slot(0, (currentTick + 1) & MASK).add(id, tick); // 이미 지난 예약은 다음 tick 에 만료
+        } else if (delta < SLOTS) {
+            slot(0, tick & MASK).add(id, tick);
+        } else if (delta < SLOTS << SLOT_BITS) {
+            slot(1, (tick >>> SLOT_BITS) & MASK).add(id, tick);
+        } else {
+            slot(2, (tick >>> (SLOT_BITS * 2)) & MASK).add(id, tick);
+        }
+    }
+
+    // 상위 단의 슬롯을 비우면서 아직 유효한 항목을 남은 시간에 맞는 단으로 다시 배치
+    private void cascade(int level, int index) {
+        Slot slot = wheels[level][index];
+        if (slot == null || slot.size == 0) {
+            return;
+        }
+        wheels[level][index] = null;
+        for (int i = 0; i < slot.size; i++) {
+            long id = slot.ids[i];
+            int tick = slot.ticks[i];
+            if (deadlines.get(id) == tick) {
+                place(id, tick);
+            }
+        }
+    }
+
+    private int expire(int index, LongConsumer onDue) {
+        Slot slot = wheels[0][index];
+        if (slot == null || slot.size == 0) {
+            return 0;
+        }
+        wheels[0][index] = null;
+        int fired = 0;
+        for (int i = 0; i < slot.size; i++) {
+            long id = slot.ids[i];
+            int tick = slot.ticks[i];
+            if (deadlines.get(id) != tick) {
+                continue; // 취소되었거나 다른 시각으로 재예약됨
+            }
+            if (tick <= currentTick) {
+                deadlines.remove(id);
+                onDue.accept(id);
+                fired++;
+            } else {
+                place(id, tick);
+            }
+        }
+        return fired;
+    }
+
+    private Slot slot(int level, int index) {
+        Slot slot = wheels[level][index];
+        if (slot == null) {
+            slot = new Slot();
+            wheels[level][index] = slot;
+        }
+        return slot;
+    }
+
+    private static final class Slot {
+        private long[] ids = new long[4];
+        private int[] ticks = new int[4];
+        private int size;
+
+        void add(long id, int tick) {
+            if (size == ids.length) {
+                int capacity = size + (size >> 1);
+                ids = Arrays.copyOf(ids, capacity);
+                ticks = Arrays.copyOf(ticks, capacity);
+            }
+            ids[size] = id;
+            ticks[size] = tick;
+            size++;
+        }
+    }
+
+    // long → int open addressing (선형 탐사, 삭제는 backward shift). key 0 은 빈 칸 표시라 id 는 0 이 아니어야 함
+    private static final class LongIntMap {
+        private long[] keys = new long[16];
+        private int[] values = new int[16];
+        private int size;
+
+        int get(long key) {
+            int mask = keys.length - 1;
+            for (int i = index(key, mask); keys[i] != 0; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return values[i];
+                }
+            }
+            return NONE;
+        }
+
+        void put(long key, int value) {
+            if (key == 0) {
+                throw new IllegalArgumentException("id must not be 0");
+            }
+            if ((size + 1) * 4 > keys.length * 3) { // 적재율 0.75
+                resize();
+            }
+            int mask = keys.length - 1;
+            int i = index(key, mask);
+            while (keys[i] != 0) {
+                if (keys[i] == key) {
+                    values[i] = value;
+                    return;
+                }
+                i = (i + 1) & mask;
+            }
+            keys[i] = key;
+            values[i] = value;
+            size++;
+        }
+
+        void remove(long key) {
+            int mask = keys.length - 1;
+            int i = index(key, mask);
+            while (keys[i] != key) {
+                if (keys[i] == 0) {
+                    return;
+                }
+                i = (i + 1) & mask;
+            }
+            keys[i] = 0;
+            size--;
+            // 뒤따르는 항목 중 원래 자리가 비운 칸 이전인 것을 당겨서 탐사 사슬을 유지
+            int j = i;
+            while (true) {
+                j = (j + 1) & mask;
+                if (keys[j] == 0) {
+                    return;
+                }
+                int home = index(keys[j], mask);
+                boolean between = i <= j ? (i < home && home <= j) : (i < home || home <= j);
+                if (!between) {
+                    keys[i] = keys[j];
+                    values[i] = values[j];
+                    keys[j] = 0;
+                    i = j;
+                }
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        long footprintBytes() {
+            return (long) keys.length * Long.BYTES + (long) values.length * Integer.BYTES;
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new int[oldValues.length * 2];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private static int index(long key, int mask) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32)) & mask;
+        }
+    }
+}
@@ -1,18 +1,24 @@
 package com.goalraiders.backend.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.goalraiders.backend.*;
-import com.goalraiders.backend.config.GameConfigProperties;
+import com.goalraiders.backend.dto.CursorPage;
 import com.goalraiders.backend.dto.TaskDto;
 import com.goalraiders.backend.dto.mapper.TaskMapper;
 import com.goalraiders.backend.exception.InvalidInputException;
 import com.goalraiders.backend.exception.ResourceNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 @Service
 public class TaskService {
@@ -27,66 +33,101 @@ public class TaskService {
     private UserService userService;
 
     @Autowired
-    private GameConfigProperties gameConfigProperties;
+    private GoalService goalService;
+
+    @Autowired
+    private GameRuleBook gameRuleBook;
 
     @Autowired
     private TaskMapper taskMapper;
 
+    @Autowired
+    private TaskDueScheduler taskDueScheduler;
+
+    @Autowired
+    private UserDataVersions userDataVersions;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ChangeSequence changeSequence;
+
+    @Autowired
+    private SyncTombstoneRepository syncTombstoneRepository;
+
     public List<TaskDto> getAllTasksForCurrentUser() {
-        User currentUser = userService.getCurrentUserEntity();
-        List<Task> tasks = taskRepository.findByUserFirebaseUid(currentUser.getFirebaseUid());
-        return tasks.stream().map(taskMapper::toDto).collect(Collectors.toList());
+        CurrentUser currentUser = userService.getCurrentUser();
+        return taskRepository.findTaskDtosByUserFirebaseUid(currentUser.getFirebaseUid());
+    }
+
+    // 전체 목록을 List 로 만들지 않고 커서에서 읽는 대로 out 에 JSON 배열로 씀. 스트림은 이 트랜잭션 안에서만 유효
+    // StreamingResponseBody 스레드에서 호출되므로 보안 컨텍스트 대신 요청 스레드에서 꺼낸 uid 를 받음
+    @Transactional(readOnly = true)
+    public int writeAllTasks(String firebaseUid, OutputStream out) throws IOException {
+        try (Stream<TaskDto> rows = taskRepository.streamTaskDtosByUserFirebaseUid(firebaseUid)) {
+            return JsonArrayStreams.write(objectMapper, TaskDto.class, rows, UnaryOperator.identity(), out);
+        }
+    }
+
+    public CursorPage<TaskDto> getTasksPageForCurrentUser(String cursor, Integer limit) {
+        CurrentUser currentUser = userService.getCurrentUser();
+        int pageSize = PageCursor.limit(limit);
+        List<TaskDto> rows = taskRepository.findTaskDtoPage(currentUser.getId(), PageCursor.afterId(cursor), PageRequest.of(0, pageSize + 1));
+        return PageCursor.toPage(rows, pageSize, TaskDto::getId);
     }
 
     public TaskDto getTaskById(Long id) {
-        User currentUser = userService.getCurrentUserEntity();
-        Task task = taskRepository.findById(id)
+        CurrentUser currentUser = userService.getCurrentUser();
+        Task task = taskRepository.findDetailByIdAndUserId(id, currentUser.getId())
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id " + id));
-        if (!task.getUser().getFirebaseUid().equals(currentUser.getFirebaseUid())) {
-            throw new ResourceNotFoundException("Task not found with id " + id);
-        }
         return taskMapper.toDto(task);
     }
 
+    @Transactional
     public TaskDto createTask(TaskDto taskDto) {
-        User currentUser = userService.getCurrentUserEntity();
+        taskDto.setDifficulty(Difficulty.parse(taskDto.getDifficulty()).label());
+        CurrentUser currentUser = userService.getCurrentUser();
         Task task = taskMapper.toEntity(taskDto);
-        task.setUser(currentUser);
+        task.setUser(userService.getCurrentUserEntity());
+        refreshNextDueDate(task);
 
         if (taskDto.getGoalId() != null) {
-            Optional<Goal> goal = goalRepository.findById(Long.parseLong(taskDto.getGoalId()));
-            if (goal.isEmpty() || !goal.get().getUser().getFirebaseUid().equals(currentUser.getFirebaseUid())) {
+            Optional<Goal> goal = goalRepository.findByIdAndUserId(Long.parseLong(taskDto.getGoalId()), currentUser.getId());
+            if (goal.isEmpty()) {
                 throw new InvalidInputException("Invalid goal id: " + taskDto.getGoalId());
             }
             task.setGoal(goal.get());
         }
 
         if (taskDto.getParentTaskId() != null) {
-            Optional<Task> parentTask = taskRepository.findById(Long.parseLong(taskDto.getParentTaskId()));
-            if (parentTask.isEmpty() || !parentTask.get().getUser().getFirebaseUid().equals(currentUser.getFirebaseUid())) {
+            Optional<Task> parentTask = taskRepository.findByIdAndUserId(Long.parseLong(taskDto.getParentTaskId()), currentUser.getId());
+            if (parentTask.isEmpty()) {
                 throw new InvalidInputException("Invalid parent task id: " + taskDto.getParentTaskId());
             }
             task.setParentTask(parentTask.get());
         }
 
+        task.setChangeSeq(changeSequence.next());
         Task savedTask = taskRepository.save(task);
+        taskDueScheduler.update(savedTask.getId(), savedTask.getNextDueDate());
+        userDataVersions.bump(currentUser.getFirebaseUid());
         return taskMapper.toDto(savedTask);
     }
 
+    @Transactional
     public TaskDto updateTask(Long id, TaskDto taskDto) {
-        User currentUser = userService.getCurrentUserEntity();
-        Task taskToUpdate = taskRepository.findById(id)
+        taskDto.setDifficulty(Difficulty.parse(taskDto.getDifficulty()).label());
+        CurrentUser currentUser = userService.getCurrentUser();
+        Task taskToUpdate = taskRepository.findDetailByIdAndUserId(id, currentUser.getId())
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id " + id));
 
-        if (!taskToUpdate.getUser().getId().equals(currentUser.getId())) {
-            throw new ResourceNotFoundException("Task not found with id " + id);
-        }
-
         taskMapper.updateTaskFromDto(taskDto, taskToUpdate); // Update existing entity
+        refreshNextDueDate(taskToUpdate);
 
         if (taskDto.getGoalId() != null) {
-            Optional<Goal> goal = goalRepository.findById(Long.parseLong(taskDto.getGoalId()));
-            if (goal.isEmpty() || !goal.get().getUser().getFirebaseUid().equals(currentUser.getFirebaseUid())) {
+            Optional<Goal> goal = goalRepository.findByIdAndUserId(Long.parseLong(taskDto.getGoalId()), currentUser.getId());
+            if (goal.isEmpty()) {
                 throw new InvalidInputException("Invalid goal id: " + taskDto.getGoalId());
             }
             taskToUpdate.setGoal(goal.get());
@@ -95,8 +136,8 @@ public class TaskService {
         }
 
         if (taskDto.getParentTaskId() != null) {
-            Optional<Task> parentTask = taskRepository.findById(Long.parseLong(taskDto.getParentTaskId()));
-            if (parentTask.isEmpty() || !parentTask.get().getUser().getFirebaseUid().equals(currentUser.getFirebaseUid())) {
+            Optional<Task> parentTask = taskRepository.findByIdAndUserId(Long.parseLong(taskDto.getParentTaskId()), currentUser.getId());
+            if (parentTask.isEmpty()) {
                 throw new InvalidInputException("Invalid parent task id: " + taskDto.getParentTaskId());
             }
             taskToUpdate.setParentTask(parentTask.get());
@@ -104,61 +145,75 @@ public class TaskService {
             taskToUpdate.setParentTask(null);
         }
 
+        taskToUpdate.setChangeSeq(changeSequence.next());
         Task updatedTask = taskRepository.save(taskToUpdate);
+        taskDueScheduler.update(updatedTask.getId(), updatedTask.getNextDueDate());
+        userDataVersions.bump(currentUser.getFirebaseUid());
         return taskMapper.toDto(updatedTask);
     }
 
+    @Transactional
     public void deleteTask(Long id) {
-        User currentUser = userService.getCurrentUserEntity();
-        Task task = taskRepository.findById(id)
+        CurrentUser currentUser = userService.getCurrentUser();
+        Task task = taskRepository.findDetailByIdAndUserId(id, currentUser.getId())
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id " + id));
 
-        if (!task.getUser().getFirebaseUid().equals(currentUser.getFirebaseUid())) {
-            throw new ResourceNotFoundException("Task not found with id " + id);
-        }
-
         taskRepository.delete(task);
+        // 삭제는 행이 남지 않으므로 동기화용 삭제 기록을 같은 트랜잭션에 남김
+        SyncTombstone tombstone = new SyncTombstone();
+        tombstone.setUserId(currentUser.getId());
+        tombstone.setEntityType(SyncEntityType.TASK);
+        tombstone.setEntityId(id);
+        tombstone.setChangeSeq(changeSequence.next());
+        syncTombstoneRepository.save(tombstone);
+        taskDueScheduler.cancel(id);
+        userDataVersions.bump(currentUser.getFirebaseUid());
     }
 
+    @Transactional
     public TaskDto completeTask(Long taskId) {
-        User currentUser = userService.getCurrentUserEntity();
-        Task task = taskRepository.findById(taskId)
+        CurrentUser currentUser = userService.getCurrentUser();
+        Task task = taskRepository.findForCompletionByIdAndUserId(taskId, currentUser.getId())
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id " + taskId));
 
-        if (!task.getUser().getFirebaseUid().equals(currentUser.getFirebaseUid())) {
-            throw new ResourceNotFoundException("Task not found with id " + taskId);
+        if (task.isCompleted() && !isDueAgain(task)) {
+            // 이미 완료했고 초기화 예정일 전이면 바뀌는 것이 없음. 저장/순번/버전을 건드리지 않아서 동기화에도 변경이 생기지 않음
+            return taskMapper.toDto(task);
         }
 
-        if (task.isCompleted()) {
-            if (task.getRecurrenceDays() > 0) {
-                LocalDate today = LocalDate.now();
-                LocalDate lastCompleted = task.getLastCompleted();
-                if (lastCompleted == null || lastCompleted.plusDays(task.getRecurrenceDays()).isBefore(today) || lastCompleted.plusDays(task.getRecurrenceDays()).isEqual(today)) {
-                    task.setCompleted(false);
-                    task.setLastCompleted(null);
-                }
-            }
-        } else {
-            task.setCompleted(true);
-            task.setLastCompleted(LocalDate.now());
-
-            if (task.getGoal() != null) {
-                Goal goal = task.getGoal();
-                int damage = gameConfigProperties.getDifficultyDamageMap().getOrDefault(task.getDifficulty(), 0);
-                int newHp = goal.getCurrentHp() - damage;
-                goal.setCurrentHp(Math.max(0, newHp));
-
-                if (goal.getCurrentHp() <= 0 && !goal.isDefeated()) {
-                    goal.setDefeated(true);
-                    int xpReward = gameConfigProperties.getBossXpRewardMap().getOrDefault(goal.getStatus(), 0);
-                    userService.addExperience(currentUser.getFirebaseUid(), xpReward);
-                }
-
-                goalRepository.save(goal);
-            }
+        // 미완료이거나, 예정일이 지났는데 RecurringTaskResetJob 이 아직 되돌리지 않은 반복 task 는 새로 완료
+        task.setCompleted(true);
+        task.setLastCompleted(LocalDate.now());
+        refreshNextDueDate(task);
+
+        if (task.getGoal() != null) {
+            // 저장된 값은 생성/수정 시 검증됨. 그 이전 데이터에 알 수 없는 값이 있으면 0 데미지 대신 400
+            int damage = gameRuleBook.current().damage(Difficulty.parse(task.getDifficulty()));
+            goalService.dealDamage(task.getGoal(), currentUser, damage);
         }
 
+        task.setChangeSeq(changeSequence.next());
         Task updatedTask = taskRepository.save(task);
+        taskDueScheduler.update(updatedTask.getId(), updatedTask.getNextDueDate());
+        userDataVersions.bump(currentUser.getFirebaseUid()); // 트랜잭션 커밋 후 반영
         return taskMapper.toDto(updatedTask);
     }
-}
\ No newline at end of file
+
+    private static boolean isDueAgain(Task task) {
+        if (task.getRecurrenceDays() <= 0) {
+            return false;
+        }
+        LocalDate lastCompleted = task.getLastCompleted();
+        return lastCompleted == null || !lastCompleted.plusDays(task.getRecurrenceDays()).isAfter(LocalDate.now());
+    }
+
+    // 완료된 반복 task 만 초기화 예정일을 가짐 (RecurringTaskResetJob, TaskDueScheduler 가 이 값을 기준으로 동작)
+    private static void refreshNextDueDate(Task task) {
+        if (task.isCompleted() && task.getRecurrenceDays() > 0) {
+            LocalDate from = task.getLastCompleted() != null ? task.getLastCompleted() : LocalDate.now();
+            task.setNextDueDate(from.plusDays(task.getRecurrenceDays()));
+        } else {
+            task.setNextDueDate(null);
+        }
+    }
+}
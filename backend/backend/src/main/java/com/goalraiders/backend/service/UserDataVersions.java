@@ -0,0 +1,62 @@
+package com.goalraiders.backend.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 사용자별 데이터 버전 (task/goal 목록, 경험치가 바뀔 때마다 증가). 목록 API 의 ETag 와 X-Data-Version 헤더에 사용
+// 메모리에만 있으므로 기동 시각(ms x 1000)에서 시작해 재시작 후에도 이전 버전과 겹치지 않게 함 (단일 인스턴스 기준)
+@Component
+public class UserDataVersions {
+
+    public static final String HEADER = "X-Data-Version";
+
+    private final ConcurrentHashMap<String, Long> versions = new ConcurrentHashMap<>();
+    private final AtomicLong sequence;
+    // 전체 사용자 공통 하한. 대상 사용자를 모르는 일괄 변경(반복 task 초기화 등)은 이 값만 올림
+    private final AtomicLong floor;
+
+    public UserDataVersions() {
+        this(System.currentTimeMillis() * 1000);
+    }
+
+    UserDataVersions(long initialVersion) {
+        this.sequence = new AtomicLong(initialVersion);
+        this.floor = new AtomicLong(initialVersion);
+    }
+
+    public long current(String firebaseUid) {
+        Long version = versions.get(firebaseUid);
+        long min = floor.get();
+        return version != null && version > min ? version : min;
+    }
+
+    public static String etag(long version) {
+        return "\"" + version + "\"";
+    }
+
+    // 트랜잭션 안이면 커밋 후에 올림. 커밋 전에 올리면 아직 안 보이는 변경 이전 데이터가 새 버전으로 캐시될 수 있음
+    public void bump(String firebaseUid) {
+        afterCommit(() -> versions.merge(firebaseUid, sequence.incrementAndGet(), Math::max));
+    }
+
+    public void bumpAll() {
+        afterCommit(() -> floor.accumulateAndGet(sequence.incrementAndGet(), Math::max));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+}
@@ -0,0 +1,75 @@
+package com.goalraiders.backend.service;
+
+import com.goalraiders.backend.User;
+import com.goalraiders.backend.UserRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 최초 로그인 시 사용자 생성. 같은 uid 의 동시 요청은 진행 중인 생성 작업 하나를 함께 기다림 (single-flight)
+@Component
+public class UserProvisioner {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate requiresNewTransaction;
+    private final ConcurrentHashMap<String, CompletableFuture<User>> inFlight = new ConcurrentHashMap<>();
+
+    public UserProvisioner(UserRepository userRepository, PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        // 호출자의 트랜잭션과 분리해서, unique 제약 위반이 바깥 트랜잭션을 rollback-only 로 만들지 않게 함
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public User provision(String firebaseUid) {
+        CompletableFuture<User> created = new CompletableFuture<>();
+        CompletableFuture<User> existing = inFlight.putIfAbsent(firebaseUid, created);
+        if (existing != null) {
+            // 대기하는 동안에는 트랜잭션/커넥션을 잡지 않음
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+
+        try {
+            User user;
+            try {
+                user = requiresNewTransaction.execute(status -> findOrInsert(firebaseUid));
+            } catch (DataIntegrityViolationException e) {
+                // 다른 노드가 먼저 insert 해서 unique 제약 위반. 위반이 난 트랜잭션은 rollback-only 라 그 안에서는 다시 읽을 수 없으므로
+                // 롤백된 뒤 새 트랜잭션에서 이미 생성된 행을 조회 (upsert)
+                user = requiresNewTransaction.execute(status -> userRepository.findByFirebaseUid(firebaseUid)).orElseThrow(() -> e);
+            }
+            created.complete(user);
+            return user;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(firebaseUid, created);
+        }
+    }
+
+    private User findOrInsert(String firebaseUid) {
+        return userRepository.findByFirebaseUid(firebaseUid).orElseGet(() -> insert(firebaseUid));
+    }
+
+    private User insert(String firebaseUid) {
+        User newUser = new User();
+        newUser.setFirebaseUid(firebaseUid);
+        newUser.setUsername("User_" + firebaseUid.substring(0, 8));
+        newUser.setEmail(firebaseUid + "@example.com");
+        return userRepository.saveAndFlush(newUser);
+    }
+}
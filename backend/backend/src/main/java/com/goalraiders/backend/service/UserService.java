@@ -2,14 +2,15 @@ package com.goalraiders.backend.service;
 
 import com.goalraiders.backend.User;
 import com.goalraiders.backend.UserRepository;
+import com.goalraiders.backend.dto.ExperienceEventDto;
 import com.goalraiders.backend.dto.UserDto;
 import com.goalraiders.backend.dto.mapper.UserMapper;
+import com.goalraiders.backend.exception.ResourceNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
-
-import java.util.Optional;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class UserService {
@@ -20,44 +21,80 @@ public class UserService {
     @Autowired
     private UserMapper userMapper;
 
+    @Autowired
+    private CurrentUserCache currentUserCache;
+
+    @Autowired
+    private UserProvisioner userProvisioner;
+
+    @Autowired
+    private LevelCurve levelCurve;
+
+    @Autowired
+    private UserDataVersions userDataVersions;
+
+    @Autowired
+    private LiveEventHub liveEventHub;
+
     public UserDto getOrCreateCurrentUser() {
-        String firebaseUid = ((UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal()).getUsername();
-        Optional<User> existingUser = userRepository.findByFirebaseUid(firebaseUid);
-
-        User user = existingUser.orElseGet(() -> {
-            User newUser = new User();
-            newUser.setFirebaseUid(firebaseUid);
-            newUser.setUsername("User_" + firebaseUid.substring(0, 8));
-            newUser.setEmail(firebaseUid + "@example.com");
-            return userRepository.save(newUser);
-        });
-
-        return userMapper.toDto(user);
+        CurrentUser user = getCurrentUser();
+        UserDto userDto = userMapper.toDto(user);
+
+        // 저장된 값은 누적 XP 뿐이고, 레벨/현재 레벨 내 XP/다음 레벨까지 필요 XP 는 여기서 계산
+        long totalExperience = user.getExperience() != null ? user.getExperience() : 0L;
+        int level = levelCurve.levelFor(totalExperience);
+        userDto.setLevel(level);
+        userDto.setExperience((int) (totalExperience - levelCurve.thresholdFor(level)));
+        userDto.setTotalExperience(totalExperience);
+        userDto.setNextLevelExperience(levelCurve.experienceToNextLevel(level));
+        return userDto;
+    }
+
+    public CurrentUser getCurrentUser() {
+        return getOrCreateUser(getCurrentFirebaseUid());
     }
 
+    // 연관관계 설정용. 캐시의 스냅샷 id 로 현재 영속성 컨텍스트의 참조를 얻음 (조회 쿼리 없음)
     public User getCurrentUserEntity() {
-        String firebaseUid = ((UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal()).getUsername();
-        return userRepository.findByFirebaseUid(firebaseUid).orElseGet(() -> {
-            User newUser = new User();
-            newUser.setFirebaseUid(firebaseUid);
-            newUser.setUsername("User_" + firebaseUid.substring(0, 8));
-            newUser.setEmail(firebaseUid + "@example.com");
-            return userRepository.save(newUser);
-        });
+        return userRepository.getReferenceById(getCurrentUser().getId());
     }
 
-    public void addExperience(String firebaseUid, int experience) {
-        User user = userRepository.findByFirebaseUid(firebaseUid).orElseThrow(() -> new RuntimeException("User not found"));
-        int newExperience = user.getExperience() + experience;
-        int newLevel = user.getLevel();
+    // 인증 정보에서 uid 만 꺼냄 (DB 조회 없음)
+    public String getCurrentFirebaseUid() {
+        return ((UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal()).getUsername();
+    }
 
-        if (newExperience >= 100) {
-            newLevel += 1;
-            newExperience -= 100;
+    public CurrentUser getOrCreateUser(String firebaseUid) {
+        CurrentUser cachedUser = currentUserCache.get(firebaseUid);
+        if (cachedUser != null) {
+            return cachedUser;
         }
 
-        user.setExperience(newExperience);
-        user.setLevel(newLevel);
-        userRepository.save(user);
+        User user = userRepository.findByFirebaseUid(firebaseUid)
+                .orElseGet(() -> userProvisioner.provision(firebaseUid));
+        CurrentUser snapshot = CurrentUser.of(user);
+        currentUserCache.put(snapshot);
+        return snapshot;
+    }
+
+    @Transactional
+    public void addExperience(String firebaseUid, int experience) {
+        // 읽고-고쳐-쓰기 대신 원자적 UPDATE. 레벨은 누적 XP 에서 계산하므로 여러 레벨이 한 번에 올라도 따로 처리할 것이 없음
+        if (userRepository.addExperience(firebaseUid, experience) == 0) {
+            throw new ResourceNotFoundException("User not found");
+        }
+        currentUserCache.evictAfterCommit(firebaseUid);
+        userDataVersions.bump(firebaseUid);
+        // 누적값은 커밋 후 구독자가 있을 때만 조회
+        liveEventHub.publish(firebaseUid, "xp", () -> experienceEvent(firebaseUid, experience));
+    }
+
+    private ExperienceEventDto experienceEvent(String firebaseUid, int gained) {
+        Integer stored = userRepository.findExperienceByFirebaseUid(firebaseUid);
+        long totalExperience = stored != null ? stored : 0L;
+        int level = levelCurve.levelFor(totalExperience);
+        boolean levelUp = level > levelCurve.levelFor(Math.max(0L, totalExperience - gained));
+        return new ExperienceEventDto(gained, totalExperience, level, (int) (totalExperience - levelCurve.thresholdFor(level)),
+                levelCurve.experienceToNextLevel(level), levelUp);
     }
 }
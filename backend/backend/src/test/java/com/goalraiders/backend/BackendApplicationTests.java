@@ -1,13 +1,32 @@
 package com.goalraiders.backend;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskHolder;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest
 class BackendApplicationTests {
 
+	@Autowired
+	private ThreadPoolTaskScheduler taskScheduler;
+
+	@Autowired
+	private ScheduledTaskHolder scheduledTaskHolder;
+
 	@Test
 	void contextLoads() {
 	}
 
+	// 긴 작업(반복 초기화, outbox 적체)이 도는 동안에도 컴팩션/tick 이 밀리지 않도록 작업마다 스레드가 있어야 함
+	@Test
+	void schedulerHasThreadPerScheduledJob() {
+		int jobs = scheduledTaskHolder.getScheduledTasks().size();
+		assertTrue(taskScheduler.getPoolSize() >= jobs,
+				"scheduler pool " + taskScheduler.getPoolSize() + " < " + jobs + " scheduled jobs");
+	}
+
 }
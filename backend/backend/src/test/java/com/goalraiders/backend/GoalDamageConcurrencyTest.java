@@ -0,0 +1,188 @@
+package com.goalraiders.backend;
+
+import com.goalraiders.backend.service.ChangeSequence;
+import com.goalraiders.backend.service.GoalDamageLog;
+import com.goalraiders.backend.service.GoalSnapshotCompactor;
+import com.goalraiders.backend.service.OutboxService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 여러 스레드가 같은 goal 에 동시에 데미지를 줄 때 이벤트 로그 → 스냅샷 컴팩션으로 손실 없이 누적되고 처치가 한 번만 일어나는지 확인
+@DataJpaTest
+@Import({ChangeSequence.class, GoalDamageLog.class, GoalSnapshotCompactor.class, OutboxService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 각 스레드가 자기 트랜잭션을 커밋해야 하므로 테스트 트랜잭션 없이 실행
+class GoalDamageConcurrencyTest {
+
+    private static final int ATTACKERS = 64;
+    private static final int HITS_PER_ATTACKER = 50;
+    private static final int DAMAGE = 5;
+
+    @Autowired
+    private GoalRepository goalRepository;
+
+    @Autowired
+    private GoalDamageEventRepository goalDamageEventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private GoalDamageLog goalDamageLog;
+
+    @Autowired
+    private GoalSnapshotCompactor goalSnapshotCompactor;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAll();
+        goalDamageEventRepository.deleteAll();
+        goalRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentDamage_noLostUpdates() throws Exception {
+        int hp = ATTACKERS * HITS_PER_ATTACKER * DAMAGE + 1000;
+        Long goalId = seedGoal(hp);
+
+        recordConcurrently(goalId);
+        assertEquals(hp - ATTACKERS * HITS_PER_ATTACKER * DAMAGE, hp - goalDamageLog.pending(goalId));
+        assertEquals((long) ATTACKERS * HITS_PER_ATTACKER, goalDamageEventRepository.count()); // 기록과 함께 커밋됨
+        goalSnapshotCompactor.compact();
+
+        Goal goal = goalRepository.findById(goalId).orElseThrow();
+        assertEquals(1000, goal.getCurrentHp());
+        assertFalse(goal.isDefeated());
+        assertEquals(0, goalDamageLog.pending(goalId));
+        assertEquals((long) ATTACKERS * HITS_PER_ATTACKER, goalDamageEventRepository.count());
+        assertEquals(0, outboxEventRepository.countByType(OutboxEventType.GOAL_DEFEATED));
+    }
+
+    @Test
+    void concurrentDamage_exactlyOneDefeat() throws Exception {
+        Long goalId = seedGoal(ATTACKERS * HITS_PER_ATTACKER * DAMAGE - 1); // 마지막 몇 번은 0 에서 멈춰야 함
+
+        recordConcurrently(goalId);
+        goalSnapshotCompactor.compact();
+        goalSnapshotCompactor.compact(); // 이미 반영된 구간은 다시 적용되지 않음
+
+        Goal goal = goalRepository.findById(goalId).orElseThrow();
+        assertEquals(0, goal.getCurrentHp());
+        assertTrue(goal.isDefeated());
+        assertEquals(1, outboxEventRepository.countByType(OutboxEventType.GOAL_DEFEATED)); // 보상은 outbox 이벤트 한 건으로
+    }
+
+    @Test
+    void deletedGoalWithPendingDamage_releasesPendingOnCompaction() {
+        Long goalId = seedGoal(100);
+        goalDamageLog.record(goalId, "attacker", DAMAGE);
+        goalDamageLog.record(goalId, "attacker", DAMAGE);
+        assertEquals(2L * DAMAGE, goalDamageLog.pending(goalId));
+
+        goalRepository.deleteById(goalId);
+        goalSnapshotCompactor.compact();
+
+        assertEquals(0, goalDamageLog.pending(goalId));
+        assertFalse(goalRepository.existsById(goalId));
+        assertEquals(0, outboxEventRepository.countByType(OutboxEventType.GOAL_DEFEATED));
+    }
+
+    // 같은 행 UPDATE 와 이벤트 INSERT 비교. 벤치마크 하네스가 없어 수치만 출력 (환경마다 달라 단정하지 않음)
+    @Test
+    void hotRowUpdateVersusEventLog_timing() throws Exception {
+        Long hotRowGoalId = seedGoal(Integer.MAX_VALUE);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        long hotRow = runConcurrently(attacker -> transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.update("update goals set current_hp = greatest(0, current_hp - ?) where id = ?", DAMAGE, hotRowGoalId)));
+
+        Long eventGoalId = seedGoal(Integer.MAX_VALUE, "eventLogFirebaseUid");
+        long eventLog = runConcurrently(attacker -> goalDamageLog.record(eventGoalId, "attacker" + attacker, DAMAGE));
+
+        long hits = (long) ATTACKERS * HITS_PER_ATTACKER;
+        System.out.printf("hot-row UPDATE: %.1f ms, event log INSERT: %.1f ms for %d hits%n",
+                hotRow / 1_000_000.0, eventLog / 1_000_000.0, hits);
+        assertEquals(hits, goalDamageEventRepository.count());
+    }
+
+    private void recordConcurrently(Long goalId) throws Exception {
+        runConcurrently(attacker -> goalDamageLog.record(goalId, "attacker" + attacker, DAMAGE));
+    }
+
+    // 공격자마다 HITS_PER_ATTACKER 번 실행하고 걸린 시간(ns) 반환
+    private long runConcurrently(Attack attack) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(ATTACKERS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < ATTACKERS; i++) {
+                int attacker = i;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    for (int hit = 0; hit < HITS_PER_ATTACKER; hit++) {
+                        attack.hit(attacker);
+                    }
+                    return null;
+                }));
+            }
+            long started = System.nanoTime();
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get(60, TimeUnit.SECONDS);
+            }
+            return System.nanoTime() - started;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Long seedGoal(int hp) {
+        return seedGoal(hp, "raidFirebaseUid");
+    }
+
+    private Long seedGoal(int hp, String firebaseUid) {
+        User user = new User();
+        user.setFirebaseUid(firebaseUid);
+        user.setUsername("User_" + firebaseUid.substring(0, 8));
+        userRepository.save(user);
+
+        Goal goal = new Goal();
+        goal.setTitle("Boss");
+        goal.setStatus("Medium");
+        goal.setUser(user);
+        goal.setMaxHp(hp);
+        goal.setCurrentHp(hp);
+        return goalRepository.save(goal).getId();
+    }
+
+    private interface Attack {
+        void hit(int attacker);
+    }
+}
@@ -0,0 +1,109 @@
+package com.goalraiders.backend;
+
+import com.goalraiders.backend.security.TokenVerifier;
+import com.goalraiders.backend.security.VerifiedToken;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+// 유휴 SSE 연결 10k 개를 한 노드에서 유지할 때의 힙 사용량. 벤치마크 하네스가 없어 -Dbenchmark=true 일 때만 실행하고 수치는 출력만 함
+//   mvn test -Dtest=LiveEventLoadTest -Dbenchmark=true   (클라이언트/서버 소켓 합쳐 2만 개 이상이므로 ulimit -n 을 넉넉히)
+// 클라이언트도 같은 JVM 에 있으므로 연결당 힙은 서버 + HttpClient 양쪽을 합친 상한값
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:live-event-load;DB_CLOSE_DELAY=-1",
+        "server.tomcat.max-connections=12000",
+        "server.tomcat.accept-count=2000",
+        "live-events.heartbeat-interval-ms=1000",
+        "logging.level.com.goalraiders.backend=INFO"
+})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class LiveEventLoadTest {
+
+    private static final int CONNECTIONS = 10_000;
+    private static final int CONNECT_CONCURRENCY = 200;
+    private static final Duration HOLD = Duration.ofSeconds(30);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockitoBean
+    private TokenVerifier tokenVerifier;
+
+    @Test
+    void benchmark_tenThousandIdleConnections() throws Exception {
+        when(tokenVerifier.verify(anyString())).thenAnswer(invocation ->
+                new VerifiedToken(invocation.getArgument(0), System.currentTimeMillis() + 3_600_000L));
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        URI uri = URI.create("http://localhost:" + port + "/api/events");
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+        System.gc();
+        long heapBefore = memory.getHeapMemoryUsage().getUsed();
+
+        // 연결 수립만 동시 CONNECT_CONCURRENCY 개로 제한 (accept 큐가 넘치지 않게). 본문은 읽지 않고 열어 둠
+        Semaphore connecting = new Semaphore(CONNECT_CONCURRENCY);
+        AtomicLong failures = new AtomicLong();
+        List<CompletableFuture<HttpResponse<Stream<String>>>> streams = new ArrayList<>(CONNECTIONS);
+        long started = System.nanoTime();
+        for (int i = 0; i < CONNECTIONS; i++) {
+            connecting.acquire();
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                    .header("Authorization", "Bearer load-user-" + i)
+                    .header("Accept", "text/event-stream")
+                    .GET()
+                    .build();
+            streams.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofLines())
+                    .whenComplete((response, error) -> {
+                        if (error != null || response.statusCode() != 200) {
+                            failures.incrementAndGet();
+                        }
+                        connecting.release();
+                    }));
+        }
+        connecting.acquire(CONNECT_CONCURRENCY);
+        double connectSeconds = (System.nanoTime() - started) / 1e9;
+
+        Thread.sleep(HOLD.toMillis()); // heartbeat 가 여러 번 도는 동안 유지
+        int open = (int) meterRegistry.get("live.events.connections").gauge().value();
+        double evicted = meterRegistry.counter("live.events.evicted").count();
+
+        System.gc();
+        long heapAfter = memory.getHeapMemoryUsage().getUsed();
+        System.out.printf("Live events: %d connections opened in %.1f s, %d open after %d s, %.0f evicted, %d failed, "
+                        + "heap +%.1f MB (%.1f KB per connection incl. client)%n",
+                CONNECTIONS, connectSeconds, open, HOLD.toSeconds(), evicted, failures.get(),
+                (heapAfter - heapBefore) / 1048576.0, (heapAfter - heapBefore) / 1024.0 / CONNECTIONS);
+
+        assertEquals(CONNECTIONS, open);
+        streams.forEach(stream -> stream.thenAccept(response -> response.body().close()));
+    }
+}
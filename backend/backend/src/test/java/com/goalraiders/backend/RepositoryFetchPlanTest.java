@@ -0,0 +1,266 @@
+package com.goalraiders.backend;
+
+import com.goalraiders.backend.dto.GoalDto;
+import com.goalraiders.backend.dto.GoalTreeRow;
+import com.goalraiders.backend.dto.TaskDto;
+import com.goalraiders.backend.dto.mapper.GoalMapper;
+import com.goalraiders.backend.dto.mapper.TaskMapper;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// GET /api/tasks, GET /api/goals 의 조회+매핑이 행 수와 관계없이 고정된 SQL 수로 끝나는지 확인
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class RepositoryFetchPlanTest {
+
+    private static final String FIREBASE_UID = "fetchPlanFirebaseUid";
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private GoalRepository goalRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 25, 100})
+    void taskList_usesSingleStatement(int rows) {
+        seed(rows);
+
+        List<TaskDto> tasks = taskRepository.findByUserFirebaseUid(FIREBASE_UID).stream()
+                .map(TaskMapper.INSTANCE::toDto)
+                .collect(Collectors.toList());
+
+        assertEquals(rows, tasks.size());
+        assertTrue(tasks.stream().allMatch(task -> FIREBASE_UID.equals(task.getUserId()) && task.getGoalId() != null));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 25, 100})
+    void goalList_usesSingleStatement(int rows) {
+        seed(rows);
+
+        List<GoalDto> goals = goalRepository.findByUserFirebaseUid(FIREBASE_UID).stream()
+                .map(GoalMapper.INSTANCE::toDto)
+                .collect(Collectors.toList());
+
+        assertEquals(rows + 1, goals.size());
+        assertEquals(rows, goals.stream().filter(goal -> goal.getParentGoalId() != null).count());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100})
+    void taskProjection_matchesMappedEntitiesWithoutHydration(int rows) {
+        seed(rows);
+
+        List<TaskDto> projected = taskRepository.findTaskDtosByUserFirebaseUid(FIREBASE_UID);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, managedEntityCount()); // 영속성 컨텍스트에 엔티티/스냅샷이 남지 않음
+
+        List<TaskDto> mapped = taskRepository.findByUserFirebaseUid(FIREBASE_UID).stream()
+                .map(TaskMapper.INSTANCE::toDto)
+                .collect(Collectors.toList());
+        assertEquals(mapped.size(), projected.size());
+        for (int i = 0; i < mapped.size(); i++) {
+            TaskDto expected = mapped.get(i);
+            TaskDto actual = projected.stream().filter(task -> task.getId().equals(expected.getId())).findFirst().orElseThrow();
+            assertEquals(expected.getTitle(), actual.getTitle());
+            assertEquals(expected.getGoalId(), actual.getGoalId());
+            assertEquals(expected.getParentTaskId(), actual.getParentTaskId());
+            assertEquals(expected.getUserId(), actual.getUserId());
+            assertEquals(expected.getDifficulty(), actual.getDifficulty());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100})
+    void goalProjection_matchesMappedEntitiesWithoutHydration(int rows) {
+        seed(rows);
+
+        List<GoalDto> projected = goalRepository.findGoalDtosByUserFirebaseUid(FIREBASE_UID);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, managedEntityCount());
+        assertEquals(rows + 1, projected.size());
+        assertEquals(rows, projected.stream().filter(goal -> goal.getParentGoalId() != null).count());
+        assertTrue(projected.stream().allMatch(goal -> FIREBASE_UID.equals(goal.getUserId()) && goal.getCurrentHp() == 100));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 25, 100})
+    void taskSeekPages_coverAllRowsInIdOrderWithOneStatementPerPage(int rows) {
+        User user = seed(rows);
+        int pageSize = 10;
+
+        List<Long> seen = new ArrayList<>();
+        long afterId = 0L;
+        int pages = 0;
+        while (true) {
+            List<TaskDto> page = taskRepository.findTaskDtoPage(user.getId(), afterId, PageRequest.of(0, pageSize));
+            pages++;
+            page.forEach(task -> seen.add(task.getId()));
+            if (page.size() < pageSize) {
+                break;
+            }
+            afterId = page.get(page.size() - 1).getId();
+        }
+
+        assertEquals(rows, seen.size());
+        assertEquals(seen.stream().sorted().collect(Collectors.toList()), seen);
+        assertEquals(pages, statistics.getPrepareStatementCount());
+        assertEquals(0, managedEntityCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100})
+    void goalSeekPage_startsAfterCursor(int rows) {
+        User user = seed(rows);
+
+        List<GoalDto> first = goalRepository.findGoalDtoPage(user.getId(), 0L, PageRequest.of(0, 1));
+        List<GoalDto> rest = goalRepository.findGoalDtoPage(user.getId(), first.get(0).getId(), PageRequest.of(0, rows + 1));
+
+        assertEquals(1, first.size());
+        assertEquals(rows, rest.size());
+        assertTrue(rest.stream().allMatch(goal -> goal.getId() > first.get(0).getId()));
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    // 상세 조회당 SQL 수: 기존 findById + 소유자 비교는 2회 (task, lazy user), 소유자 조건 쿼리는 1회
+    @Test
+    void ownerScopedDetail_usesOneStatementInsteadOfTwo() {
+        User owner = seed(1);
+        Long taskId = taskRepository.findByUserFirebaseUid(FIREBASE_UID).get(0).getId();
+        entityManager.clear();
+        statistics.clear();
+
+        Task loaded = taskRepository.findById(taskId).orElseThrow();
+        assertEquals(FIREBASE_UID, loaded.getUser().getFirebaseUid());
+        long loadThenCompare = statistics.getPrepareStatementCount();
+
+        entityManager.clear();
+        statistics.clear();
+
+        Task scoped = taskRepository.findDetailByIdAndUserId(taskId, owner.getId()).orElseThrow();
+        assertEquals(FIREBASE_UID, scoped.getUser().getFirebaseUid());
+        long ownerScoped = statistics.getPrepareStatementCount();
+
+        assertEquals(2, loadThenCompare);
+        assertEquals(1, ownerScoped);
+    }
+
+    @Test
+    void ownerScopedLookups_returnNothingForForeignRows() {
+        seed(1);
+        Long taskId = taskRepository.findByUserFirebaseUid(FIREBASE_UID).get(0).getId();
+        Long goalId = goalRepository.findByUserFirebaseUid(FIREBASE_UID).get(0).getId();
+
+        User stranger = new User();
+        stranger.setFirebaseUid("strangerFirebaseUid");
+        stranger.setUsername("User_stranger");
+        entityManager.persist(stranger);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        assertTrue(taskRepository.findDetailByIdAndUserId(taskId, stranger.getId()).isEmpty());
+        assertTrue(taskRepository.findForCompletionByIdAndUserId(taskId, stranger.getId()).isEmpty());
+        assertTrue(taskRepository.findByIdAndUserId(taskId, stranger.getId()).isEmpty());
+        assertTrue(goalRepository.findDetailByIdAndUserId(goalId, stranger.getId()).isEmpty());
+        assertTrue(goalRepository.findByIdAndUserId(goalId, stranger.getId()).isEmpty());
+        assertEquals(5, statistics.getPrepareStatementCount());
+        assertEquals(0, managedEntityCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100})
+    void goalSubtree_loadsGoalsAndTasksInOneStatement(int rows) {
+        User user = seed(rows);
+        Long rootId = goalRepository.findByUserIdAndParentGoalIsNull(user.getId()).get(0).getId();
+        entityManager.clear();
+        statistics.clear();
+
+        List<GoalTreeRow> subtree = goalRepository.findSubtreeRows(rootId, user.getId(), 16);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(rows + 1, subtree.size()); // 루트(task 없음) 1행 + 하위 goal 마다 task 1행
+        assertEquals(rootId, subtree.get(0).getId());
+        assertEquals(0, subtree.get(0).getDepth());
+        assertNull(subtree.get(0).getTaskId());
+        assertTrue(subtree.stream().skip(1).allMatch(row -> row.getDepth() == 1 && row.getTaskId() != null && row.getMaxHp() == 100));
+
+        // 깊이 0 이면 루트만
+        assertEquals(1, goalRepository.findSubtreeRows(rootId, user.getId(), 0).size());
+        // 다른 사용자의 goal 은 조회되지 않음
+        assertTrue(goalRepository.findSubtreeRows(rootId, user.getId() + 1, 16).isEmpty());
+    }
+
+    private int managedEntityCount() {
+        return entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount();
+    }
+
+    // 사용자 1명, 루트 goal 아래 rows 개의 하위 goal, 각 goal 에 연결되고 이전 task 를 부모로 갖는 task
+    private User seed(int rows) {
+        User user = new User();
+        user.setFirebaseUid(FIREBASE_UID);
+        user.setUsername("User_fetchPla");
+        entityManager.persist(user);
+
+        Goal root = goal(user, null, "Root");
+        Task previousTask = null;
+        for (int i = 0; i < rows; i++) {
+            Goal goal = goal(user, root, "Goal " + i);
+
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setDifficulty("Easy");
+            task.setUser(user);
+            task.setGoal(goal);
+            task.setParentTask(previousTask);
+            entityManager.persist(task);
+            previousTask = task;
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        return user;
+    }
+
+    private Goal goal(User user, Goal parent, String title) {
+        Goal goal = new Goal();
+        goal.setTitle(title);
+        goal.setStatus("Medium");
+        goal.setUser(user);
+        goal.setParentGoal(parent);
+        goal.setMaxHp(100);
+        goal.setCurrentHp(100);
+        return entityManager.persist(goal);
+    }
+}
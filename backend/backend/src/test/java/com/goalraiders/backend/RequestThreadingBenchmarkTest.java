@@ -0,0 +1,144 @@
+package com.goalraiders.backend;
+
+import com.goalraiders.backend.security.TokenVerifier;
+import com.goalraiders.backend.security.VerifiedToken;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+// 플랫폼 스레드(Tomcat 풀) vs 가상 스레드 요청 처리 비교. 벤치마크 하네스가 없어 -Dbenchmark=true 일 때만 실행하고 수치는 출력만 함
+// 모드마다 컨텍스트를 새로 띄워야 하므로 두 번 실행해서 비교:
+//   mvn test -Dtest=RequestThreadingBenchmarkTest -Dbenchmark=true -Dbenchmark.virtual-threads=false
+//   mvn test -Dtest=RequestThreadingBenchmarkTest -Dbenchmark=true -Dbenchmark.virtual-threads=true   (JDK 21+)
+// 요청마다 다른 토큰을 써서 토큰 캐시를 우회하고, 토큰 검증은 원격 호출처럼 20ms 블로킹한 뒤 GET /api/tasks 로 JDBC 조회
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.threads.virtual.enabled=${benchmark.virtual-threads:false}",
+        "spring.datasource.url=jdbc:h2:mem:threading-benchmark;DB_CLOSE_DELAY=-1",
+        "spring.datasource.hikari.maximum-pool-size=20",
+        "spring.datasource.hikari.connection-timeout=2000",
+        "server.tomcat.max-connections=10000",
+        "server.tomcat.accept-count=1000",
+        "rate-limit.enabled=false",
+        "logging.level.com.goalraiders.backend=INFO"
+})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class RequestThreadingBenchmarkTest {
+
+    private static final int CLIENTS = 2000;
+    private static final long VERIFY_LATENCY_MILLIS = 20;
+    private static final Duration WARMUP = Duration.ofSeconds(5);
+    private static final Duration MEASURE = Duration.ofSeconds(20);
+
+    @LocalServerPort
+    private int port;
+
+    @MockitoBean
+    private TokenVerifier tokenVerifier;
+
+    @Test
+    void benchmark_twoThousandConcurrentClients() throws Exception {
+        when(tokenVerifier.verify(anyString())).thenAnswer(invocation -> {
+            Thread.sleep(VERIFY_LATENCY_MILLIS);
+            String token = invocation.getArgument(0);
+            return new VerifiedToken(token.substring(0, token.indexOf(':')), System.currentTimeMillis() + 3_600_000L);
+        });
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        URI uri = URI.create("http://localhost:" + port + "/api/tasks");
+
+        long measureFrom = System.nanoTime() + WARMUP.toNanos();
+        long measureUntil = measureFrom + MEASURE.toNanos();
+        List<long[]> latencies = new ArrayList<>();
+        AtomicLong errors = new AtomicLong();
+        AtomicLong requestSeq = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(CLIENTS);
+
+        for (int c = 0; c < CLIENTS; c++) {
+            String uid = "bench-user-" + c;
+            LatencyBuffer buffer = new LatencyBuffer();
+            Thread thread = new Thread(() -> {
+                try {
+                    while (System.nanoTime() < measureUntil) {
+                        HttpRequest request = HttpRequest.newBuilder(uri)
+                                .header("Authorization", "Bearer " + uid + ":" + requestSeq.incrementAndGet())
+                                .timeout(Duration.ofSeconds(30))
+                                .GET()
+                                .build();
+                        long started = System.nanoTime();
+                        int status;
+                        try {
+                            status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        } catch (Exception e) {
+                            status = -1;
+                        }
+                        if (started >= measureFrom && System.nanoTime() <= measureUntil) {
+                            if (status == 200) {
+                                buffer.add(System.nanoTime() - started);
+                            } else {
+                                errors.incrementAndGet();
+                            }
+                        }
+                    }
+                } finally {
+                    synchronized (latencies) {
+                        latencies.add(buffer.toArray());
+                    }
+                    done.countDown();
+                }
+            }, "bench-client-" + c);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        done.await();
+
+        long[] all = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        double throughput = all.length / (double) MEASURE.toSeconds();
+        System.out.printf("Request threading (%s threads, JDK %d): %d clients, %.0f req/s, p50 %.1f ms, p99 %.1f ms, errors %d%n",
+                Boolean.getBoolean("benchmark.virtual-threads") ? "virtual" : "platform", Runtime.version().feature(),
+                CLIENTS, throughput, percentile(all, 0.50), percentile(all, 0.99), errors.get());
+        assertTrue(all.length > 0);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)] / 1_000_000.0;
+    }
+
+    private static final class LatencyBuffer {
+        private long[] values = new long[256];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
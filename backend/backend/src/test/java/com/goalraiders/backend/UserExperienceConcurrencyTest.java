@@ -0,0 +1,81 @@
+package com.goalraiders.backend;
+
+import com.goalraiders.backend.service.LevelCurve;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 여러 보스 처치 보상이 같은 사용자에게 동시에 지급될 때 XP 가 손실 없이 누적되는지 확인
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 각 스레드가 자기 트랜잭션을 커밋해야 하므로 테스트 트랜잭션 없이 실행
+class UserExperienceConcurrencyTest {
+
+    private static final String FIREBASE_UID = "xpFirebaseUid";
+    private static final int AWARDS = 64;
+    private static final int EPIC_REWARD = 250;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentAwards_noLostExperience() throws Exception {
+        User user = new User();
+        user.setFirebaseUid(FIREBASE_UID);
+        user.setUsername("User_xpFireb");
+        userRepository.save(user);
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(AWARDS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < AWARDS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return transactionTemplate.execute(status -> userRepository.addExperience(FIREBASE_UID, EPIC_REWARD));
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> result : results) {
+                assertEquals(1, result.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int total = userRepository.findByFirebaseUid(FIREBASE_UID).orElseThrow().getExperience();
+        assertEquals(AWARDS * EPIC_REWARD, total);
+        assertEquals(AWARDS * EPIC_REWARD / 100 + 1, new LevelCurve(100, 0, 1000).levelFor(total));
+    }
+
+    @Test
+    void addExperience_unknownUserUpdatesNothing() {
+        int updated = new TransactionTemplate(transactionManager)
+                .execute(status -> userRepository.addExperience("missingFirebaseUid", 10));
+
+        assertEquals(0, updated);
+    }
+}
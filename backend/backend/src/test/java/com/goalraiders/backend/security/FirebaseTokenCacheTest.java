@@ -0,0 +1,117 @@
+package com.goalraiders.backend.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FirebaseTokenCacheTest {
+
+    private MutableClock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private FirebaseTokenCache tokenCache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        meterRegistry = new SimpleMeterRegistry();
+        AtomicLong ticks = new AtomicLong();
+        tokenCache = new FirebaseTokenCache(2, clock, ticks::incrementAndGet, meterRegistry);
+    }
+
+    @Test
+    void get_returnsCachedUserDetailsUntilExpiry() {
+        UserDetails userDetails = userDetails("uid-1");
+        tokenCache.put("token-1", userDetails, clock.millis() + 60_000);
+
+        assertSame(userDetails, tokenCache.get("token-1"));
+
+        clock.advanceMillis(60_000);
+
+        assertNull(tokenCache.get("token-1"));
+        assertEquals(0, tokenCache.size());
+        assertEquals(1.0, meterRegistry.counter("auth.token.cache.hits").count());
+        assertEquals(1.0, meterRegistry.counter("auth.token.cache.misses").count());
+    }
+
+    @Test
+    void get_unknownToken_countsMiss() {
+        assertNull(tokenCache.get("unknown"));
+        assertEquals(1.0, meterRegistry.counter("auth.token.cache.misses").count());
+    }
+
+    @Test
+    void put_alreadyExpiredToken_isNotCached() {
+        tokenCache.put("token-1", userDetails("uid-1"), clock.millis());
+
+        assertEquals(0, tokenCache.size());
+    }
+
+    @Test
+    void put_overCapacity_evictsLeastRecentlyUsed() {
+        long expiresAt = clock.millis() + 60_000;
+        tokenCache.put("token-1", userDetails("uid-1"), expiresAt);
+        tokenCache.put("token-2", userDetails("uid-2"), expiresAt);
+        tokenCache.get("token-1"); // token-2 가 가장 오래 사용되지 않은 항목이 됨
+        tokenCache.put("token-3", userDetails("uid-3"), expiresAt);
+
+        assertEquals(2, tokenCache.size());
+        assertNotNull(tokenCache.get("token-1"));
+        assertNull(tokenCache.get("token-2"));
+        assertNotNull(tokenCache.get("token-3"));
+        assertEquals(1.0, meterRegistry.counter("auth.token.cache.evictions").count());
+    }
+
+    @Test
+    void put_overCapacity_dropsExpiredTokensBeforeLiveOnes() {
+        tokenCache.put("token-1", userDetails("uid-1"), clock.millis() + 1_000);
+        tokenCache.put("token-2", userDetails("uid-2"), clock.millis() + 60_000);
+        clock.advanceMillis(1_000);
+        tokenCache.put("token-3", userDetails("uid-3"), clock.millis() + 60_000);
+
+        assertEquals(2, tokenCache.size());
+        assertNotNull(tokenCache.get("token-2"));
+        assertNotNull(tokenCache.get("token-3"));
+        assertEquals(0.0, meterRegistry.counter("auth.token.cache.evictions").count());
+    }
+
+    private static UserDetails userDetails(String uid) {
+        return User.builder().username(uid).password("").authorities("ROLE_USER").build();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advanceMillis(long millis) {
+            now = now.plusMillis(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.goalraiders.backend.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalJwtTokenVerifierTest {
+
+    private static final String PROJECT_ID = "goal-raiders-test";
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    private KeyPair keyPair;
+    private SimpleMeterRegistry meterRegistry;
+    private LocalJwtTokenVerifier verifier;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        keyPair = generator.generateKeyPair();
+
+        Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+        // 테스트용 stub 키 소스
+        PublicKeySource stubSource = () -> new PublicKeySet(Map.of("kid-1", keyPair.getPublic()),
+                NOW.plus(Duration.ofHours(1)).toEpochMilli());
+        PublicKeyStore keyStore = new PublicKeyStore(stubSource, Duration.ofMinutes(5), Duration.ofSeconds(30), clock);
+        keyStore.refresh();
+
+        meterRegistry = new SimpleMeterRegistry();
+        verifier = new LocalJwtTokenVerifier(keyStore, PROJECT_ID, new ObjectMapper(), clock, meterRegistry);
+    }
+
+    @Test
+    void verify_validToken() throws Exception {
+        long exp = NOW.getEpochSecond() + 3600;
+        String token = sign("kid-1", claims("uid-1", PROJECT_ID, NOW.getEpochSecond(), exp));
+
+        VerifiedToken result = verifier.verify(token);
+
+        assertEquals("uid-1", result.getUid());
+        assertEquals(exp * 1000L, result.getExpiresAtMillis());
+        assertEquals(1, meterRegistry.get("auth.token.verify").tag("stage", "signature").timer().count());
+    }
+
+    @Test
+    void verify_tamperedPayload_rejected() throws Exception {
+        String token = sign("kid-1", claims("uid-1", PROJECT_ID, NOW.getEpochSecond(), NOW.getEpochSecond() + 3600));
+        String[] parts = token.split("\\.");
+        String forgedPayload = encode(claims("uid-2", PROJECT_ID, NOW.getEpochSecond(), NOW.getEpochSecond() + 3600));
+
+        assertThrows(TokenVerificationException.class,
+                () -> verifier.verify(parts[0] + "." + forgedPayload + "." + parts[2]));
+    }
+
+    @Test
+    void verify_unknownKeyId_rejected() throws Exception {
+        String token = sign("kid-2", claims("uid-1", PROJECT_ID, NOW.getEpochSecond(), NOW.getEpochSecond() + 3600));
+
+        assertThrows(TokenVerificationException.class, () -> verifier.verify(token));
+    }
+
+    @Test
+    void verify_expiredToken_rejected() throws Exception {
+        String token = sign("kid-1", claims("uid-1", PROJECT_ID, NOW.getEpochSecond() - 7200, NOW.getEpochSecond() - 3600));
+
+        assertThrows(TokenVerificationException.class, () -> verifier.verify(token));
+    }
+
+    @Test
+    void verify_wrongAudience_rejected() throws Exception {
+        String token = sign("kid-1", claims("uid-1", "other-project", NOW.getEpochSecond(), NOW.getEpochSecond() + 3600));
+
+        assertThrows(TokenVerificationException.class, () -> verifier.verify(token));
+    }
+
+    @Test
+    void verify_malformedToken_rejected() {
+        assertThrows(TokenVerificationException.class, () -> verifier.verify("not-a-jwt"));
+    }
+
+    private static String claims(String uid, String audience, long iat, long exp) {
+        return "{\"sub\":\"" + uid + "\",\"aud\":\"" + audience + "\","
+                + "\"iss\":\"https://securetoken.google.com/" + audience + "\","
+                + "\"iat\":" + iat + ",\"exp\":" + exp + "}";
+    }
+
+    private String sign(String kid, String payloadJson) throws Exception {
+        String signingInput = encode("{\"alg\":\"RS256\",\"kid\":\"" + kid + "\"}") + "." + encode(payloadJson);
+        Signature signature = Signature.getInstance("SHA256withRSA");
+        signature.initSign(keyPair.getPrivate());
+        signature.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+        return signingInput + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(signature.sign());
+    }
+
+    private static String encode(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
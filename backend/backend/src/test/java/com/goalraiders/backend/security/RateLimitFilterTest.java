@@ -0,0 +1,74 @@
+package com.goalraiders.backend.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class RateLimitFilterTest {
+
+    private final RateLimiter rateLimiter = mock(RateLimiter.class);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void throttled_returns429WithRetryAfterRoundedUp() throws Exception {
+        authenticate("uid-1");
+        when(rateLimiter.tryAcquire("uid-1", RateLimitClass.GAME_ACTION)).thenReturn(1_200_000_000L);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        new RateLimitFilter(rateLimiter, true).doFilter(new MockHttpServletRequest("POST", "/api/goals/1/damage"), response, chain);
+
+        assertEquals(429, response.getStatus());
+        assertEquals("2", response.getHeader("Retry-After"));
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void allowed_continuesChain() throws Exception {
+        authenticate("uid-1");
+        when(rateLimiter.tryAcquire("uid-1", RateLimitClass.READ)).thenReturn(0L);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        new RateLimitFilter(rateLimiter, true).doFilter(new MockHttpServletRequest("GET", "/api/tasks"), response, chain);
+
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    void unauthenticatedOrDisabled_skipsLimiter() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        new RateLimitFilter(rateLimiter, true).doFilter(new MockHttpServletRequest("GET", "/api/config/game"), new MockHttpServletResponse(), chain);
+        assertNotNull(chain.getRequest());
+
+        authenticate("uid-1");
+        chain = new MockFilterChain();
+        new RateLimitFilter(rateLimiter, false).doFilter(new MockHttpServletRequest("GET", "/api/tasks"), new MockHttpServletResponse(), chain);
+        assertNotNull(chain.getRequest());
+
+        verifyNoInteractions(rateLimiter);
+    }
+
+    private static void authenticate(String uid) {
+        UserDetails userDetails = User.builder().username(uid).password("").authorities("ROLE_USER").build();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+    }
+}
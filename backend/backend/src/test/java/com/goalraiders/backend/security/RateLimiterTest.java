@@ -0,0 +1,175 @@
+package com.goalraiders.backend.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private AtomicLong nanoTime;
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        nanoTime = new AtomicLong(-5 * SECOND); // nanoTime 은 음수일 수 있음
+        meterRegistry = new SimpleMeterRegistry();
+        // read: 초당 10, 버스트 3 / game-action: 초당 1, 버스트 2
+        rateLimiter = new RateLimiter(10, 3, 1, 2, 100, nanoTime::get, meterRegistry);
+    }
+
+    @Test
+    void tryAcquire_allowsBurstThenReturnsWaitUntilNextToken() {
+        for (int i = 0; i < 2; i++) {
+            assertEquals(0L, rateLimiter.tryAcquire("uid-1", RateLimitClass.GAME_ACTION));
+        }
+
+        assertEquals(SECOND, rateLimiter.tryAcquire("uid-1", RateLimitClass.GAME_ACTION));
+        assertEquals(1.0, meterRegistry.counter("rate.limit.throttled", "class", "game_action").count());
+
+        nanoTime.addAndGet(SECOND / 2);
+        assertEquals(SECOND / 2, rateLimiter.tryAcquire("uid-1", RateLimitClass.GAME_ACTION));
+
+        nanoTime.addAndGet(SECOND / 2);
+        assertEquals(0L, rateLimiter.tryAcquire("uid-1", RateLimitClass.GAME_ACTION));
+        assertTrue(rateLimiter.tryAcquire("uid-1", RateLimitClass.GAME_ACTION) > 0);
+    }
+
+    @Test
+    void tryAcquire_throttledRequestDoesNotConsumeToken() {
+        rateLimiter.tryAcquire("uid-1", RateLimitClass.GAME_ACTION);
+        rateLimiter.tryAcquire("uid-1", RateLimitClass.GAME_ACTION);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(rateLimiter.tryAcquire("uid-1", RateLimitClass.GAME_ACTION) > 0);
+        }
+
+        nanoTime.addAndGet(SECOND);
+
+        assertEquals(0L, rateLimiter.tryAcquire("uid-1", RateLimitClass.GAME_ACTION));
+    }
+
+    @Test
+    void tryAcquire_limitsAreSeparatePerUserAndClass() {
+        rateLimiter.tryAcquire("uid-1", RateLimitClass.GAME_ACTION);
+        rateLimiter.tryAcquire("uid-1", RateLimitClass.GAME_ACTION);
+
+        assertTrue(rateLimiter.tryAcquire("uid-1", RateLimitClass.GAME_ACTION) > 0);
+        assertEquals(0L, rateLimiter.tryAcquire("uid-2", RateLimitClass.GAME_ACTION));
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0L, rateLimiter.tryAcquire("uid-1", RateLimitClass.READ));
+        }
+        assertEquals(SECOND / 10, rateLimiter.tryAcquire("uid-1", RateLimitClass.READ));
+    }
+
+    @Test
+    void evictIdle_removesOnlyFullBuckets() {
+        rateLimiter.tryAcquire("uid-1", RateLimitClass.READ);
+        nanoTime.addAndGet(SECOND / 20);
+        rateLimiter.tryAcquire("uid-2", RateLimitClass.READ);
+        assertEquals(2, rateLimiter.size());
+
+        nanoTime.addAndGet(SECOND / 20); // uid-1 은 다시 가득 참, uid-2 는 아직 보충 중
+        rateLimiter.evictIdle();
+
+        assertEquals(1, rateLimiter.size());
+        assertEquals(1.0, meterRegistry.get("rate.limit.buckets").gauge().value());
+
+        nanoTime.addAndGet(SECOND);
+        rateLimiter.evictIdle();
+
+        assertEquals(0, rateLimiter.size());
+    }
+
+    @Test
+    void tryAcquire_overMaxTrackedUsers_passesWithoutTracking() {
+        RateLimiter small = new RateLimiter(10, 1, 1, 1, 2, nanoTime::get, meterRegistry);
+        small.tryAcquire("uid-1", RateLimitClass.READ);
+        small.tryAcquire("uid-2", RateLimitClass.READ);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0L, small.tryAcquire("uid-3", RateLimitClass.READ));
+        }
+        assertEquals(2, small.size());
+        assertEquals(5.0, meterRegistry.counter("rate.limit.untracked").count());
+        // 이미 추적 중인 uid 는 계속 제한
+        assertTrue(small.tryAcquire("uid-1", RateLimitClass.READ) > 0);
+    }
+
+    @Test
+    void constructor_rejectsNonPositiveRate() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new RateLimiter(0, 1, 1, 1, 10, nanoTime::get, meterRegistry));
+        assertThrows(IllegalArgumentException.class,
+                () -> new RateLimiter(1, 1, 1, 0, 10, nanoTime::get, meterRegistry));
+    }
+
+    @Test
+    void rateLimitClass_gameActionsAreCompleteDamageAndRaidAttackPosts() {
+        assertEquals(RateLimitClass.GAME_ACTION, RateLimitClass.of(new MockHttpServletRequest("POST", "/api/tasks/7/complete")));
+        assertEquals(RateLimitClass.GAME_ACTION, RateLimitClass.of(new MockHttpServletRequest("POST", "/api/goals/3/damage")));
+        assertEquals(RateLimitClass.GAME_ACTION, RateLimitClass.of(new MockHttpServletRequest("POST", "/api/goals/3/raid-attack")));
+        assertEquals(RateLimitClass.READ, RateLimitClass.of(new MockHttpServletRequest("GET", "/api/tasks")));
+        assertEquals(RateLimitClass.READ, RateLimitClass.of(new MockHttpServletRequest("POST", "/api/tasks")));
+        assertEquals(RateLimitClass.READ, RateLimitClass.of(new MockHttpServletRequest("GET", "/api/goals/3/damage")));
+    }
+
+    // 요청당 제한 비용. 벤치마크 하네스가 없어 -Dbenchmark=true 일 때만 실행하고 수치는 출력만 함 (목표: 1µs 미만)
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmark_nanosPerAcquire() throws Exception {
+        int users = 100_000;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int perThread = 5_000_000;
+        RateLimiter limiter = new RateLimiter(1_000_000, 1000, 1_000_000, 1000, 1_000_000, System::nanoTime, new SimpleMeterRegistry());
+        String[] uids = new String[users];
+        for (int i = 0; i < users; i++) {
+            uids[i] = "bench-user-" + i;
+        }
+
+        for (int round = 0; round < 2; round++) { // 첫 회는 워밍업
+            CountDownLatch start = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(threads);
+            AtomicLong throttled = new AtomicLong();
+            for (int t = 0; t < threads; t++) {
+                int offset = t * 7919;
+                Thread thread = new Thread(() -> {
+                    long local = 0;
+                    try {
+                        start.await();
+                        for (int i = 0; i < perThread; i++) {
+                            RateLimitClass limitClass = (i & 7) == 0 ? RateLimitClass.GAME_ACTION : RateLimitClass.READ;
+                            if (limiter.tryAcquire(uids[(offset + i) % users], limitClass) > 0) {
+                                local++;
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        throttled.addAndGet(local);
+                        done.countDown();
+                    }
+                }, "rate-limit-bench-" + t);
+                thread.start();
+            }
+            long started = System.nanoTime();
+            start.countDown();
+            done.await();
+            long elapsed = System.nanoTime() - started;
+            if (round == 1) {
+                long total = (long) threads * perThread;
+                System.out.printf("Rate limiter: %d threads, %d uids, %.1f ns/acquire per thread, %.1f M acquires/s, throttled %d, buckets %d%n",
+                        threads, users, elapsed * (double) threads / total, total * 1000.0 / elapsed, throttled.get(), limiter.size());
+            }
+        }
+        assertTrue(limiter.size() > 0);
+    }
+}
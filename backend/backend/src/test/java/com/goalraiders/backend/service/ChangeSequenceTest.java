@@ -0,0 +1,55 @@
+package com.goalraiders.backend.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangeSequenceTest {
+
+    @Test
+    void nextOutsideTransactionIsVisibleImmediately() {
+        ChangeSequence sequence = new ChangeSequence(100L);
+
+        assertEquals(101L, sequence.next());
+        assertEquals(102L, sequence.next());
+        assertEquals(102L, sequence.watermark());
+    }
+
+    @Test
+    void watermarkStaysBelowUncommittedChange() {
+        ChangeSequence sequence = new ChangeSequence(100L);
+        List<TransactionSynchronization> slowTransaction = inTransaction(sequence); // 101, 아직 커밋 전
+
+        assertEquals(102L, sequence.next()); // 뒤에 발급됐지만 먼저 보이는 쓰기
+        assertEquals(100L, sequence.watermark()); // 101 을 건너뛰지 않도록 그 아래에 머묾
+
+        slowTransaction.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        assertEquals(102L, sequence.watermark());
+    }
+
+    @Test
+    void rollbackAlsoReleasesWatermark() {
+        ChangeSequence sequence = new ChangeSequence(100L);
+        List<TransactionSynchronization> rolledBack = inTransaction(sequence);
+        assertEquals(100L, sequence.watermark());
+
+        rolledBack.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertEquals(101L, sequence.watermark());
+    }
+
+    private static List<TransactionSynchronization> inTransaction(ChangeSequence sequence) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            sequence.next();
+            return new ArrayList<>(TransactionSynchronizationManager.getSynchronizations());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
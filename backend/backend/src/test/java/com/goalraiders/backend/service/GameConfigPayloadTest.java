@@ -0,0 +1,45 @@
+package com.goalraiders.backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameConfigPayloadTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void serializesAllRuleMaps() throws IOException {
+        GameConfigPayload payload = new GameConfigPayload(TestGameRules.ruleBook(), objectMapper);
+
+        JsonNode json = objectMapper.readTree(payload.current().bytes());
+
+        assertEquals(10, json.get("difficultyDamageMap").get("Medium").asInt());
+        assertEquals(500, json.get("bossHpMap").get("Epic").asInt());
+        assertEquals(250, json.get("bossXpRewardMap").get("Epic").asInt());
+        assertTrue(payload.current().etag().matches("\"[0-9a-f]{32}\""));
+    }
+
+    @Test
+    void reusesBytesUntilRulesChange() {
+        GameRuleBook ruleBook = TestGameRules.ruleBook();
+        GameConfigPayload payload = new GameConfigPayload(ruleBook, objectMapper);
+        GameConfigPayload.Body first = payload.current();
+
+        assertSame(first, payload.current());
+
+        Map<String, Integer> damage = new HashMap<>(TestGameRules.DAMAGE);
+        damage.put("Easy", 7);
+        ruleBook.reload(GameRules.compile(damage, TestGameRules.BOSS_HP, TestGameRules.XP_REWARD));
+        GameConfigPayload.Body reloaded = payload.current();
+
+        assertNotSame(first, reloaded);
+        assertNotEquals(first.etag(), reloaded.etag());
+    }
+}
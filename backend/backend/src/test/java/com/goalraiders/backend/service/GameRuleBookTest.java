@@ -0,0 +1,72 @@
+package com.goalraiders.backend.service;
+
+import com.goalraiders.backend.Difficulty;
+import com.goalraiders.backend.config.GameConfigProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameRuleBookTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void reloadsChangedFileOverStartupProperties() throws IOException {
+        Path file = dir.resolve("game-rules.properties");
+        GameRuleBook ruleBook = new GameRuleBook(properties(), file.toString());
+        assertEquals(10, ruleBook.current().damage(Difficulty.MEDIUM));
+
+        write(file, "game.difficulty-damage-map.medium=15\n", 1_000L);
+        ruleBook.reloadIfChanged();
+
+        assertEquals(15, ruleBook.current().damage(Difficulty.MEDIUM));
+        assertEquals(5, ruleBook.current().damage(Difficulty.EASY)); // 파일에 없는 값은 기동 시 설정 유지
+        assertEquals(250, ruleBook.current().xpReward(Difficulty.EPIC));
+    }
+
+    @Test
+    void invalidFileKeepsCurrentRules() throws IOException {
+        Path file = dir.resolve("game-rules.properties");
+        GameRuleBook ruleBook = new GameRuleBook(properties(), file.toString());
+        GameRules before = ruleBook.current();
+
+        write(file, "game.boss-hp-map.Legendary=1000\n", 1_000L);
+        ruleBook.reloadIfChanged();
+
+        assertSame(before, ruleBook.current());
+    }
+
+    @Test
+    void unchangedFileIsNotRecompiled() throws IOException {
+        Path file = dir.resolve("game-rules.properties");
+        write(file, "game.boss-hp-map.Easy=60\n", 1_000L);
+        GameRuleBook ruleBook = new GameRuleBook(properties(), file.toString());
+        GameRules loaded = ruleBook.current();
+        assertEquals(60, loaded.bossHp(Difficulty.EASY));
+
+        ruleBook.reloadIfChanged();
+
+        assertSame(loaded, ruleBook.current());
+    }
+
+    private static GameConfigProperties properties() {
+        GameConfigProperties properties = new GameConfigProperties();
+        properties.setDifficultyDamageMap(new HashMap<>(TestGameRules.DAMAGE));
+        properties.setBossHpMap(new HashMap<>(TestGameRules.BOSS_HP));
+        properties.setBossXpRewardMap(new HashMap<>(TestGameRules.XP_REWARD));
+        return properties;
+    }
+
+    private static void write(Path file, String content, long modifiedMillis) throws IOException {
+        Files.writeString(file, content);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(modifiedMillis));
+    }
+}
@@ -0,0 +1,91 @@
+package com.goalraiders.backend.service;
+
+import com.goalraiders.backend.Difficulty;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameRulesTest {
+
+    @Test
+    void compile_indexesByDifficulty() {
+        GameRules rules = GameRules.compile(TestGameRules.DAMAGE, TestGameRules.BOSS_HP, TestGameRules.XP_REWARD);
+
+        assertEquals(5, rules.damage(Difficulty.EASY));
+        assertEquals(50, rules.damage(Difficulty.EPIC));
+        assertEquals(200, rules.bossHp(Difficulty.HARD));
+        assertEquals(50, rules.xpReward(Difficulty.MEDIUM));
+        assertEquals(List.of("Easy", "Medium", "Hard", "Epic"), List.copyOf(rules.damageMap().keySet()));
+    }
+
+    @Test
+    void compile_keysAreCaseInsensitive() {
+        GameRules rules = GameRules.compile(Map.of("easy", 1, "MEDIUM", 2, "Hard", 3, "epic", 4),
+                TestGameRules.BOSS_HP, TestGameRules.XP_REWARD);
+
+        assertEquals(2, rules.damage(Difficulty.MEDIUM));
+    }
+
+    @Test
+    void compile_rejectsMissingDifficulty() {
+        Map<String, Integer> damage = new HashMap<>(TestGameRules.DAMAGE);
+        damage.remove("Epic");
+
+        assertThrows(IllegalArgumentException.class,
+                () -> GameRules.compile(damage, TestGameRules.BOSS_HP, TestGameRules.XP_REWARD));
+    }
+
+    @Test
+    void compile_rejectsUnknownDifficulty() {
+        Map<String, Integer> xp = new HashMap<>(TestGameRules.XP_REWARD);
+        xp.put("Legendary", 1000);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> GameRules.compile(TestGameRules.DAMAGE, TestGameRules.BOSS_HP, xp));
+    }
+
+    @Test
+    void compile_rejectsZeroBossHp() {
+        Map<String, Integer> hp = new HashMap<>(TestGameRules.BOSS_HP);
+        hp.put("Easy", 0);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> GameRules.compile(TestGameRules.DAMAGE, hp, TestGameRules.XP_REWARD));
+    }
+
+    // 벤치마크 하네스가 없어 -Dbenchmark=true 일 때만 실행하고 수치는 출력만 함
+    // 기존 경로(요청마다 문자열 키 HashMap 조회) 와 enum 색인 표 조회 비교
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmark_lookupPath() {
+        int iterations = 50_000_000;
+        GameRuleBook ruleBook = TestGameRules.ruleBook();
+        Map<String, Integer> damageMap = new HashMap<>(TestGameRules.DAMAGE);
+        String[] labels = {"Easy", "Medium", "Hard", "Epic"};
+        Difficulty[] parsed = Difficulty.values();
+
+        long sink = 0;
+        for (int round = 0; round < 3; round++) { // 앞 라운드는 JIT 워밍업
+            long started = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                sink += damageMap.getOrDefault(new String(labels[i & 3]), 0);
+            }
+            long mapNanos = System.nanoTime() - started;
+
+            started = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                sink += ruleBook.current().damage(parsed[i & 3]);
+            }
+            long tableNanos = System.nanoTime() - started;
+
+            System.out.printf("GameRules round %d: HashMap<String> %.2f ns/op, enum table %.2f ns/op%n",
+                    round, mapNanos / (double) iterations, tableNanos / (double) iterations);
+        }
+        assertTrue(sink > 0);
+    }
+}
@@ -0,0 +1,142 @@
+package com.goalraiders.backend.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class GoalDamageLogTest {
+
+    private static final Long BOSS_ID = 1L;
+
+    private JdbcTemplate jdbcTemplate;
+    private ChangeSequence changeSequence;
+    private GoalDamageLog goalDamageLog;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        changeSequence = new ChangeSequence(100L);
+        goalDamageLog = new GoalDamageLog(jdbcTemplate, mock(PlatformTransactionManager.class), changeSequence, Clock.systemUTC());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void record_insertsEventWithSequenceIdImmediately() {
+        goalDamageLog.record(BOSS_ID, "attacker", 5);
+
+        ArgumentCaptor<Object> args = ArgumentCaptor.forClass(Object.class);
+        verify(jdbcTemplate).update(startsWith("insert into goal_damage_events"), args.capture(), args.capture(),
+                args.capture(), args.capture(), args.capture());
+        assertEquals(List.of(101L, BOSS_ID, "attacker", 5), args.getAllValues().subList(0, 4));
+        assertEquals(5, goalDamageLog.pending(BOSS_ID));
+    }
+
+    @Test
+    void record_inTransaction_countsPendingOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        goalDamageLog.record(BOSS_ID, "attacker", 5);
+
+        verify(jdbcTemplate).update(anyString(), any(), any(), any(), any(), any()); // 호출자 트랜잭션 안에서 바로 INSERT
+        assertEquals(0, goalDamageLog.pending(BOSS_ID));
+        assertEquals(100L, changeSequence.watermark()); // 커밋 전 이벤트 id 는 컴팩터에 보이지 않음
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertEquals(5, goalDamageLog.pending(BOSS_ID));
+        assertEquals(101L, changeSequence.watermark());
+    }
+
+    @Test
+    void record_rolledBack_leavesNoPendingDamage() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        goalDamageLog.record(BOSS_ID, "attacker", 5);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertEquals(0, goalDamageLog.pending(BOSS_ID));
+        assertEquals(101L, changeSequence.watermark());
+    }
+
+    @Test
+    void concurrentAttackers_everyEventInsertedOnceWithDistinctIds() throws Exception {
+        int attackers = 200;
+        int hitsPerAttacker = 100;
+        ExecutorService executor = Executors.newFixedThreadPool(attackers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < attackers; i++) {
+                String firebaseUid = "attacker" + i;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    for (int hit = 0; hit < hitsPerAttacker; hit++) {
+                        goalDamageLog.record(BOSS_ID, firebaseUid, 1);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long hits = (long) attackers * hitsPerAttacker;
+        verify(jdbcTemplate, times((int) hits)).update(anyString(), any(), any(), any(), any(), any());
+        assertEquals(100L + hits, changeSequence.watermark()); // 발급된 id 가 모두 달라 빈틈 없이 이어짐
+        assertEquals(hits, goalDamageLog.pending(BOSS_ID)); // 컴팩션 전까지는 모두 pending
+    }
+
+    @Test
+    void adjustPending_afterCompaction() {
+        goalDamageLog.record(BOSS_ID, "a", 10);
+
+        goalDamageLog.adjustPending(BOSS_ID, -10);
+
+        assertEquals(0, goalDamageLog.pending(BOSS_ID));
+        assertEquals(0, goalDamageLog.pending(2L));
+    }
+
+    @Test
+    void adjustPending_removesGoalOnceFullyReleased() {
+        goalDamageLog.adjustPending(BOSS_ID, 10);
+        goalDamageLog.adjustPending(2L, 5);
+
+        goalDamageLog.adjustPending(BOSS_ID, -10);
+        goalDamageLog.adjustPending(2L, -8); // 카운터보다 많이 빼도 0 에서 멈추고 제거
+        goalDamageLog.adjustPending(3L, -4); // 카운터에 없던 goal 은 그대로 없음
+
+        assertEquals(0, goalDamageLog.trackedGoals());
+        assertEquals(0, goalDamageLog.pending(2L));
+        assertEquals(0, goalDamageLog.pending(3L));
+    }
+}
@@ -0,0 +1,99 @@
+package com.goalraiders.backend.service;
+
+import com.goalraiders.backend.Goal;
+import com.goalraiders.backend.GoalDamageEventRepository;
+import com.goalraiders.backend.GoalRepository;
+import com.goalraiders.backend.OutboxEvent;
+import com.goalraiders.backend.OutboxEventType;
+import com.goalraiders.backend.User;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GoalDefeatedHandlerTest {
+
+    @Mock
+    private GoalRepository goalRepository;
+
+    @Mock
+    private GoalDamageEventRepository goalDamageEventRepository;
+
+    @Spy
+    private GameRuleBook gameRuleBook = TestGameRules.ruleBook();
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private LiveEventHub liveEventHub;
+
+    @InjectMocks
+    private GoalDefeatedHandler goalDefeatedHandler;
+
+    @Test
+    void handle_enqueuesXpAwardPerDistinctAttacker() {
+        Goal boss = new Goal();
+        boss.setStatus("Epic");
+        when(goalRepository.findById(1L)).thenReturn(Optional.of(boss));
+        when(goalDamageEventRepository.findAttackerUids(1L)).thenReturn(List.of("a", "b"));
+
+        goalDefeatedHandler.handle(defeated(1L));
+
+        verify(outboxService, times(1)).enqueue(OutboxEventType.XP_AWARD, 1L, "a", 250);
+        verify(outboxService, times(1)).enqueue(OutboxEventType.XP_AWARD, 1L, "b", 250);
+    }
+
+    @Test
+    void handle_notifiesOwnerAndAttackersOnce() {
+        User owner = new User();
+        owner.setFirebaseUid("a");
+        Goal boss = new Goal();
+        boss.setStatus("Epic");
+        boss.setUser(owner);
+        when(goalRepository.findById(1L)).thenReturn(Optional.of(boss));
+        when(goalDamageEventRepository.findAttackerUids(1L)).thenReturn(List.of("a", "b"));
+
+        goalDefeatedHandler.handle(defeated(1L));
+
+        verify(liveEventHub, times(1)).publish(eq("a"), eq("goal-defeated"), any());
+        verify(liveEventHub, times(1)).publish(eq("b"), eq("goal-defeated"), any());
+    }
+
+    @Test
+    void handle_unknownDifficultyAwardsNothing() {
+        Goal boss = new Goal();
+        boss.setStatus("Legendary"); // 검증 도입 전에 저장된 값
+        when(goalRepository.findById(1L)).thenReturn(Optional.of(boss));
+
+        goalDefeatedHandler.handle(defeated(1L));
+
+        verify(goalDamageEventRepository, never()).findAttackerUids(anyLong());
+        verify(outboxService, never()).enqueue(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void handle_deletedGoalAwardsNothing() {
+        when(goalRepository.findById(1L)).thenReturn(Optional.empty());
+
+        goalDefeatedHandler.handle(defeated(1L));
+
+        verify(goalDamageEventRepository, never()).findAttackerUids(anyLong());
+        verify(outboxService, never()).enqueue(any(), any(), any(), anyInt());
+    }
+
+    private static OutboxEvent defeated(Long goalId) {
+        OutboxEvent event = new OutboxEvent();
+        event.setType(OutboxEventType.GOAL_DEFEATED);
+        event.setAggregateId(goalId);
+        return event;
+    }
+}
@@ -2,24 +2,31 @@ package com.goalraiders.backend.service;
 
 import com.goalraiders.backend.Goal;
 import com.goalraiders.backend.GoalRepository;
+import com.goalraiders.backend.SyncEntityType;
+import com.goalraiders.backend.SyncTombstone;
+import com.goalraiders.backend.SyncTombstoneRepository;
 import com.goalraiders.backend.User;
-import com.goalraiders.backend.config.GameConfigProperties;
+import com.goalraiders.backend.dto.CursorPage;
 import com.goalraiders.backend.dto.GoalDto;
+import com.goalraiders.backend.dto.GoalHpEventDto;
 import com.goalraiders.backend.dto.mapper.GoalMapper;
 import com.goalraiders.backend.exception.InvalidInputException;
 import com.goalraiders.backend.exception.ResourceNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDate;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -33,16 +40,32 @@ class GoalServiceTest {
     @Mock
     private UserService userService;
 
-    @Mock
-    private GameConfigProperties gameConfigProperties;
+    @Spy
+    private GameRuleBook gameRuleBook = TestGameRules.ruleBook();
 
     @Mock
     private GoalMapper goalMapper;
 
+    @Mock
+    private GoalDamageLog goalDamageLog;
+
+    @Mock
+    private UserDataVersions userDataVersions;
+
+    @Mock
+    private ChangeSequence changeSequence;
+
+    @Mock
+    private SyncTombstoneRepository syncTombstoneRepository;
+
+    @Mock
+    private LiveEventHub liveEventHub;
+
     @InjectMocks
     private GoalService goalService;
 
     private User currentUser;
+    private CurrentUser cachedUser;
     private Goal testGoal;
     private GoalDto testGoalDto;
 
@@ -70,68 +93,86 @@ class GoalServiceTest {
         testGoalDto.setMaxHp(100);
         testGoalDto.setCurrentHp(100);
 
-        when(userService.getCurrentUserEntity()).thenReturn(currentUser);
-        when(goalMapper.toDto(any(Goal.class))).thenReturn(testGoalDto);
-        when(goalMapper.toEntity(any(GoalDto.class))).thenReturn(testGoal);
-        doNothing().when(goalMapper).updateGoalFromDto(any(GoalDto.class), any(Goal.class));
-
-        HashMap<String, Integer> bossHpMap = new HashMap<>();
-        bossHpMap.put("Medium", 100);
-        when(gameConfigProperties.getBossHpMap()).thenReturn(bossHpMap);
-
-        HashMap<String, Integer> damageMap = new HashMap<>();
-        damageMap.put("Easy", 5);
-        damageMap.put("Medium", 10);
-        when(gameConfigProperties.getDifficultyDamageMap()).thenReturn(damageMap);
+        cachedUser = CurrentUser.of(currentUser);
+        lenient().when(userService.getCurrentUser()).thenReturn(cachedUser);
+        lenient().when(userService.getCurrentUserEntity()).thenReturn(currentUser); // create 에서만 사용
+        lenient().when(goalMapper.toDto(any(Goal.class))).thenReturn(testGoalDto);
+        lenient().when(goalMapper.toEntity(any(GoalDto.class))).thenReturn(testGoal);
     }
 
     @Test
     void getAllGoalsForCurrentUser() {
-        List<Goal> goals = Arrays.asList(testGoal);
-        when(goalRepository.findByUserFirebaseUid(currentUser.getFirebaseUid())).thenReturn(goals);
+        List<GoalDto> goals = Arrays.asList(testGoalDto);
+        when(goalRepository.findGoalDtosByUserFirebaseUid(currentUser.getFirebaseUid())).thenReturn(goals);
 
         List<GoalDto> result = goalService.getAllGoalsForCurrentUser();
 
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(testGoalDto.getTitle(), result.get(0).getTitle());
-        verify(goalRepository, times(1)).findByUserFirebaseUid(currentUser.getFirebaseUid());
-        verify(goalMapper, times(1)).toDto(testGoal);
+        verify(goalRepository, times(1)).findGoalDtosByUserFirebaseUid(currentUser.getFirebaseUid());
+        verify(goalMapper, never()).toDto(any(Goal.class));
+    }
+
+    @Test
+    void getGoalsPage_returnsNextCursorWhenMoreRows() {
+        GoalDto second = new GoalDto();
+        second.setId(2L);
+        when(goalRepository.findGoalDtoPage(currentUser.getId(), 0L, PageRequest.of(0, 2)))
+                .thenReturn(Arrays.asList(testGoalDto, second));
+
+        CursorPage<GoalDto> page = goalService.getGoalsPageForCurrentUser(null, 1);
+
+        assertEquals(1, page.getItems().size());
+        assertEquals(testGoalDto.getId(), page.getItems().get(0).getId());
+        assertNotNull(page.getNextCursor());
+        verify(goalMapper, never()).toDto(any(Goal.class));
     }
 
     @Test
     void getGoalById_success() {
-        when(goalRepository.findById(1L)).thenReturn(Optional.of(testGoal));
+        when(goalRepository.findDetailByIdAndUserId(1L, currentUser.getId())).thenReturn(Optional.of(testGoal));
 
         GoalDto result = goalService.getGoalById(1L);
 
         assertNotNull(result);
         assertEquals(testGoalDto.getTitle(), result.getTitle());
-        verify(goalRepository, times(1)).findById(1L);
+        verify(goalRepository, times(1)).findDetailByIdAndUserId(1L, currentUser.getId());
         verify(goalMapper, times(1)).toDto(testGoal);
     }
 
     @Test
     void getGoalById_notFound() {
-        when(goalRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(goalRepository.findDetailByIdAndUserId(anyLong(), anyLong())).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> goalService.getGoalById(1L));
-        verify(goalRepository, times(1)).findById(1L);
+        verify(goalRepository, times(1)).findDetailByIdAndUserId(1L, currentUser.getId());
         verify(goalMapper, never()).toDto(any(Goal.class));
     }
 
     @Test
     void getGoalById_accessDenied() {
-        User otherUser = new User();
-        otherUser.setFirebaseUid("otherUid");
-        testGoal.setUser(otherUser);
-        when(goalRepository.findById(1L)).thenReturn(Optional.of(testGoal));
+        // 다른 사용자의 row 는 소유자 조건 때문에 조회되지 않음
+        when(goalRepository.findDetailByIdAndUserId(1L, currentUser.getId())).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> goalService.getGoalById(1L));
-        verify(goalRepository, times(1)).findById(1L);
+        verify(goalRepository, times(1)).findDetailByIdAndUserId(1L, currentUser.getId());
         verify(goalMapper, never()).toDto(any(Goal.class));
     }
 
+    @Test
+    void getGoalTree_notFound() {
+        when(goalRepository.findSubtreeRows(1L, currentUser.getId(), GoalTreeAssembler.DEFAULT_MAX_DEPTH)).thenReturn(List.of());
+
+        assertThrows(ResourceNotFoundException.class, () -> goalService.getGoalTree(1L, null));
+    }
+
+    @Test
+    void getGoalTree_invalidDepth() {
+        assertThrows(InvalidInputException.class, () -> goalService.getGoalTree(1L, GoalTreeAssembler.MAX_DEPTH_LIMIT + 1));
+        verify(goalRepository, never()).findSubtreeRows(anyLong(), anyLong(), anyInt());
+    }
+
     @Test
     void createGoal_noParent() {
         when(goalRepository.save(any(Goal.class))).thenReturn(testGoal);
@@ -143,6 +184,38 @@ class GoalServiceTest {
         verify(goalRepository, times(1)).save(any(Goal.class));
         verify(goalMapper, times(1)).toEntity(testGoalDto);
         verify(goalMapper, times(1)).toDto(testGoal);
+        verify(userService, times(1)).getCurrentUserEntity(); // 소유자는 트랜잭션 안에서 얻은 엔티티 참조로 설정
+    }
+
+    @Test
+    void createGoal_stampsChangeSequence() {
+        when(changeSequence.next()).thenReturn(42L);
+        when(goalRepository.save(any(Goal.class))).thenReturn(testGoal);
+
+        goalService.createGoal(testGoalDto);
+
+        assertEquals(42L, testGoal.getChangeSeq());
+    }
+
+    @Test
+    void createGoal_defaultMaxHpFromBossTable() {
+        testGoalDto.setMaxHp(0);
+        testGoalDto.setStatus("epic");
+        when(goalRepository.save(any(Goal.class))).thenReturn(testGoal);
+
+        goalService.createGoal(testGoalDto);
+
+        assertEquals("Epic", testGoalDto.getStatus()); // 요청 단계에서 label 로 정규화
+        assertEquals(500, testGoal.getMaxHp());
+        assertEquals(500, testGoal.getCurrentHp());
+    }
+
+    @Test
+    void createGoal_unknownStatusRejected() {
+        testGoalDto.setStatus("Legendary");
+
+        assertThrows(InvalidInputException.class, () -> goalService.createGoal(testGoalDto));
+        verify(goalRepository, never()).save(any(Goal.class));
     }
 
     @Test
@@ -152,24 +225,24 @@ class GoalServiceTest {
         parentGoal.setUser(currentUser);
         testGoalDto.setParentGoalId("2");
 
-        when(goalRepository.findById(2L)).thenReturn(Optional.of(parentGoal));
+        when(goalRepository.findByIdAndUserId(2L, currentUser.getId())).thenReturn(Optional.of(parentGoal));
         when(goalRepository.save(any(Goal.class))).thenReturn(testGoal);
 
         GoalDto result = goalService.createGoal(testGoalDto);
 
         assertNotNull(result);
         assertEquals(testGoalDto.getTitle(), result.getTitle());
-        verify(goalRepository, times(1)).findById(2L);
+        verify(goalRepository, times(1)).findByIdAndUserId(2L, currentUser.getId());
         verify(goalRepository, times(1)).save(any(Goal.class));
     }
 
     @Test
     void createGoal_withParent_invalidParent() {
         testGoalDto.setParentGoalId("99");
-        when(goalRepository.findById(99L)).thenReturn(Optional.empty());
+        when(goalRepository.findByIdAndUserId(99L, currentUser.getId())).thenReturn(Optional.empty());
 
         assertThrows(InvalidInputException.class, () -> goalService.createGoal(testGoalDto));
-        verify(goalRepository, times(1)).findById(99L);
+        verify(goalRepository, times(1)).findByIdAndUserId(99L, currentUser.getId());
         verify(goalRepository, never()).save(any(Goal.class));
     }
 
@@ -184,14 +257,21 @@ class GoalServiceTest {
         updatedDto.setCurrentHp(150);
         updatedDto.setUserId(currentUser.getFirebaseUid());
 
-        when(goalRepository.findById(1L)).thenReturn(Optional.of(testGoal));
+        when(goalRepository.findDetailByIdAndUserId(1L, currentUser.getId())).thenReturn(Optional.of(testGoal));
         when(goalRepository.save(any(Goal.class))).thenReturn(testGoal);
+        doAnswer(invocation -> {
+            GoalDto source = invocation.getArgument(0);
+            Goal target = invocation.getArgument(1);
+            target.setTitle(source.getTitle());
+            target.setDescription(source.getDescription());
+            return null;
+        }).when(goalMapper).updateGoalFromDto(any(GoalDto.class), any(Goal.class));
 
         GoalDto result = goalService.updateGoal(1L, updatedDto);
 
         assertNotNull(result);
-        assertEquals(updatedDto.getTitle(), result.getTitle());
-        verify(goalRepository, times(1)).findById(1L);
+        assertEquals("Updated Goal", testGoal.getTitle()); // 저장 전에 DTO 값이 엔티티에 반영됨
+        verify(goalRepository, times(1)).findDetailByIdAndUserId(1L, currentUser.getId());
         verify(goalRepository, times(1)).save(testGoal);
         verify(goalMapper, times(1)).updateGoalFromDto(updatedDto, testGoal);
         verify(goalMapper, times(1)).toDto(testGoal);
@@ -199,104 +279,176 @@ class GoalServiceTest {
 
     @Test
     void updateGoal_notFound() {
-        when(goalRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(goalRepository.findDetailByIdAndUserId(anyLong(), anyLong())).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> goalService.updateGoal(1L, testGoalDto));
-        verify(goalRepository, times(1)).findById(1L);
+        verify(goalRepository, times(1)).findDetailByIdAndUserId(1L, currentUser.getId());
         verify(goalRepository, never()).save(any(Goal.class));
     }
 
     @Test
     void updateGoal_accessDenied() {
-        User otherUser = new User();
-        otherUser.setId(2L);
-        testGoal.setUser(otherUser);
-        when(goalRepository.findById(1L)).thenReturn(Optional.of(testGoal));
+        // 다른 사용자의 row 는 소유자 조건 때문에 조회되지 않음
+        when(goalRepository.findDetailByIdAndUserId(1L, currentUser.getId())).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> goalService.updateGoal(1L, testGoalDto));
-        verify(goalRepository, times(1)).findById(1L);
+        verify(goalRepository, times(1)).findDetailByIdAndUserId(1L, currentUser.getId());
         verify(goalRepository, never()).save(any(Goal.class));
     }
 
     @Test
     void deleteGoal_success() {
-        when(goalRepository.findById(1L)).thenReturn(Optional.of(testGoal));
+        when(goalRepository.findDetailByIdAndUserId(1L, currentUser.getId())).thenReturn(Optional.of(testGoal));
         doNothing().when(goalRepository).delete(testGoal);
 
         goalService.deleteGoal(1L);
 
-        verify(goalRepository, times(1)).findById(1L);
+        verify(goalRepository, times(1)).findDetailByIdAndUserId(1L, currentUser.getId());
         verify(goalRepository, times(1)).delete(testGoal);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void deleteGoal_recordsTombstonesForCascadedSubGoals() {
+        Goal child = new Goal();
+        child.setId(2L);
+        Goal grandChild = new Goal();
+        grandChild.setId(3L);
+        child.getSubGoals().add(grandChild);
+        testGoal.getSubGoals().add(child);
+        when(goalRepository.findDetailByIdAndUserId(1L, currentUser.getId())).thenReturn(Optional.of(testGoal));
+        when(changeSequence.next()).thenReturn(42L);
+
+        goalService.deleteGoal(1L);
+
+        ArgumentCaptor<List<SyncTombstone>> tombstones = ArgumentCaptor.forClass(List.class);
+        verify(syncTombstoneRepository).saveAll(tombstones.capture());
+        assertEquals(List.of(1L, 2L, 3L), tombstones.getValue().stream().map(SyncTombstone::getEntityId).toList());
+        assertTrue(tombstones.getValue().stream().allMatch(t -> t.getEntityType() == SyncEntityType.GOAL
+                && t.getChangeSeq() == 42L && t.getUserId().equals(currentUser.getId())));
+    }
+
     @Test
     void deleteGoal_notFound() {
-        when(goalRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(goalRepository.findDetailByIdAndUserId(anyLong(), anyLong())).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> goalService.deleteGoal(1L));
-        verify(goalRepository, times(1)).findById(1L);
+        verify(goalRepository, times(1)).findDetailByIdAndUserId(1L, currentUser.getId());
         verify(goalRepository, never()).delete(any(Goal.class));
     }
 
     @Test
     void deleteGoal_accessDenied() {
-        User otherUser = new User();
-        otherUser.setFirebaseUid("otherUid");
-        testGoal.setUser(otherUser);
-        when(goalRepository.findById(1L)).thenReturn(Optional.of(testGoal));
+        // 다른 사용자의 row 는 소유자 조건 때문에 조회되지 않음
+        when(goalRepository.findDetailByIdAndUserId(1L, currentUser.getId())).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> goalService.deleteGoal(1L));
-        verify(goalRepository, times(1)).findById(1L);
+        verify(goalRepository, times(1)).findDetailByIdAndUserId(1L, currentUser.getId());
         verify(goalRepository, never()).delete(any(Goal.class));
     }
 
     @Test
     void applyDamageToGoal_success() {
         testGoal.setCurrentHp(50);
-        when(goalRepository.findById(1L)).thenReturn(Optional.of(testGoal));
-        when(goalRepository.save(any(Goal.class))).thenReturn(testGoal);
+        testGoalDto.setCurrentHp(50);
+        when(goalRepository.findDetailByIdAndUserId(1L, currentUser.getId())).thenReturn(Optional.of(testGoal));
+        when(goalDamageLog.pending(1L)).thenReturn(10L);
 
         GoalDto result = goalService.applyDamageToGoal(1L, "Medium");
 
-        assertNotNull(result);
-        assertEquals(40, testGoal.getCurrentHp()); // 50 - 10 (Medium damage)
-        verify(goalRepository, times(1)).findById(1L);
-        verify(goalRepository, times(1)).save(testGoal);
-        verify(goalMapper, times(1)).toDto(testGoal);
+        assertEquals(40, result.getCurrentHp()); // 스냅샷 50 - 미반영 10
+        assertEquals(50, testGoal.getCurrentHp()); // goal 행은 갱신하지 않음
+        verify(goalRepository, times(1)).findDetailByIdAndUserId(1L, currentUser.getId());
+        verify(goalDamageLog, times(1)).record(1L, currentUser.getFirebaseUid(), 10); // Medium damage
+        verify(goalRepository, never()).save(any(Goal.class));
+        verify(userService, never()).addExperience(anyString(), anyInt());
     }
 
     @Test
     void applyDamageToGoal_hpDoesNotGoBelowZero() {
-        testGoal.setCurrentHp(5);
-        when(goalRepository.findById(1L)).thenReturn(Optional.of(testGoal));
-        when(goalRepository.save(any(Goal.class))).thenReturn(testGoal);
+        testGoalDto.setCurrentHp(5);
+        when(goalRepository.findDetailByIdAndUserId(1L, currentUser.getId())).thenReturn(Optional.of(testGoal));
+        when(goalDamageLog.pending(1L)).thenReturn(10L);
 
         GoalDto result = goalService.applyDamageToGoal(1L, "Medium");
 
-        assertNotNull(result);
-        assertEquals(0, testGoal.getCurrentHp()); // 5 - 10 = -5, clamped to 0
-        verify(goalRepository, times(1)).findById(1L);
-        verify(goalRepository, times(1)).save(testGoal);
+        assertEquals(0, result.getCurrentHp()); // 5 - 10 = -5, clamped to 0
+    }
+
+    @Test
+    void dealDamage_zeroDamageRecordsNothing() {
+        goalService.dealDamage(testGoal, cachedUser, 0);
+
+        verify(goalDamageLog, never()).record(anyLong(), anyString(), anyInt());
+        verifyNoInteractions(liveEventHub);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void dealDamage_publishesHpIncludingThisHit() {
+        testGoal.setCurrentHp(50);
+
+        goalService.dealDamage(testGoal, cachedUser, 10);
+
+        ArgumentCaptor<Supplier<?>> payload = ArgumentCaptor.forClass(Supplier.class);
+        verify(liveEventHub).publish(eq("testFirebaseUid"), eq("goal-hp"), payload.capture());
+        when(goalDamageLog.pending(1L)).thenReturn(10L); // 커밋 후 계산 시점에는 이번 데미지가 pending 에 있음
+        GoalHpEventDto event = (GoalHpEventDto) payload.getValue().get();
+        assertEquals(1L, event.getGoalId());
+        assertEquals(40, event.getCurrentHp());
+        assertEquals(100, event.getMaxHp());
+        assertFalse(event.isDefeated());
+    }
+
+    @Test
+    void getAllGoals_subtractsPendingDamage() {
+        when(goalRepository.findGoalDtosByUserFirebaseUid(currentUser.getFirebaseUid())).thenReturn(List.of(testGoalDto));
+        when(goalDamageLog.pending(1L)).thenReturn(30L);
+
+        List<GoalDto> result = goalService.getAllGoalsForCurrentUser();
+
+        assertEquals(70, result.get(0).getCurrentHp());
+    }
+
+    @Test
+    void updateGoal_keepsSnapshotHp() {
+        testGoalDto.setParentGoalId(null);
+        testGoalDto.setCurrentHp(1);
+        testGoal.setCurrentHp(80);
+        when(goalRepository.findDetailByIdAndUserId(1L, currentUser.getId())).thenReturn(Optional.of(testGoal));
+        doAnswer(invocation -> {
+            testGoal.setCurrentHp(testGoalDto.getCurrentHp());
+            return null;
+        }).when(goalMapper).updateGoalFromDto(testGoalDto, testGoal);
+        when(goalRepository.save(any(Goal.class))).thenReturn(testGoal);
+
+        goalService.updateGoal(1L, testGoalDto);
+
+        assertEquals(80, testGoal.getCurrentHp()); // 클라이언트가 보낸 HP 로 스냅샷을 덮어쓰지 않음
+    }
+
+    @Test
+    void applyDamageToGoal_unknownDifficultyRejected() {
+        assertThrows(InvalidInputException.class, () -> goalService.applyDamageToGoal(1L, "Legendary"));
+        verify(goalDamageLog, never()).record(anyLong(), anyString(), anyInt());
     }
 
     @Test
     void applyDamageToGoal_notFound() {
-        when(goalRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(goalRepository.findDetailByIdAndUserId(anyLong(), anyLong())).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> goalService.applyDamageToGoal(1L, "Medium"));
-        verify(goalRepository, times(1)).findById(1L);
+        verify(goalRepository, times(1)).findDetailByIdAndUserId(1L, currentUser.getId());
         verify(goalRepository, never()).save(any(Goal.class));
     }
 
     @Test
     void applyDamageToGoal_accessDenied() {
-        User otherUser = new User();
-        otherUser.setFirebaseUid("otherUid");
-        testGoal.setUser(otherUser);
-        when(goalRepository.findById(1L)).thenReturn(Optional.of(testGoal));
+        // 다른 사용자의 row 는 소유자 조건 때문에 조회되지 않음
+        when(goalRepository.findDetailByIdAndUserId(1L, currentUser.getId())).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> goalService.applyDamageToGoal(1L, "Medium"));
-        verify(goalRepository, times(1)).findById(1L);
+        verify(goalRepository, times(1)).findDetailByIdAndUserId(1L, currentUser.getId());
         verify(goalRepository, never()).save(any(Goal.class));
     }
 }
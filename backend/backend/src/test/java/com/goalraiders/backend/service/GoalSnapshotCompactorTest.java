@@ -0,0 +1,189 @@
+package com.goalraiders.backend.service;
+
+import com.goalraiders.backend.GoalDamageEventRepository;
+import com.goalraiders.backend.GoalRepository;
+import com.goalraiders.backend.OutboxEventType;
+import com.goalraiders.backend.dto.GoalDamageTotal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GoalSnapshotCompactorTest {
+
+    @Mock
+    private GoalRepository goalRepository;
+
+    @Mock
+    private GoalDamageEventRepository goalDamageEventRepository;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private GoalDamageLog goalDamageLog;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private GoalSnapshotCompactor compactor;
+
+    @BeforeEach
+    void setUp() {
+        compactor = new GoalSnapshotCompactor(goalRepository, goalDamageEventRepository, outboxService,
+                goalDamageLog, new ChangeSequence(1000L), transactionManager, 100);
+    }
+
+    @Test
+    void init_restoresWatermarkAndPendingDamage() {
+        when(goalRepository.findMaxSnapshotEventId()).thenReturn(42L);
+        when(goalDamageEventRepository.sumUnsnapshottedDamageByGoal()).thenReturn(List.of(total(1L, 30L)));
+
+        compactor.init();
+
+        assertEquals(42L, compactor.watermark());
+        verify(goalDamageLog).adjustPending(1L, 30L);
+    }
+
+    @Test
+    void compact_foldsEventsIntoSnapshotAndReleasesPending() {
+        when(goalDamageEventRepository.findMaxId()).thenReturn(10L);
+        when(goalDamageEventRepository.sumDamageByGoal(0L, 10L)).thenReturn(List.of(total(1L, 25L), total(2L, 5L)));
+        when(goalRepository.applySnapshot(eq(1L), eq(25), eq(10L), anyLong())).thenReturn(1);
+        when(goalRepository.applySnapshot(eq(2L), eq(5), eq(10L), anyLong())).thenReturn(1);
+        when(goalRepository.markDefeated(anyLong())).thenReturn(0);
+
+        compactor.compact();
+
+        assertEquals(10L, compactor.watermark());
+        verify(goalDamageLog).adjustPending(1L, -25L);
+        verify(goalDamageLog).adjustPending(2L, -5L);
+        verify(outboxService, never()).enqueue(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void compact_defeatIsHandedToOutboxInsteadOfRewardingInline() {
+        when(goalDamageEventRepository.findMaxId()).thenReturn(3L);
+        when(goalDamageEventRepository.sumDamageByGoal(0L, 3L)).thenReturn(List.of(total(1L, 100L)));
+        when(goalRepository.applySnapshot(eq(1L), eq(100), eq(3L), anyLong())).thenReturn(1);
+        when(goalRepository.markDefeated(1L)).thenReturn(1);
+
+        compactor.compact();
+
+        verify(outboxService, times(1)).enqueue(OutboxEventType.GOAL_DEFEATED, 1L, null, 0);
+        verify(goalDamageEventRepository, never()).findAttackerUids(anyLong());
+    }
+
+    @Test
+    void compact_deletedGoalStillReleasesPending() {
+        when(goalDamageEventRepository.findMaxId()).thenReturn(10L);
+        when(goalDamageEventRepository.sumDamageByGoal(0L, 10L)).thenReturn(List.of(total(1L, 25L)));
+        when(goalRepository.applySnapshot(eq(1L), eq(25), eq(10L), anyLong())).thenReturn(0); // goal 이 삭제됨
+
+        compactor.compact();
+
+        assertEquals(10L, compactor.watermark());
+        verify(goalRepository, never()).markDefeated(anyLong());
+        verify(goalDamageLog).adjustPending(1L, -25L);
+    }
+
+    @Test
+    void compact_rolledBackCommitRestoresPending() {
+        when(goalDamageEventRepository.findMaxId()).thenReturn(10L);
+        when(goalDamageEventRepository.sumDamageByGoal(0L, 10L)).thenReturn(List.of(total(1L, 25L)));
+        when(goalRepository.applySnapshot(eq(1L), eq(25), eq(10L), anyLong())).thenReturn(1);
+        when(goalRepository.markDefeated(1L)).thenReturn(0);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            compactor.compact();
+            // 커밋 전에 이미 해제됨. 커밋이 실패하면 다시 더함
+            verify(goalDamageLog).adjustPending(1L, -25L);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(goalDamageLog).adjustPending(1L, 25L);
+    }
+
+    @Test
+    void compact_catchesUpInBatches() {
+        when(goalDamageEventRepository.findMaxId()).thenReturn(250L);
+        when(goalDamageEventRepository.findIdAtOffset(0L, 250L, 99)).thenReturn(100L);
+        when(goalDamageEventRepository.findIdAtOffset(100L, 250L, 99)).thenReturn(200L);
+        when(goalDamageEventRepository.sumDamageByGoal(anyLong(), anyLong())).thenReturn(List.of());
+
+        compactor.compact();
+
+        assertEquals(250L, compactor.watermark());
+        verify(goalDamageEventRepository).sumDamageByGoal(0L, 100L);
+        verify(goalDamageEventRepository).sumDamageByGoal(100L, 200L);
+        verify(goalDamageEventRepository).sumDamageByGoal(200L, 250L);
+    }
+
+    // 먼저 발급된 이벤트 id 의 트랜잭션이 아직 커밋되지 않았으면 그 아래까지만 접고, 커밋된 뒤 나머지를 접음
+    @Test
+    void compact_stopsBelowUncommittedEventId() {
+        ChangeSequence changeSequence = new ChangeSequence(10L);
+        compactor = new GoalSnapshotCompactor(goalRepository, goalDamageEventRepository, outboxService,
+                goalDamageLog, changeSequence, transactionManager, 100);
+        TransactionSynchronizationManager.initSynchronization();
+        List<TransactionSynchronization> slowTransaction;
+        try {
+            changeSequence.next(); // 11: 아직 커밋 전
+            slowTransaction = TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        changeSequence.next(); // 12: 먼저 커밋됨
+        when(goalDamageEventRepository.findMaxId()).thenReturn(12L);
+        when(goalDamageEventRepository.sumDamageByGoal(anyLong(), anyLong())).thenReturn(List.of());
+
+        compactor.compact();
+        assertEquals(10L, compactor.watermark());
+
+        slowTransaction.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        compactor.compact();
+        assertEquals(12L, compactor.watermark());
+        verify(goalDamageEventRepository).sumDamageByGoal(0L, 10L);
+        verify(goalDamageEventRepository).sumDamageByGoal(10L, 12L);
+    }
+
+    @Test
+    void compact_failureKeepsWatermark() {
+        when(goalDamageEventRepository.findMaxId()).thenReturn(10L);
+        when(goalDamageEventRepository.sumDamageByGoal(0L, 10L)).thenReturn(List.of(total(1L, 25L)));
+        when(goalRepository.applySnapshot(eq(1L), eq(25), eq(10L), anyLong())).thenThrow(new QueryTimeoutException("timeout"));
+
+        compactor.compact();
+
+        assertEquals(0L, compactor.watermark());
+        verify(goalDamageLog, never()).adjustPending(anyLong(), anyLong());
+    }
+
+    private static GoalDamageTotal total(Long goalId, Long damage) {
+        return new GoalDamageTotal() {
+            @Override
+            public Long getGoalId() {
+                return goalId;
+            }
+
+            @Override
+            public Long getDamage() {
+                return damage;
+            }
+        };
+    }
+}
@@ -0,0 +1,143 @@
+package com.goalraiders.backend.service;
+
+import com.goalraiders.backend.dto.GoalTreeDto;
+import com.goalraiders.backend.dto.GoalTreeRow;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GoalTreeAssemblerTest {
+
+    private static final String FIREBASE_UID = "treeFirebaseUid";
+
+    @Test
+    void assemble_tenThousandNodes() {
+        // 루트 + 자식 10개씩, 너비 우선 id 부여 → 10,000 노드 / 각 노드에 task 1개
+        int nodeCount = 10_000;
+        List<GoalTreeRow> rows = new ArrayList<>(nodeCount);
+        int[] depth = new int[nodeCount + 1];
+        for (long id = 1; id <= nodeCount; id++) {
+            Long parentId = id == 1 ? null : (id - 2) / 10 + 1;
+            depth[(int) id] = parentId == null ? 0 : depth[parentId.intValue()] + 1;
+            rows.add(new Row(id, parentId, depth[(int) id], 10, 4, id * 100));
+        }
+
+        long started = System.nanoTime();
+        GoalTreeDto root = assertTimeoutPreemptively(Duration.ofSeconds(2), () -> GoalTreeAssembler.assemble(rows, FIREBASE_UID, id -> 0L));
+        System.out.printf("GoalTreeAssembler: %d nodes assembled in %.2f ms%n", nodeCount, (System.nanoTime() - started) / 1_000_000.0);
+
+        assertEquals(1L, root.getId());
+        assertEquals(10L * nodeCount, root.getTotalMaxHp());
+        assertEquals(4L * nodeCount, root.getTotalCurrentHp());
+        assertEquals(10, root.getSubGoals().size());
+        assertEquals(nodeCount, countNodes(root));
+        assertEquals(1, root.getTasks().size());
+        assertEquals(FIREBASE_UID, root.getTasks().get(0).getUserId());
+        assertEquals("1", root.getTasks().get(0).getGoalId());
+
+        // 두 번째 자식(id 3)의 서브트리: 3 → 22..31 → ...
+        GoalTreeDto child = root.getSubGoals().get(1);
+        assertEquals(3L, child.getId());
+        assertEquals(10L * countNodes(child), child.getTotalMaxHp());
+    }
+
+    @Test
+    void assemble_groupsMultipleTasksPerGoal() {
+        List<GoalTreeRow> rows = List.of(
+                new Row(1L, null, 0, 100, 80, 10L),
+                new Row(1L, null, 0, 100, 80, 11L),
+                new Row(2L, 1L, 1, 50, 0, null));
+
+        GoalTreeDto root = GoalTreeAssembler.assemble(rows, FIREBASE_UID, id -> 0L);
+
+        assertEquals(2, root.getTasks().size());
+        assertEquals(150L, root.getTotalMaxHp());
+        assertEquals(80L, root.getTotalCurrentHp());
+        assertTrue(root.getSubGoals().get(0).getTasks().isEmpty());
+    }
+
+    @Test
+    void assemble_ignoresRowsRepeatedByParentCycle() {
+        // 1 → 2 → 1 순환: 깊이 제한까지 같은 goal 이 반복되어 나옴
+        List<GoalTreeRow> rows = List.of(
+                new Row(1L, 2L, 0, 10, 10, null),
+                new Row(2L, 1L, 1, 10, 10, null),
+                new Row(1L, 2L, 2, 10, 10, null),
+                new Row(2L, 1L, 3, 10, 10, null));
+
+        GoalTreeDto root = GoalTreeAssembler.assemble(rows, FIREBASE_UID, id -> 0L);
+
+        assertEquals(2, countNodes(root));
+        assertEquals(20L, root.getTotalMaxHp());
+    }
+
+    @Test
+    void assemble_subtractsPendingDamageBeforeAggregating() {
+        List<GoalTreeRow> rows = List.of(
+                new Row(1L, null, 0, 100, 100, null),
+                new Row(2L, 1L, 1, 50, 50, null));
+
+        GoalTreeDto root = GoalTreeAssembler.assemble(rows, FIREBASE_UID, id -> id == 2L ? 70L : 0L);
+
+        assertEquals(0, root.getSubGoals().get(0).getCurrentHp()); // 50 - 70 → 0
+        assertEquals(100L, root.getTotalCurrentHp());
+    }
+
+    @Test
+    void assemble_emptyRows() {
+        assertNull(GoalTreeAssembler.assemble(List.of(), FIREBASE_UID, id -> 0L));
+    }
+
+    private int countNodes(GoalTreeDto node) {
+        int count = 0;
+        List<GoalTreeDto> stack = new ArrayList<>(List.of(node));
+        while (!stack.isEmpty()) {
+            GoalTreeDto current = stack.remove(stack.size() - 1);
+            count++;
+            stack.addAll(current.getSubGoals());
+        }
+        return count;
+    }
+
+    private static class Row implements GoalTreeRow {
+        private final Long id;
+        private final Long parentGoalId;
+        private final int depth;
+        private final int maxHp;
+        private final int currentHp;
+        private final Long taskId;
+
+        Row(Long id, Long parentGoalId, int depth, int maxHp, int currentHp, Long taskId) {
+            this.id = id;
+            this.parentGoalId = parentGoalId;
+            this.depth = depth;
+            this.maxHp = maxHp;
+            this.currentHp = currentHp;
+            this.taskId = taskId;
+        }
+
+        public Long getId() { return id; }
+        public String getTitle() { return "Goal " + id; }
+        public String getDescription() { return null; }
+        public String getStatus() { return "Medium"; }
+        public Long getParentGoalId() { return parentGoalId; }
+        public LocalDate getDueDate() { return null; }
+        public Integer getMaxHp() { return maxHp; }
+        public Integer getCurrentHp() { return currentHp; }
+        public Boolean getDefeated() { return currentHp == 0; }
+        public Integer getDepth() { return depth; }
+        public Long getTaskId() { return taskId; }
+        public String getTaskTitle() { return taskId != null ? "Task " + taskId : null; }
+        public Boolean getTaskCompleted() { return taskId != null ? false : null; }
+        public Long getTaskParentTaskId() { return null; }
+        public Integer getTaskRecurrenceDays() { return taskId != null ? 0 : null; }
+        public LocalDate getTaskLastCompleted() { return null; }
+        public String getTaskDifficulty() { return taskId != null ? "Easy" : null; }
+        public LocalDate getTaskNextDueDate() { return null; }
+    }
+}
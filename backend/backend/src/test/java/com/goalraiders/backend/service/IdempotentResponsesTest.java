@@ -0,0 +1,346 @@
+package com.goalraiders.backend.service;
+
+import com.goalraiders.backend.exception.InvalidInputException;
+import com.goalraiders.backend.exception.RequestInProgressException;
+import com.goalraiders.backend.exception.ResourceNotFoundException;
+import com.goalraiders.backend.exception.ServiceBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotentResponsesTest {
+
+    private static final String FINGERPRINT = "POST /api/tasks/1/complete";
+
+    private MutableClock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotentResponses idempotentResponses;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        meterRegistry = new SimpleMeterRegistry();
+        idempotentResponses = new IdempotentResponses(2, Duration.ofMinutes(10), Duration.ofSeconds(5), clock, meterRegistry);
+    }
+
+    @Test
+    void execute_sameKey_replaysFirstResponseWithoutRunningAgain() {
+        AtomicInteger runs = new AtomicInteger();
+
+        ResponseEntity<Integer> first = idempotentResponses.execute("uid-1", "key-1", FINGERPRINT,
+                () -> ResponseEntity.ok(runs.incrementAndGet()));
+        ResponseEntity<Integer> replay = idempotentResponses.execute("uid-1", "key-1", FINGERPRINT,
+                () -> ResponseEntity.ok(runs.incrementAndGet()));
+
+        assertEquals(1, runs.get());
+        assertEquals(1, first.getBody());
+        assertEquals(1, replay.getBody());
+        assertNull(first.getHeaders().getFirst(IdempotentResponses.REPLAYED_HEADER));
+        assertEquals("true", replay.getHeaders().getFirst(IdempotentResponses.REPLAYED_HEADER));
+        assertEquals(1.0, meterRegistry.counter("idempotency.requests", "result", "executed").count());
+        assertEquals(1.0, meterRegistry.counter("idempotency.requests", "result", "replayed").count());
+    }
+
+    @Test
+    void execute_withoutKey_alwaysRuns() {
+        AtomicInteger runs = new AtomicInteger();
+
+        idempotentResponses.execute("uid-1", null, FINGERPRINT, () -> ResponseEntity.ok(runs.incrementAndGet()));
+        idempotentResponses.execute("uid-1", null, FINGERPRINT, () -> ResponseEntity.ok(runs.incrementAndGet()));
+
+        assertEquals(2, runs.get());
+        assertEquals(0, idempotentResponses.size());
+    }
+
+    @Test
+    void execute_keysAreScopedPerUser() {
+        AtomicInteger runs = new AtomicInteger();
+
+        idempotentResponses.execute("uid-1", "key-1", FINGERPRINT, () -> ResponseEntity.ok(runs.incrementAndGet()));
+        ResponseEntity<Integer> other = idempotentResponses.execute("uid-2", "key-1", FINGERPRINT,
+                () -> ResponseEntity.ok(runs.incrementAndGet()));
+
+        assertEquals(2, runs.get());
+        assertEquals(2, other.getBody());
+    }
+
+    @Test
+    void execute_sameKeyForDifferentRequest_throwsInvalidInput() {
+        idempotentResponses.execute("uid-1", "key-1", FINGERPRINT, () -> ResponseEntity.ok(1));
+
+        assertThrows(InvalidInputException.class, () -> idempotentResponses.execute("uid-1", "key-1",
+                "POST /api/goals/1/damage?difficulty=Easy", () -> ResponseEntity.ok(2)));
+    }
+
+    @Test
+    void execute_blankOrTooLongKey_throwsInvalidInput() {
+        assertThrows(InvalidInputException.class,
+                () -> idempotentResponses.execute("uid-1", " ", FINGERPRINT, () -> ResponseEntity.ok(1)));
+        assertThrows(InvalidInputException.class,
+                () -> idempotentResponses.execute("uid-1", "k".repeat(256), FINGERPRINT, () -> ResponseEntity.ok(1)));
+    }
+
+    @Test
+    void execute_failedRun_isNotStoredSoRetryRunsAgain() {
+        assertThrows(ResourceNotFoundException.class, () -> idempotentResponses.execute("uid-1", "key-1", FINGERPRINT,
+                () -> { throw new ResourceNotFoundException("Task not found"); }));
+
+        ResponseEntity<Integer> retry = idempotentResponses.execute("uid-1", "key-1", FINGERPRINT, () -> ResponseEntity.ok(7));
+
+        assertEquals(7, retry.getBody());
+    }
+
+    @Test
+    void execute_afterTtl_runsAgain() {
+        AtomicInteger runs = new AtomicInteger();
+        idempotentResponses.execute("uid-1", "key-1", FINGERPRINT, () -> ResponseEntity.ok(runs.incrementAndGet()));
+
+        clock.advance(Duration.ofMinutes(10));
+        idempotentResponses.execute("uid-1", "key-1", FINGERPRINT, () -> ResponseEntity.ok(runs.incrementAndGet()));
+
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    void evictExpired_removesOnlyExpiredEntries() {
+        idempotentResponses.execute("uid-1", "key-1", FINGERPRINT, () -> ResponseEntity.ok(1));
+        clock.advance(Duration.ofMinutes(5));
+        idempotentResponses.execute("uid-1", "key-2", FINGERPRINT, () -> ResponseEntity.ok(2));
+        clock.advance(Duration.ofMinutes(5));
+
+        idempotentResponses.evictExpired();
+
+        assertEquals(1, idempotentResponses.size());
+        assertEquals(1.0, meterRegistry.get("idempotency.cache.size").gauge().value());
+    }
+
+    @Test
+    void execute_overCapacity_evictsLeastRecentlyUsed() {
+        AtomicInteger runs = new AtomicInteger();
+        idempotentResponses.execute("uid-1", "key-1", FINGERPRINT, () -> ResponseEntity.ok(runs.incrementAndGet()));
+        idempotentResponses.execute("uid-1", "key-2", FINGERPRINT, () -> ResponseEntity.ok(runs.incrementAndGet()));
+        idempotentResponses.execute("uid-1", "key-3", FINGERPRINT, () -> ResponseEntity.ok(runs.incrementAndGet()));
+
+        assertEquals(2, idempotentResponses.size());
+        assertEquals(1.0, meterRegistry.counter("idempotency.evictions").count());
+        idempotentResponses.execute("uid-1", "key-1", FINGERPRINT, () -> ResponseEntity.ok(runs.incrementAndGet()));
+        assertEquals(4, runs.get());
+    }
+
+    @Test
+    void execute_overCapacity_neverEvictsRunningEntry() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<ResponseEntity<Integer>> running = startBlocked(executor, "key-1", runs, release);
+            idempotentResponses.execute("uid-1", "key-2", FINGERPRINT, () -> ResponseEntity.ok(runs.incrementAndGet()));
+            idempotentResponses.execute("uid-1", "key-3", FINGERPRINT, () -> ResponseEntity.ok(runs.incrementAndGet()));
+
+            // 가장 오래된 key-1 은 처리 중이라 남고, 응답이 저장된 key-2 가 대신 밀려남
+            assertEquals(2, idempotentResponses.size());
+            assertEquals(1.0, meterRegistry.counter("idempotency.evictions").count());
+            release.countDown();
+            assertEquals(3, running.get(5, TimeUnit.SECONDS).getBody()); // key-2, key-3 보다 늦게 끝남
+            ResponseEntity<Integer> replay = idempotentResponses.execute("uid-1", "key-1", FINGERPRINT,
+                    () -> ResponseEntity.ok(runs.incrementAndGet()));
+            assertEquals(3, replay.getBody());
+            assertEquals(3, runs.get());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void execute_fullOfRunningEntries_rejectsNewKeyAsBusy() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<ResponseEntity<Integer>> first = startBlocked(executor, "key-1", runs, release);
+            Future<ResponseEntity<Integer>> second = startBlocked(executor, "key-2", runs, release);
+
+            assertThrows(ServiceBusyException.class, () -> idempotentResponses.execute("uid-1", "key-3", FINGERPRINT,
+                    () -> ResponseEntity.ok(runs.incrementAndGet())));
+            assertEquals(0, runs.get()); // key-3 은 실행되지 않음 (앞의 둘은 아직 대기 중)
+            assertEquals(0.0, meterRegistry.counter("idempotency.evictions").count());
+
+            release.countDown();
+            first.get(5, TimeUnit.SECONDS);
+            second.get(5, TimeUnit.SECONDS);
+            assertEquals(2, runs.get());
+            assertEquals(2, idempotentResponses.size());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void execute_duplicateWaitsAtMostWaitTimeout() throws Exception {
+        IdempotentResponses responses = new IdempotentResponses(2, Duration.ofMinutes(10), Duration.ofMillis(50), clock, meterRegistry);
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<ResponseEntity<Integer>> running = executor.submit(() -> responses.execute("uid-1", "key-1", FINGERPRINT, () -> {
+                started.countDown();
+                awaitQuietly(release);
+                return ResponseEntity.ok(runs.incrementAndGet());
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            assertThrows(RequestInProgressException.class, () -> responses.execute("uid-1", "key-1", FINGERPRINT,
+                    () -> ResponseEntity.ok(runs.incrementAndGet())));
+
+            // 대기 시간 초과는 실행 중인 요청과 이후 재시도에 영향을 주지 않음
+            release.countDown();
+            assertEquals(1, running.get(5, TimeUnit.SECONDS).getBody());
+            assertEquals(1, responses.execute("uid-1", "key-1", FINGERPRINT,
+                    () -> ResponseEntity.ok(runs.incrementAndGet())).getBody());
+            assertEquals(1, runs.get());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void fingerprint_includesMethodPathAndQuery() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/goals/3/damage");
+        request.setQueryString("difficulty=Hard");
+
+        assertEquals("POST /api/goals/3/damage?difficulty=Hard", IdempotentResponses.fingerprint(request));
+    }
+
+    // 모바일 재시도처럼 같은 키의 요청이 동시에 몰려도 토글 액션은 키당 한 번만 실행되고 모두 같은 응답을 받는지 확인
+    @Test
+    void replayStress_concurrentDuplicatesRunOncePerKey() throws Exception {
+        int keys = 200;
+        int duplicates = 16;
+        IdempotentResponses responses = new IdempotentResponses(10_000, Duration.ofMinutes(10), Duration.ofSeconds(30), clock, meterRegistry);
+        AtomicBoolean[] completed = new AtomicBoolean[keys];
+        AtomicInteger[] runs = new AtomicInteger[keys];
+        for (int k = 0; k < keys; k++) {
+            completed[k] = new AtomicBoolean();
+            runs[k] = new AtomicInteger();
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ResponseEntity<Boolean>>> futures = new ArrayList<>();
+        List<Integer> keyOfFuture = new ArrayList<>();
+        try {
+            for (int d = 0; d < duplicates; d++) {
+                for (int k = 0; k < keys; k++) {
+                    int key = k;
+                    keyOfFuture.add(key);
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        return responses.execute("uid-1", "key-" + key, FINGERPRINT, () -> {
+                            runs[key].incrementAndGet();
+                            boolean state = !completed[key].get(); // completeTask 처럼 토글
+                            sleepQuietly();
+                            completed[key].set(state);
+                            return ResponseEntity.ok(state);
+                        });
+                    }));
+                }
+            }
+            start.countDown();
+            for (int i = 0; i < futures.size(); i++) {
+                ResponseEntity<Boolean> response = futures.get(i).get(30, TimeUnit.SECONDS);
+                assertEquals(Boolean.TRUE, response.getBody());
+                assertTrue(completed[keyOfFuture.get(i)].get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (int k = 0; k < keys; k++) {
+            assertEquals(1, runs[k].get(), "key-" + k);
+        }
+        double executed = meterRegistry.counter("idempotency.requests", "result", "executed").count();
+        double replayed = meterRegistry.counter("idempotency.requests", "result", "replayed").count();
+        double waited = meterRegistry.counter("idempotency.requests", "result", "waited").count();
+        assertEquals(keys, executed);
+        assertEquals(keys * (duplicates - 1), replayed + waited);
+    }
+
+    // release 될 때까지 처리 중인 상태로 남는 요청을 시작하고, 항목이 등록된 뒤에 돌아옴
+    private Future<ResponseEntity<Integer>> startBlocked(ExecutorService executor, String key, AtomicInteger runs,
+                                                        CountDownLatch release) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        Future<ResponseEntity<Integer>> future = executor.submit(() -> idempotentResponses.execute("uid-1", key, FINGERPRINT, () -> {
+            started.countDown();
+            awaitQuietly(release);
+            return ResponseEntity.ok(runs.incrementAndGet());
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        return future;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleepQuietly() {
+        try {
+            Thread.sleep(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.goalraiders.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goalraiders.backend.Task;
+import com.goalraiders.backend.TaskRepository;
+import com.goalraiders.backend.User;
+import com.goalraiders.backend.dto.TaskDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class JsonArrayStreamsTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setFirebaseUid("streamFirebaseUid");
+        user.setUsername("User_streamF");
+        entityManager.persist(user);
+    }
+
+    @Test
+    void write_matchesListSerialization() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            task("Task " + i);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int count;
+        try (Stream<TaskDto> rows = taskRepository.streamTaskDtosByUserFirebaseUid("streamFirebaseUid")) {
+            count = JsonArrayStreams.write(objectMapper, TaskDto.class, rows, UnaryOperator.identity(), out);
+        }
+
+        List<TaskDto> list = taskRepository.findTaskDtosByUserFirebaseUid("streamFirebaseUid");
+        assertEquals(5, count);
+        assertEquals(objectMapper.readTree(objectMapper.writeValueAsBytes(list)), objectMapper.readTree(out.toByteArray()));
+    }
+
+    @Test
+    void write_emptyStreamIsEmptyArray() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        int count = JsonArrayStreams.write(objectMapper, TaskDto.class, Stream.empty(), UnaryOperator.identity(), out);
+
+        assertEquals(0, count);
+        assertEquals("[]", out.toString());
+    }
+
+    @Test
+    void write_appliesAdjustToEachRow() throws Exception {
+        task("Original");
+        entityManager.flush();
+        entityManager.clear();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (Stream<TaskDto> rows = taskRepository.streamTaskDtosByUserFirebaseUid("streamFirebaseUid")) {
+            JsonArrayStreams.write(objectMapper, TaskDto.class, rows, dto -> {
+                dto.setTitle("Adjusted");
+                return dto;
+            }, out);
+        }
+
+        assertEquals("Adjusted", objectMapper.readTree(out.toByteArray()).get(0).get("title").asText());
+    }
+
+    // 목록을 모아서 직렬화 vs 커서에서 바로 출력할 때의 힙 최고치 비교. -Dbenchmark=true 일 때만 실행하고 수치는 출력만 함
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmark_peakHeapForHundredThousandRows() throws Exception {
+        int rows = 100_000;
+        for (int i = 0; i < rows; i++) {
+            task("Benchmark task " + i);
+            if (i % 1000 == 999) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        String uid = "streamFirebaseUid";
+
+        long listPeak = peakHeap(() -> {
+            List<TaskDto> list = taskRepository.findTaskDtosByUserFirebaseUid(uid);
+            objectMapper.writeValue(OutputStream.nullOutputStream(), list);
+        });
+        long streamPeak = peakHeap(() -> {
+            try (Stream<TaskDto> stream = taskRepository.streamTaskDtosByUserFirebaseUid(uid)) {
+                JsonArrayStreams.write(objectMapper, TaskDto.class, stream, UnaryOperator.identity(), OutputStream.nullOutputStream());
+            }
+        });
+
+        System.out.printf("List response peak heap: %d rows, list %.1f MB, stream %.1f MB%n",
+                rows, listPeak / 1048576.0, streamPeak / 1048576.0);
+        assertTrue(streamPeak > 0 && listPeak > 0);
+    }
+
+    private long peakHeap(HeapWork work) throws Exception {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long baseline = memory.getHeapMemoryUsage().getUsed();
+        AtomicLong peak = new AtomicLong(baseline);
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread sampler = new Thread(() -> {
+            while (running.get()) {
+                peak.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+                Thread.onSpinWait();
+            }
+        }, "heap-sampler");
+        sampler.setDaemon(true);
+        sampler.start();
+        try {
+            work.run();
+        } finally {
+            running.set(false);
+            sampler.join();
+        }
+        entityManager.clear();
+        return peak.get() - baseline;
+    }
+
+    private void task(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDifficulty("Easy");
+        task.setUser(user);
+        entityManager.persist(task);
+    }
+
+    @FunctionalInterface
+    private interface HeapWork {
+        void run() throws Exception;
+    }
+}
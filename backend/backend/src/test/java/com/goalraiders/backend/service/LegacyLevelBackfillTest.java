@@ -0,0 +1,78 @@
+package com.goalraiders.backend.service;
+
+import com.goalraiders.backend.User;
+import com.goalraiders.backend.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 레벨 + 레벨 내 XP 로 저장돼 있던 사용자가 누적 XP 로 옮겨진 뒤에도 같은 레벨을 유지하는지 확인
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // backfill 이 자기 트랜잭션을 커밋하므로 테스트 트랜잭션 없이 실행
+class LegacyLevelBackfillTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private LevelCurve levelCurve;
+    private LegacyLevelBackfill backfill;
+
+    @BeforeEach
+    void setUp() {
+        levelCurve = new LevelCurve(100, 10, 100);
+        backfill = new LegacyLevelBackfill(userRepository, levelCurve, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void backfill_addsThresholdOfStoredLevelAndKeepsLevel() {
+        save("veteran", 7, 30);
+        save("beginner", 1, 40);
+        save("newcomer", null, 0); // 전환 후 가입한 사용자
+
+        backfill.backfill();
+
+        User veteran = userRepository.findByFirebaseUid("veteran").orElseThrow();
+        assertEquals(30 + levelCurve.thresholdFor(7), veteran.getExperience().longValue());
+        assertEquals(7, levelCurve.levelFor(veteran.getExperience()));
+        assertNull(veteran.getLegacyLevel());
+        assertEquals(40, userRepository.findByFirebaseUid("beginner").orElseThrow().getExperience());
+        assertEquals(0, userRepository.findByFirebaseUid("newcomer").orElseThrow().getExperience());
+    }
+
+    @Test
+    void backfill_runTwice_addsOnlyOnce() {
+        save("veteran", 3, 10);
+
+        backfill.backfill();
+        new TransactionTemplate(transactionManager).execute(status -> userRepository.addExperience("veteran", 5)); // 재기동 사이에 받은 XP
+        backfill.backfill();
+
+        assertEquals(10 + levelCurve.thresholdFor(3) + 5,
+                userRepository.findByFirebaseUid("veteran").orElseThrow().getExperience().longValue());
+    }
+
+    private void save(String firebaseUid, Integer legacyLevel, int experience) {
+        User user = new User();
+        user.setFirebaseUid(firebaseUid);
+        user.setUsername("User_" + firebaseUid);
+        user.setExperience(experience);
+        user.setLegacyLevel(legacyLevel);
+        userRepository.save(user);
+    }
+}
@@ -0,0 +1,59 @@
+package com.goalraiders.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LevelCurveTest {
+
+    @Test
+    void flatCurve_matchesOldHundredXpPerLevel() {
+        LevelCurve curve = new LevelCurve(100, 0, 100);
+
+        assertEquals(1, curve.levelFor(0));
+        assertEquals(1, curve.levelFor(99));
+        assertEquals(2, curve.levelFor(100));
+        assertEquals(3, curve.levelFor(250)); // 한 번에 여러 레벨 상승
+        assertEquals(200L, curve.thresholdFor(3));
+        assertEquals(100L, curve.experienceToNextLevel(3));
+    }
+
+    @Test
+    void growingCurve_thresholdsIncreasePerLevel() {
+        LevelCurve curve = new LevelCurve(100, 10, 5);
+
+        // 필요 XP: 100, 110, 121, 133
+        assertEquals(0L, curve.thresholdFor(1));
+        assertEquals(100L, curve.thresholdFor(2));
+        assertEquals(210L, curve.thresholdFor(3));
+        assertEquals(331L, curve.thresholdFor(4));
+        assertEquals(464L, curve.thresholdFor(5));
+        assertEquals(3, curve.levelFor(330));
+        assertEquals(4, curve.levelFor(331));
+    }
+
+    @Test
+    void maxLevel_capsLevelAndNextLevelExperience() {
+        LevelCurve curve = new LevelCurve(100, 0, 10);
+
+        assertEquals(10, curve.levelFor(Long.MAX_VALUE));
+        assertEquals(0L, curve.experienceToNextLevel(10));
+        assertEquals(10, curve.maxLevel());
+    }
+
+    @Test
+    void steepCurve_saturatesInsteadOfOverflowing() {
+        LevelCurve curve = new LevelCurve(Integer.MAX_VALUE, 1000, 100);
+
+        for (int level = 2; level <= curve.maxLevel(); level++) {
+            assertTrue(curve.thresholdFor(level) >= curve.thresholdFor(level - 1));
+        }
+        assertEquals(1, curve.levelFor(-5));
+    }
+
+    @Test
+    void invalidCurve() {
+        assertThrows(IllegalArgumentException.class, () -> new LevelCurve(0, 10, 100));
+        assertThrows(IllegalArgumentException.class, () -> new LevelCurve(100, -1, 100));
+    }
+}
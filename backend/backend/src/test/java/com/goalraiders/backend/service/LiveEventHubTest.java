@@ -0,0 +1,230 @@
+package com.goalraiders.backend.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LiveEventHubTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void publishDeliversOnlyToThatUsersConnections() {
+        LiveEventHub hub = hub(8, 5, Runnable::run);
+        RecordingEmitter mine = new RecordingEmitter();
+        RecordingEmitter other = new RecordingEmitter();
+        hub.subscribe("a", mine);
+        hub.subscribe("b", other);
+
+        hub.publish("a", "goal-hp", () -> "payload");
+
+        assertEquals(List.of(":connected", "event:goal-hp"), mine.sent);
+        assertEquals(List.of(":connected"), other.sent);
+    }
+
+    @Test
+    void publishWithoutSubscribersDoesNotBuildPayload() {
+        LiveEventHub hub = hub(8, 5, Runnable::run);
+        AtomicBoolean built = new AtomicBoolean();
+
+        hub.publish("a", "xp", () -> {
+            built.set(true);
+            return "payload";
+        });
+
+        assertFalse(built.get());
+    }
+
+    @Test
+    void slowConsumerIsEvictedWhenBufferFills() {
+        List<Runnable> stalled = new ArrayList<>(); // 전송이 전혀 진행되지 않는 클라이언트
+        LiveEventHub hub = hub(2, 5, stalled::add);
+        RecordingEmitter slow = new RecordingEmitter();
+        hub.subscribe("a", slow); // connected 1 건
+
+        hub.publish("a", "goal-hp", () -> "1"); // 버퍼 2/2
+        assertFalse(slow.completed);
+        hub.publish("a", "goal-hp", () -> "2"); // 넘침
+
+        assertEquals(0, hub.connectionCount());
+        assertEquals(1.0, meterRegistry.counter("live.events.evicted").count());
+        assertEquals(1, stalled.size()); // 연결당 대기 작업은 하나뿐
+        assertFalse(slow.completed); // 전송이 예약돼 있으므로 발행한 쪽이 아니라 sender 가 닫음
+
+        stalled.get(0).run();
+
+        assertTrue(slow.completed);
+        assertEquals(List.of(), slow.sent); // 밀려난 뒤에는 남은 이벤트를 보내지 않음
+    }
+
+    @Test
+    void failedSendRemovesConnection() {
+        LiveEventHub hub = hub(8, 5, Runnable::run);
+        RecordingEmitter gone = new RecordingEmitter();
+        hub.subscribe("a", gone);
+        gone.failing = true; // 클라이언트가 끊음
+
+        hub.heartbeat();
+
+        assertEquals(0, hub.connectionCount());
+        hub.heartbeat(); // 정리된 연결에는 더 보내지 않음
+        assertEquals(List.of(":connected"), gone.sent);
+    }
+
+    @Test
+    void heartbeatReachesEveryConnection() {
+        LiveEventHub hub = hub(8, 5, Runnable::run);
+        RecordingEmitter first = new RecordingEmitter();
+        RecordingEmitter second = new RecordingEmitter();
+        hub.subscribe("a", first);
+        hub.subscribe("b", second);
+
+        hub.heartbeat();
+
+        assertEquals(List.of(":connected", ":heartbeat"), first.sent);
+        assertEquals(List.of(":connected", ":heartbeat"), second.sent);
+    }
+
+    @Test
+    void oldestConnectionClosedAboveUserLimit() {
+        LiveEventHub hub = hub(8, 2, Runnable::run);
+        RecordingEmitter oldest = new RecordingEmitter();
+        hub.subscribe("a", oldest);
+        hub.subscribe("a", new RecordingEmitter());
+
+        hub.subscribe("a", new RecordingEmitter());
+
+        assertTrue(oldest.completed);
+        assertEquals(2, hub.connectionCount());
+    }
+
+    // 소켓 쓰기가 멈춘 클라이언트가 sender 스레드 수만큼 있어도 다른 연결에는 계속 전달되는지 확인
+    @Test
+    void stalledWritesAreEvictedWithoutBlockingOtherConnections() throws Exception {
+        ThreadPoolExecutor senders = new ThreadPoolExecutor(2, 2, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        LiveEventHub hub = new LiveEventHub(meterRegistry, 8, 5, Duration.ofMinutes(30), Duration.ofMillis(50), senders, 8);
+        CountDownLatch unblock = new CountDownLatch(1);
+        try {
+            List<BlockingEmitter> slow = List.of(new BlockingEmitter(unblock), new BlockingEmitter(unblock));
+            for (int i = 0; i < slow.size(); i++) {
+                hub.subscribe("slow" + i, slow.get(i)); // 두 sender 가 모두 connected 쓰기에서 멈춤
+            }
+            for (BlockingEmitter emitter : slow) {
+                assertTrue(emitter.writing.await(5, TimeUnit.SECONDS));
+            }
+            List<CountingEmitter> fast = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                CountingEmitter emitter = new CountingEmitter(2);
+                fast.add(emitter);
+                hub.subscribe("fast" + i, emitter);
+                hub.publish("fast" + i, "goal-hp", () -> "payload");
+            }
+            assertEquals(2, fast.get(0).delivered.getCount()); // 멈춘 쓰기 뒤에서 대기 중
+
+            Thread.sleep(100); // send-timeout 경과
+            hub.evictStalledSenders();
+
+            for (CountingEmitter emitter : fast) {
+                assertTrue(emitter.delivered.await(5, TimeUnit.SECONDS));
+            }
+            assertEquals(10, hub.connectionCount());
+            assertEquals(2.0, meterRegistry.counter("live.events.evicted").count());
+            assertEquals(4, senders.getCorePoolSize()); // 묶인 스레드만큼 늘어남
+            assertFalse(slow.get(0).completed); // 멈춘 쓰기와 같은 잠금을 쓰므로 아직 닫지 않음
+
+            unblock.countDown(); // 쓰기가 (타임아웃 등으로) 끝나면 그 sender 가 닫고 풀은 원래 크기로
+            for (BlockingEmitter emitter : slow) {
+                assertTrue(emitter.closed.await(5, TimeUnit.SECONDS));
+            }
+            hub.evictStalledSenders();
+            assertEquals(2, senders.getCorePoolSize());
+            assertEquals(0.0, meterRegistry.get("live.events.stalled.sends").gauge().value());
+        } finally {
+            unblock.countDown();
+            senders.shutdownNow();
+        }
+    }
+
+    private LiveEventHub hub(int bufferSize, int maxConnectionsPerUser, Executor senders) {
+        return new LiveEventHub(meterRegistry, bufferSize, maxConnectionsPerUser, Duration.ofMinutes(30), Duration.ofSeconds(5),
+                senders, 64);
+    }
+
+    // 클라이언트가 읽지 않아 소켓 쓰기가 멈춘 상황. unblock 전까지 send 에서 돌아오지 않음
+    private static class BlockingEmitter extends SseEmitter {
+        private final CountDownLatch unblock;
+        private final CountDownLatch writing = new CountDownLatch(1);
+        private final CountDownLatch closed = new CountDownLatch(1);
+        private volatile boolean completed;
+
+        BlockingEmitter(CountDownLatch unblock) {
+            this.unblock = unblock;
+        }
+
+        @Override
+        public synchronized void send(SseEventBuilder builder) throws IOException {
+            writing.countDown();
+            try {
+                unblock.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+            closed.countDown();
+        }
+    }
+
+    private static class CountingEmitter extends SseEmitter {
+        private final CountDownLatch delivered;
+
+        CountingEmitter(int expected) {
+            this.delivered = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            delivered.countDown();
+        }
+    }
+
+    // 실제 응답 대신 보낸 이벤트의 첫 줄(주석 또는 이벤트 이름)만 기록
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<String> sent = new ArrayList<>();
+        private boolean failing;
+        private boolean completed;
+
+        @Override
+        public synchronized void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            String text = builder.build().stream()
+                    .map(part -> part.getData() instanceof String value ? value : "")
+                    .collect(Collectors.joining());
+            sent.add(text.lines().findFirst().orElse(""));
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.goalraiders.backend.service;
+
+import com.goalraiders.backend.OutboxEvent;
+import com.goalraiders.backend.OutboxEventRepository;
+import com.goalraiders.backend.OutboxEventType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class OutboxDispatcherTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private OutboxEventRepository outboxEventRepository;
+    private OutboxHandler xpHandler;
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventRepository = mock(OutboxEventRepository.class);
+        xpHandler = mock(OutboxHandler.class);
+        when(xpHandler.type()).thenReturn(OutboxEventType.XP_AWARD);
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new OutboxDispatcher(outboxEventRepository, List.of(xpHandler), mock(PlatformTransactionManager.class),
+                meterRegistry, 2, 2, 4, 5, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.close();
+    }
+
+    @Test
+    void dispatch_processesBatchesUntilCaughtUp() {
+        List<OutboxEvent> first = List.of(event(1L, OutboxEventType.XP_AWARD), event(2L, OutboxEventType.XP_AWARD));
+        List<OutboxEvent> second = List.of(event(3L, OutboxEventType.XP_AWARD));
+        when(outboxEventRepository.findPending(eq(5), any(Pageable.class))).thenReturn(first, second);
+        when(outboxEventRepository.markProcessed(anyLong(), eq(NOW))).thenReturn(1);
+
+        dispatcher.dispatch();
+
+        verify(xpHandler, times(3)).handle(any(OutboxEvent.class));
+        verify(outboxEventRepository, times(2)).findPending(eq(5), any(Pageable.class)); // 두 번째 배치가 덜 차서 종료
+        assertEquals(3.0, meterRegistry.counter("outbox.events.processed", "type", "XP_AWARD").count());
+        assertEquals(3L, meterRegistry.timer("outbox.dispatch.lag").count());
+        assertEquals(3.0, meterRegistry.timer("outbox.dispatch.lag").max(TimeUnit.SECONDS)); // 생성 3초 후 처리
+        assertEquals(3000.0, meterRegistry.get("outbox.pending.age").gauge().value());
+    }
+
+    @Test
+    void process_alreadyClaimedEventIsSkipped() {
+        when(outboxEventRepository.markProcessed(1L, NOW)).thenReturn(0);
+
+        assertFalse(dispatcher.process(event(1L, OutboxEventType.XP_AWARD)));
+
+        verify(xpHandler, never()).handle(any());
+    }
+
+    @Test
+    void process_failedHandlerCountsAttempt() {
+        OutboxEvent event = event(1L, OutboxEventType.XP_AWARD);
+        when(outboxEventRepository.markProcessed(1L, NOW)).thenReturn(1);
+        doThrow(new IllegalStateException("boom")).when(xpHandler).handle(event);
+
+        assertFalse(dispatcher.process(event));
+
+        verify(outboxEventRepository, times(1)).incrementAttempts(1L);
+        assertEquals(1.0, meterRegistry.counter("outbox.events.failed").count());
+    }
+
+    @Test
+    void dispatch_stopsWhenWholeBatchFails() {
+        List<OutboxEvent> batch = new ArrayList<>(List.of(event(1L, OutboxEventType.GOAL_DEFEATED), event(2L, OutboxEventType.GOAL_DEFEATED)));
+        when(outboxEventRepository.findPending(eq(5), any(Pageable.class))).thenReturn(batch);
+        when(outboxEventRepository.markProcessed(anyLong(), eq(NOW))).thenReturn(1);
+
+        dispatcher.dispatch(); // GOAL_DEFEATED 핸들러가 없어 모두 실패
+
+        verify(outboxEventRepository, times(1)).findPending(eq(5), any(Pageable.class));
+        verify(outboxEventRepository, times(2)).incrementAttempts(anyLong());
+    }
+
+    private static OutboxEvent event(Long id, OutboxEventType type) {
+        OutboxEvent event = new OutboxEvent();
+        event.setId(id);
+        event.setType(type);
+        event.setFirebaseUid("attacker" + id);
+        event.setAmount(50);
+        event.setCreatedAt(NOW.minusSeconds(3));
+        return event;
+    }
+}
@@ -0,0 +1,100 @@
+package com.goalraiders.backend.service;
+
+import com.goalraiders.backend.GoalRepository;
+import com.goalraiders.backend.User;
+import com.goalraiders.backend.dto.GoalDto;
+import com.goalraiders.backend.exception.InvalidInputException;
+import com.goalraiders.backend.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RaidServiceTest {
+
+    @Mock
+    private GoalRepository goalRepository;
+
+    @Mock
+    private UserService userService;
+
+    @Spy
+    private GameRuleBook gameRuleBook = TestGameRules.ruleBook();
+
+    @Mock
+    private GoalDamageLog goalDamageLog;
+
+    @Mock
+    private UserDataVersions userDataVersions;
+
+    @Mock
+    private LiveEventHub liveEventHub;
+
+    @InjectMocks
+    private RaidService raidService;
+
+    private User attacker;
+    private GoalDto boss;
+
+    @BeforeEach
+    void setUp() {
+        attacker = new User();
+        attacker.setId(2L);
+        attacker.setFirebaseUid("attackerUid");
+
+        boss = new GoalDto();
+        boss.setId(1L);
+        boss.setStatus("Medium");
+        boss.setMaxHp(100);
+        boss.setCurrentHp(100);
+        boss.setRaid(true);
+        boss.setUserId("ownerUid");
+
+        lenient().when(userService.getCurrentUser()).thenReturn(CurrentUser.of(attacker));
+    }
+
+    @Test
+    void attack_recordsEventWithoutTouchingGoalRow() {
+        when(goalRepository.findRaidGoalDtoById(1L)).thenReturn(Optional.of(boss));
+        when(goalDamageLog.pending(1L)).thenReturn(20L, 30L); // 공격 전 20, 이번 공격 포함 30
+
+        GoalDto result = raidService.attack(1L, "Medium");
+
+        assertEquals(70, result.getCurrentHp()); // 스냅샷 100 - 미반영 30
+        verify(goalDamageLog, times(1)).record(1L, "attackerUid", 10);
+        verify(userDataVersions, times(1)).bump("ownerUid"); // 보스 소유자의 목록이 바뀜
+        verify(liveEventHub, times(1)).publish(eq("ownerUid"), eq("goal-hp"), any());
+        verify(goalRepository, never()).save(any());
+    }
+
+    @Test
+    void attack_defeatedBoss() {
+        when(goalRepository.findRaidGoalDtoById(1L)).thenReturn(Optional.of(boss));
+        when(goalDamageLog.pending(1L)).thenReturn(100L); // 스냅샷에는 아직 없지만 누적 데미지로 이미 HP 0
+
+        assertThrows(InvalidInputException.class, () -> raidService.attack(1L, "Medium"));
+        verify(goalDamageLog, never()).record(anyLong(), anyString(), anyInt());
+    }
+
+    @Test
+    void attack_unknownDifficultyRejected() {
+        assertThrows(InvalidInputException.class, () -> raidService.attack(1L, "Legendary"));
+        verify(goalDamageLog, never()).record(anyLong(), anyString(), anyInt());
+    }
+
+    @Test
+    void attack_notRaidGoal() {
+        when(goalRepository.findRaidGoalDtoById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> raidService.attack(1L, "Medium"));
+    }
+}
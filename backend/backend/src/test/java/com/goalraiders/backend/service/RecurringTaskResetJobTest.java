@@ -0,0 +1,157 @@
+package com.goalraiders.backend.service;
+
+import com.goalraiders.backend.Task;
+import com.goalraiders.backend.TaskRepository;
+import com.goalraiders.backend.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class RecurringTaskResetJobTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 10);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private MutableClock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private RecurringTaskResetJob job;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(TODAY.atTime(12, 0).toInstant(ZoneOffset.UTC));
+        meterRegistry = new SimpleMeterRegistry();
+        job = new RecurringTaskResetJob(taskRepository, new UserDataVersions(0L), new ChangeSequence(0L), transactionManager, meterRegistry, 3, clock);
+
+        user = new User();
+        user.setFirebaseUid("resetFirebaseUid");
+        user.setUsername("User_resetFir");
+        entityManager.persist(user);
+    }
+
+    @Test
+    void resetDueTasks_resetsOnlyDueTasksInChunks() {
+        for (int i = 0; i < 7; i++) {
+            recurring(TODAY.minusDays(i % 3)); // 오늘 ~ 이틀 전 도래
+        }
+        Long futureId = recurring(TODAY.plusDays(2));
+        Long oneOffId = task(true, 0, null);
+        entityManager.flush();
+        entityManager.clear();
+
+        int reset = job.resetDueTasks();
+
+        entityManager.clear();
+        assertEquals(7, reset);
+        assertEquals(7, taskRepository.findAll().stream().filter(task -> !task.isCompleted()).count());
+        assertTrue(taskRepository.findAll().stream().filter(task -> !task.isCompleted())
+                .allMatch(task -> task.getLastCompleted() == null && task.getNextDueDate() == null && task.getChangeSeq() > 0));
+        assertTrue(taskRepository.findById(futureId).orElseThrow().isCompleted());
+        assertTrue(taskRepository.findById(oneOffId).orElseThrow().isCompleted());
+        assertEquals(0L, taskRepository.findById(oneOffId).orElseThrow().getChangeSeq()); // 다음 동기화에 포함되지 않음
+        assertEquals(7.0, meterRegistry.counter("tasks.recurring.reset").count());
+        // 가장 오래된 예정일(이틀 전 00:00)부터 지금(오늘 12:00)까지
+        assertEquals(Duration.ofHours(60).getSeconds(), meterRegistry.get("tasks.recurring.reset.lag").gauge().value());
+
+        clock.advance(Duration.ofDays(2));
+        assertEquals(1, job.resetDueTasks());
+        entityManager.clear();
+        assertFalse(taskRepository.findById(futureId).orElseThrow().isCompleted());
+    }
+
+    @Test
+    void resetDueTasks_nothingDue() {
+        recurring(TODAY.plusDays(1));
+        entityManager.flush();
+
+        assertEquals(0, job.resetDueTasks());
+        assertEquals(0.0, meterRegistry.get("tasks.recurring.reset.lag").gauge().value());
+    }
+
+    @Test
+    void backfill_fillsNextDueDateForCompletedRecurringTasks() {
+        Long taskId = task(true, 3, TODAY.minusDays(1));
+        Long incompleteId = task(false, 3, null);
+        entityManager.flush();
+        entityManager.clear();
+
+        job.backfill();
+
+        entityManager.clear();
+        assertEquals(TODAY.plusDays(2), taskRepository.findById(taskId).orElseThrow().getNextDueDate());
+        assertNull(taskRepository.findById(incompleteId).orElseThrow().getNextDueDate());
+    }
+
+    private Long recurring(LocalDate nextDueDate) {
+        Task task = new Task();
+        task.setTitle("Recurring");
+        task.setDifficulty("Easy");
+        task.setUser(user);
+        task.setCompleted(true);
+        task.setRecurrenceDays(1);
+        task.setLastCompleted(nextDueDate.minusDays(1));
+        task.setNextDueDate(nextDueDate);
+        return entityManager.persist(task).getId();
+    }
+
+    private Long task(boolean completed, int recurrenceDays, LocalDate lastCompleted) {
+        Task task = new Task();
+        task.setTitle("Task");
+        task.setDifficulty("Easy");
+        task.setUser(user);
+        task.setCompleted(completed);
+        task.setRecurrenceDays(recurrenceDays);
+        task.setLastCompleted(lastCompleted);
+        return entityManager.persist(task).getId();
+    }
+
+    // 테스트에서 시간을 앞으로 돌릴 수 있는 Clock
+    private static class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.goalraiders.backend.service;
+
+import com.goalraiders.backend.GoalRepository;
+import com.goalraiders.backend.SyncEntityType;
+import com.goalraiders.backend.SyncTombstone;
+import com.goalraiders.backend.SyncTombstoneRepository;
+import com.goalraiders.backend.TaskRepository;
+import com.goalraiders.backend.User;
+import com.goalraiders.backend.dto.GoalDto;
+import com.goalraiders.backend.dto.SyncChangesDto;
+import com.goalraiders.backend.dto.TaskDto;
+import com.goalraiders.backend.exception.InvalidInputException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SyncServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private GoalRepository goalRepository;
+
+    @Mock
+    private SyncTombstoneRepository syncTombstoneRepository;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private GoalService goalService;
+
+    @Mock
+    private ChangeSequence changeSequence;
+
+    @InjectMocks
+    private SyncService syncService;
+
+    private User currentUser;
+
+    @BeforeEach
+    void setUp() {
+        currentUser = new User();
+        currentUser.setId(1L);
+        currentUser.setFirebaseUid("testFirebaseUid");
+    }
+
+    @Test
+    void getChangesSince_returnsChangedRowsAndTombstones() {
+        when(userService.getCurrentUser()).thenReturn(CurrentUser.of(currentUser));
+        when(changeSequence.watermark()).thenReturn(500L);
+        TaskDto task = new TaskDto();
+        task.setId(7L);
+        GoalDto goal = new GoalDto();
+        goal.setId(8L);
+        when(taskRepository.findTaskDtosChangedSince(1L, 300L)).thenReturn(List.of(task));
+        when(goalRepository.findGoalDtosChangedSince(1L, 300L)).thenReturn(List.of(goal));
+        when(syncTombstoneRepository.findChangedSince(1L, 300L))
+                .thenReturn(List.of(tombstone(SyncEntityType.TASK, 3L), tombstone(SyncEntityType.GOAL, 4L)));
+
+        SyncChangesDto changes = syncService.getChangesSince(300L);
+
+        assertEquals(500L, changes.getVersion());
+        assertEquals(List.of(task), changes.getTasks());
+        assertEquals(List.of(goal), changes.getGoals());
+        assertEquals(List.of(3L), changes.getDeletedTaskIds());
+        assertEquals(List.of(4L), changes.getDeletedGoalIds());
+        verify(goalService).applyPendingDamage(goal);
+    }
+
+    @Test
+    void getChangesSince_withoutSinceReturnsEverything() {
+        when(userService.getCurrentUser()).thenReturn(CurrentUser.of(currentUser));
+        when(changeSequence.watermark()).thenReturn(500L);
+
+        syncService.getChangesSince(null);
+
+        // 컬럼 추가 전 행(changeSeq = 0)도 포함
+        verify(taskRepository).findTaskDtosChangedSince(1L, -1L);
+        verify(goalRepository).findGoalDtosChangedSince(1L, -1L);
+        verify(syncTombstoneRepository).findChangedSince(1L, -1L);
+    }
+
+    @Test
+    void getChangesSince_negativeSinceRejected() {
+        assertThrows(InvalidInputException.class, () -> syncService.getChangesSince(-5L));
+        verifyNoInteractions(taskRepository, goalRepository, syncTombstoneRepository);
+    }
+
+    private static SyncTombstone tombstone(SyncEntityType type, Long entityId) {
+        SyncTombstone tombstone = new SyncTombstone();
+        tombstone.setUserId(1L);
+        tombstone.setEntityType(type);
+        tombstone.setEntityId(entityId);
+        return tombstone;
+    }
+}
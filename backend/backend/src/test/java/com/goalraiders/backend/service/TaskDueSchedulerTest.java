@@ -0,0 +1,127 @@
+package com.goalraiders.backend.service;
+
+import com.goalraiders.backend.TaskRepository;
+import com.goalraiders.backend.dto.TaskDueDate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TaskDueSchedulerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 10);
+
+    private TaskRepository taskRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private Clock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private TaskDueScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository = mock(TaskRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        clock = mock(Clock.class);
+        when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+        setNow(TODAY.atTime(9, 0).toInstant(ZoneOffset.UTC));
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new TaskDueScheduler(taskRepository, eventPublisher, meterRegistry, 1000L, 2, clock);
+    }
+
+    @Test
+    void tick_publishesEventWhenDueDateArrives() {
+        scheduler.update(1L, TODAY.plusDays(1));
+
+        scheduler.tick();
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+
+        setNow(TODAY.plusDays(1).atStartOfDay().toInstant(ZoneOffset.UTC));
+        scheduler.tick();
+
+        ArgumentCaptor<TaskDueEvent> event = ArgumentCaptor.forClass(TaskDueEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(event.capture());
+        assertEquals(1L, event.getValue().getTaskId());
+        assertEquals(TODAY.plusDays(1), event.getValue().getDueDate());
+        assertEquals(1.0, meterRegistry.counter("tasks.due.events").count());
+        assertFalse(scheduler.isScheduled(1L));
+    }
+
+    @Test
+    void cancel_removesPendingEvent() {
+        scheduler.update(1L, TODAY.plusDays(1));
+        scheduler.cancel(1L);
+
+        setNow(TODAY.plusDays(2).atStartOfDay().toInstant(ZoneOffset.UTC));
+        scheduler.tick();
+
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void load_readsKeysetPagesWithoutOverwritingNewerSchedules() {
+        when(taskRepository.findDueDatesAfter(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(row(1L, TODAY.plusDays(3)), row(2L, TODAY.plusDays(1))));
+        when(taskRepository.findDueDatesAfter(eq(2L), any(Pageable.class)))
+                .thenReturn(List.of(row(5L, TODAY.plusDays(1))));
+        scheduler.update(1L, TODAY.plusDays(1)); // 적재 전에 사용자가 다시 완료한 task
+
+        scheduler.load();
+
+        assertEquals(3, scheduler.size());
+        setNow(TODAY.plusDays(1).atStartOfDay().toInstant(ZoneOffset.UTC));
+        scheduler.tick();
+        verify(eventPublisher, times(3)).publishEvent(any(TaskDueEvent.class));
+    }
+
+    // 첫 페이지를 읽은 직후에 task 2 의 삭제가 커밋된 경우. 이미 읽은 행으로 다시 예약되면 안 됨
+    @Test
+    void load_cancelCommittedAfterPageRead_isNotRescheduled() {
+        when(taskRepository.findDueDatesAfter(eq(0L), any(Pageable.class))).thenAnswer(invocation -> {
+            scheduler.update(1L, TODAY.plusDays(5));
+            scheduler.cancel(2L);
+            return List.of(row(1L, TODAY.plusDays(1)), row(2L, TODAY.plusDays(1)));
+        });
+        when(taskRepository.findDueDatesAfter(eq(2L), any(Pageable.class))).thenReturn(List.of());
+
+        scheduler.load();
+
+        assertFalse(scheduler.isScheduled(2L));
+        assertEquals(1, scheduler.size());
+        setNow(TODAY.plusDays(1).atStartOfDay().toInstant(ZoneOffset.UTC));
+        scheduler.tick();
+        verify(eventPublisher, never()).publishEvent(any(Object.class)); // task 1 도 새 예정일(5일 뒤) 유지
+
+        scheduler.update(2L, TODAY.plusDays(2)); // 적재가 끝나면 기록은 비워지고 평소처럼 예약
+        assertTrue(scheduler.isScheduled(2L));
+    }
+
+    private void setNow(Instant now) {
+        when(clock.millis()).thenReturn(now.toEpochMilli());
+        when(clock.instant()).thenReturn(now);
+    }
+
+    private static TaskDueDate row(Long id, LocalDate nextDueDate) {
+        return new TaskDueDate() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDate getNextDueDate() {
+                return nextDueDate;
+            }
+        };
+    }
+}
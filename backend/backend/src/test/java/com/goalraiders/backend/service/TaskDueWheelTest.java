@@ -0,0 +1,132 @@
+package com.goalraiders.backend.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskDueWheelTest {
+
+    private static final long TICK = 1000L;
+    private static final long DAY = 24 * 3600 * 1000L;
+
+    @Test
+    void firesAtDeadlineNotBefore() {
+        TaskDueWheel wheel = new TaskDueWheel(TICK, 0L);
+        List<Long> fired = new ArrayList<>();
+        wheel.schedule(1L, 5_000L);
+
+        wheel.advance(4_999L, fired::add);
+        assertTrue(fired.isEmpty());
+
+        wheel.advance(5_000L, fired::add);
+        assertEquals(List.of(1L), fired);
+        assertFalse(wheel.isScheduled(1L));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void rescheduleAndCancelDropStaleEntries() {
+        TaskDueWheel wheel = new TaskDueWheel(TICK, 0L);
+        List<Long> fired = new ArrayList<>();
+        wheel.schedule(1L, 5_000L);
+        wheel.schedule(1L, 20 * DAY); // 다시 완료해서 예정일이 미뤄짐
+        wheel.schedule(2L, 5_000L);
+        wheel.cancel(2L);
+
+        wheel.advance(DAY, fired::add);
+        assertTrue(fired.isEmpty());
+
+        wheel.advance(20 * DAY, fired::add);
+        assertEquals(List.of(1L), fired); // 옛 예약은 한 번도 만료되지 않음
+    }
+
+    @Test
+    void pastDeadlineFiresOnNextTick() {
+        TaskDueWheel wheel = new TaskDueWheel(TICK, 10 * DAY);
+        List<Long> fired = new ArrayList<>();
+        wheel.schedule(7L, 0L);
+
+        wheel.advance(10 * DAY + TICK, fired::add);
+
+        assertEquals(List.of(7L), fired);
+    }
+
+    // 세 단을 모두 거치는 예약이 무작위 재예약/취소와 섞여도 정확히 한 번, 자기 tick 에 만료되는지
+    @Test
+    void randomSchedules_matchBruteForce() {
+        TaskDueWheel wheel = new TaskDueWheel(TICK, 0L);
+        Random random = new Random(7);
+        Map<Long, Long> expected = new HashMap<>();
+        long horizon = 40 * DAY; // 2단(약 12일)을 넘겨 3단까지 사용
+        for (long id = 1; id <= 20_000; id++) {
+            long deadline = (long) (random.nextDouble() * horizon);
+            wheel.schedule(id, deadline);
+            expected.put(id, deadline);
+        }
+        for (long id = 1; id <= 20_000; id += 7) {
+            long deadline = (long) (random.nextDouble() * horizon);
+            wheel.schedule(id, deadline);
+            expected.put(id, deadline);
+        }
+        for (long id = 3; id <= 20_000; id += 11) {
+            wheel.cancel(id);
+            expected.remove(id);
+        }
+
+        Map<Long, Long> firedAt = new HashMap<>();
+        long step = 60_000L;
+        for (long now = 0; now <= horizon + step; now += step) {
+            long at = now;
+            wheel.advance(now, id -> assertNull(firedAt.put(id, at), "fired twice: " + id));
+        }
+
+        assertEquals(expected.keySet(), firedAt.keySet());
+        expected.forEach((id, deadline) -> {
+            long dueTick = Math.floorDiv(deadline, TICK) * TICK;
+            long at = firedAt.get(id);
+            assertTrue(at >= dueTick && at - dueTick < step, "task " + id + " fired at " + at + " for " + deadline);
+        });
+        assertEquals(0, wheel.size());
+    }
+
+    // 벤치마크 하네스가 없어 -Dbenchmark=true 일 때만 실행하고 수치는 출력만 함
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmark_fiveMillionEntries() {
+        int entries = 5_000_000;
+        long tick = 60_000L;
+        long year = 365 * DAY;
+        Random random = new Random(42);
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long heapBefore = runtime.totalMemory() - runtime.freeMemory();
+
+        TaskDueWheel wheel = new TaskDueWheel(tick, 0L);
+        long started = System.nanoTime();
+        for (long id = 1; id <= entries; id++) {
+            wheel.schedule(id, (long) (random.nextDouble() * year));
+        }
+        long scheduleNanos = System.nanoTime() - started;
+        long footprint = wheel.footprintBytes();
+        System.gc();
+        long heapAfter = runtime.totalMemory() - runtime.freeMemory();
+
+        long[] fired = {0};
+        started = System.nanoTime();
+        wheel.advance(year + tick, id -> fired[0]++);
+        long advanceNanos = System.nanoTime() - started;
+
+        System.out.printf("TaskDueWheel: %d entries, schedule %.0f ns/op, advance %.0f ns/fired, "
+                        + "arrays %d MB (%.1f B/entry), heap delta %d MB%n",
+                entries, scheduleNanos / (double) entries, advanceNanos / (double) entries,
+                footprint >> 20, footprint / (double) entries, (heapAfter - heapBefore) >> 20);
+        assertEquals(entries, fired[0]);
+    }
+}
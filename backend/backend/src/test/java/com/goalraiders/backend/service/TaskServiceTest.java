@@ -1,7 +1,7 @@
 package com.goalraiders.backend.service;
 
 import com.goalraiders.backend.*;
-import com.goalraiders.backend.config.GameConfigProperties;
+import com.goalraiders.backend.dto.CursorPage;
 import com.goalraiders.backend.dto.TaskDto;
 import com.goalraiders.backend.dto.mapper.TaskMapper;
 import com.goalraiders.backend.exception.InvalidInputException;
@@ -9,13 +9,15 @@ import com.goalraiders.backend.exception.ResourceNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDate;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,15 +37,31 @@ class TaskServiceTest {
     private UserService userService;
 
     @Mock
-    private GameConfigProperties gameConfigProperties;
+    private GoalService goalService;
+
+    @Spy
+    private GameRuleBook gameRuleBook = TestGameRules.ruleBook();
 
     @Mock
     private TaskMapper taskMapper;
 
+    @Mock
+    private TaskDueScheduler taskDueScheduler;
+
+    @Mock
+    private UserDataVersions userDataVersions;
+
+    @Mock
+    private ChangeSequence changeSequence;
+
+    @Mock
+    private SyncTombstoneRepository syncTombstoneRepository;
+
     @InjectMocks
     private TaskService taskService;
 
     private User currentUser;
+    private CurrentUser cachedUser;
     private Task testTask;
     private TaskDto testTaskDto;
     private Goal testGoal;
@@ -54,7 +72,6 @@ class TaskServiceTest {
         currentUser.setId(1L);
         currentUser.setFirebaseUid("testFirebaseUid");
         currentUser.setExperience(0);
-        currentUser.setLevel(1);
 
         testGoal = new Goal();
         testGoal.setId(10L);
@@ -83,65 +100,99 @@ class TaskServiceTest {
         testTaskDto.setUserId("testFirebaseUid");
         testTaskDto.setGoalId("10");
 
-        when(userService.getCurrentUserEntity()).thenReturn(currentUser);
-        when(taskMapper.toDto(any(Task.class))).thenReturn(testTaskDto);
-        when(taskMapper.toEntity(any(TaskDto.class))).thenReturn(testTask);
-        doNothing().when(taskMapper).updateTaskFromDto(any(TaskDto.class), any(Task.class));
-
-        HashMap<String, Integer> damageMap = new HashMap<>();
-        damageMap.put("Easy", 5);
-        damageMap.put("Medium", 10);
-        when(gameConfigProperties.getDifficultyDamageMap()).thenReturn(damageMap);
-
-        HashMap<String, Integer> xpRewardMap = new HashMap<>();
-        xpRewardMap.put("Medium", 50);
-        when(gameConfigProperties.getBossXpRewardMap()).thenReturn(xpRewardMap);
+        // 공용 스텁이라 쓰지 않는 테스트(입력 검증 실패 등)도 있음
+        cachedUser = CurrentUser.of(currentUser);
+        lenient().when(userService.getCurrentUser()).thenReturn(cachedUser);
+        lenient().when(userService.getCurrentUserEntity()).thenReturn(currentUser); // create 에서만 사용
+        lenient().when(taskMapper.toDto(any(Task.class))).thenReturn(testTaskDto);
+        lenient().when(taskMapper.toEntity(any(TaskDto.class))).thenReturn(testTask);
     }
 
     @Test
     void getAllTasksForCurrentUser() {
-        List<Task> tasks = Arrays.asList(testTask);
-        when(taskRepository.findByUserFirebaseUid(currentUser.getFirebaseUid())).thenReturn(tasks);
+        List<TaskDto> tasks = Arrays.asList(testTaskDto);
+        when(taskRepository.findTaskDtosByUserFirebaseUid(currentUser.getFirebaseUid())).thenReturn(tasks);
 
         List<TaskDto> result = taskService.getAllTasksForCurrentUser();
 
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(testTaskDto.getTitle(), result.get(0).getTitle());
-        verify(taskRepository, times(1)).findByUserFirebaseUid(currentUser.getFirebaseUid());
-        verify(taskMapper, times(1)).toDto(testTask);
+        verify(taskRepository, times(1)).findTaskDtosByUserFirebaseUid(currentUser.getFirebaseUid());
+        verify(taskMapper, never()).toDto(any(Task.class));
+    }
+
+    @Test
+    void getTasksPage_returnsNextCursorWhenMoreRows() {
+        TaskDto second = new TaskDto();
+        second.setId(2L);
+        TaskDto third = new TaskDto();
+        third.setId(3L);
+        when(taskRepository.findTaskDtoPage(currentUser.getId(), 0L, PageRequest.of(0, 3)))
+                .thenReturn(Arrays.asList(testTaskDto, second, third));
+
+        CursorPage<TaskDto> page = taskService.getTasksPageForCurrentUser(null, 2);
+
+        assertEquals(2, page.getItems().size());
+        assertNotNull(page.getNextCursor());
+
+        // 다음 커서로 요청하면 마지막으로 받은 id 다음부터 조회
+        when(taskRepository.findTaskDtoPage(currentUser.getId(), 2L, PageRequest.of(0, 3)))
+                .thenReturn(Arrays.asList(third));
+
+        CursorPage<TaskDto> next = taskService.getTasksPageForCurrentUser(page.getNextCursor(), 2);
+
+        assertEquals(1, next.getItems().size());
+        assertEquals(3L, next.getItems().get(0).getId());
+        assertNull(next.getNextCursor());
+    }
+
+    @Test
+    void getTasksPage_capsLimit() {
+        when(taskRepository.findTaskDtoPage(currentUser.getId(), 0L, PageRequest.of(0, PageCursor.MAX_LIMIT + 1)))
+                .thenReturn(Arrays.asList(testTaskDto));
+
+        CursorPage<TaskDto> page = taskService.getTasksPageForCurrentUser(null, 100_000);
+
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getTasksPage_invalidCursor() {
+        assertThrows(InvalidInputException.class, () -> taskService.getTasksPageForCurrentUser("not-a-cursor", 10));
+        assertThrows(InvalidInputException.class, () -> taskService.getTasksPageForCurrentUser(null, 0));
+        verify(taskRepository, never()).findTaskDtoPage(any(), any(), any());
     }
 
     @Test
     void getTaskById_success() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(taskRepository.findDetailByIdAndUserId(1L, currentUser.getId())).thenReturn(Optional.of(testTask));
 
         TaskDto result = taskService.getTaskById(1L);
 
         assertNotNull(result);
         assertEquals(testTaskDto.getTitle(), result.getTitle());
-        verify(taskRepository, times(1)).findById(1L);
+        verify(taskRepository, times(1)).findDetailByIdAndUserId(1L, currentUser.getId());
         verify(taskMapper, times(1)).toDto(testTask);
     }
 
     @Test
     void getTaskById_notFound() {
-        when(taskRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(taskRepository.findDetailByIdAndUserId(anyLong(), anyLong())).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> taskService.getTaskById(1L));
-        verify(taskRepository, times(1)).findById(1L);
+        verify(taskRepository, times(1)).findDetailByIdAndUserId(1L, currentUser.getId());
         verify(taskMapper, never()).toDto(any(Task.class));
     }
 
     @Test
     void getTaskById_accessDenied() {
-        User otherUser = new User();
-        otherUser.setFirebaseUid("otherUid");
-        testTask.setUser(otherUser);
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        // 다른 사용자의 row 는 소유자 조건 때문에 조회되지 않음
+        when(taskRepository.findDetailByIdAndUserId(1L, currentUser.getId())).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> taskService.getTaskById(1L));
-        verify(taskRepository, times(1)).findById(1L);
+        verify(taskRepository, times(1)).findDetailByIdAndUserId(1L, currentUser.getId());
         verify(taskMapper, never()).toDto(any(Task.class));
     }
 
@@ -160,28 +211,52 @@ class TaskServiceTest {
         verify(taskRepository, times(1)).save(any(Task.class));
         verify(taskMapper, times(1)).toEntity(testTaskDto);
         verify(taskMapper, times(1)).toDto(testTask);
+        verify(userDataVersions, times(1)).bump("testFirebaseUid");
+        verify(userService, times(1)).getCurrentUserEntity(); // 소유자는 트랜잭션 안에서 얻은 엔티티 참조로 설정
+    }
+
+    @Test
+    void createTask_stampsChangeSequence() {
+        testTaskDto.setGoalId(null);
+        testTaskDto.setParentTaskId(null);
+        testTask.setGoal(null);
+        when(changeSequence.next()).thenReturn(42L);
+        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+
+        taskService.createTask(testTaskDto);
+
+        assertEquals(42L, testTask.getChangeSeq());
+    }
+
+    @Test
+    void createTask_unknownDifficultyRejected() {
+        testTaskDto.setDifficulty("Legendary");
+
+        assertThrows(InvalidInputException.class, () -> taskService.createTask(testTaskDto));
+        verify(taskRepository, never()).save(any(Task.class));
+        verify(userDataVersions, never()).bump(anyString());
     }
 
     @Test
     void createTask_withGoal_success() {
-        when(goalRepository.findById(10L)).thenReturn(Optional.of(testGoal));
+        when(goalRepository.findByIdAndUserId(10L, currentUser.getId())).thenReturn(Optional.of(testGoal));
         when(taskRepository.save(any(Task.class))).thenReturn(testTask);
 
         TaskDto result = taskService.createTask(testTaskDto);
 
         assertNotNull(result);
         assertEquals(testTaskDto.getTitle(), result.getTitle());
-        verify(goalRepository, times(1)).findById(10L);
+        verify(goalRepository, times(1)).findByIdAndUserId(10L, currentUser.getId());
         verify(taskRepository, times(1)).save(any(Task.class));
     }
 
     @Test
     void createTask_withGoal_invalidGoal() {
         testTaskDto.setGoalId("99");
-        when(goalRepository.findById(99L)).thenReturn(Optional.empty());
+        when(goalRepository.findByIdAndUserId(99L, currentUser.getId())).thenReturn(Optional.empty());
 
         assertThrows(InvalidInputException.class, () -> taskService.createTask(testTaskDto));
-        verify(goalRepository, times(1)).findById(99L);
+        verify(goalRepository, times(1)).findByIdAndUserId(99L, currentUser.getId());
         verify(taskRepository, never()).save(any(Task.class));
     }
 
@@ -194,24 +269,25 @@ class TaskServiceTest {
         testTaskDto.setGoalId(null);
         testTask.setGoal(null);
 
-        when(taskRepository.findById(2L)).thenReturn(Optional.of(parentTask));
+        when(taskRepository.findByIdAndUserId(2L, currentUser.getId())).thenReturn(Optional.of(parentTask));
         when(taskRepository.save(any(Task.class))).thenReturn(testTask);
 
         TaskDto result = taskService.createTask(testTaskDto);
 
         assertNotNull(result);
         assertEquals(testTaskDto.getTitle(), result.getTitle());
-        verify(taskRepository, times(1)).findById(2L);
+        verify(taskRepository, times(1)).findByIdAndUserId(2L, currentUser.getId());
         verify(taskRepository, times(1)).save(any(Task.class));
     }
 
     @Test
     void createTask_withParentTask_invalidParentTask() {
         testTaskDto.setParentTaskId("99");
-        when(taskRepository.findById(99L)).thenReturn(Optional.empty());
+        testTaskDto.setGoalId(null);
+        when(taskRepository.findByIdAndUserId(99L, currentUser.getId())).thenReturn(Optional.empty());
 
         assertThrows(InvalidInputException.class, () -> taskService.createTask(testTaskDto));
-        verify(taskRepository, times(1)).findById(99L);
+        verify(taskRepository, times(1)).findByIdAndUserId(99L, currentUser.getId());
         verify(taskRepository, never()).save(any(Task.class));
     }
 
@@ -225,15 +301,28 @@ class TaskServiceTest {
         updatedDto.setUserId(currentUser.getFirebaseUid());
         updatedDto.setGoalId("10");
 
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
-        when(goalRepository.findById(10L)).thenReturn(Optional.of(testGoal));
+        when(taskRepository.findDetailByIdAndUserId(1L, currentUser.getId())).thenReturn(Optional.of(testTask));
+        when(goalRepository.findByIdAndUserId(10L, currentUser.getId())).thenReturn(Optional.of(testGoal));
         when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+        // 매퍼는 mock 이므로 MapStruct 가 하는 필드 복사를 흉내냄
+        doAnswer(invocation -> {
+            TaskDto source = invocation.getArgument(0);
+            Task target = invocation.getArgument(1);
+            target.setTitle(source.getTitle());
+            target.setCompleted(source.isCompleted());
+            target.setRecurrenceDays(source.getRecurrenceDays());
+            target.setDifficulty(source.getDifficulty());
+            return null;
+        }).when(taskMapper).updateTaskFromDto(any(TaskDto.class), any(Task.class));
 
         TaskDto result = taskService.updateTask(1L, updatedDto);
 
         assertNotNull(result);
-        assertEquals(updatedDto.getTitle(), result.getTitle());
-        verify(taskRepository, times(1)).findById(1L);
+        assertEquals(updatedDto.getTitle(), testTask.getTitle());
+        assertEquals("Hard", testTask.getDifficulty());
+        assertEquals(LocalDate.now().plusDays(7), testTask.getNextDueDate()); // 완료된 반복 task 로 바뀌어 초기화 예정일이 생김
+        verify(taskDueScheduler, times(1)).update(1L, LocalDate.now().plusDays(7));
+        verify(taskRepository, times(1)).findDetailByIdAndUserId(1L, currentUser.getId());
         verify(taskRepository, times(1)).save(testTask);
         verify(taskMapper, times(1)).updateTaskFromDto(updatedDto, testTask);
         verify(taskMapper, times(1)).toDto(testTask);
@@ -241,112 +330,151 @@ class TaskServiceTest {
 
     @Test
     void updateTask_notFound() {
-        when(taskRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(taskRepository.findDetailByIdAndUserId(anyLong(), anyLong())).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> taskService.updateTask(1L, testTaskDto));
-        verify(taskRepository, times(1)).findById(1L);
+        verify(taskRepository, times(1)).findDetailByIdAndUserId(1L, currentUser.getId());
         verify(taskRepository, never()).save(any(Task.class));
     }
 
     @Test
     void updateTask_accessDenied() {
-        User otherUser = new User();
-        otherUser.setId(2L);
-        testTask.setUser(otherUser);
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        // 다른 사용자의 row 는 소유자 조건 때문에 조회되지 않음
+        when(taskRepository.findDetailByIdAndUserId(1L, currentUser.getId())).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> taskService.updateTask(1L, testTaskDto));
-        verify(taskRepository, times(1)).findById(1L);
+        verify(taskRepository, times(1)).findDetailByIdAndUserId(1L, currentUser.getId());
         verify(taskRepository, never()).save(any(Task.class));
     }
 
     @Test
     void deleteTask_success() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(taskRepository.findDetailByIdAndUserId(1L, currentUser.getId())).thenReturn(Optional.of(testTask));
         doNothing().when(taskRepository).delete(testTask);
 
         taskService.deleteTask(1L);
 
-        verify(taskRepository, times(1)).findById(1L);
+        verify(taskRepository, times(1)).findDetailByIdAndUserId(1L, currentUser.getId());
         verify(taskRepository, times(1)).delete(testTask);
+        verify(taskDueScheduler, times(1)).cancel(1L);
+    }
+
+    @Test
+    void deleteTask_recordsTombstoneForSync() {
+        when(taskRepository.findDetailByIdAndUserId(1L, currentUser.getId())).thenReturn(Optional.of(testTask));
+        when(changeSequence.next()).thenReturn(42L);
+
+        taskService.deleteTask(1L);
+
+        ArgumentCaptor<SyncTombstone> tombstone = ArgumentCaptor.forClass(SyncTombstone.class);
+        verify(syncTombstoneRepository).save(tombstone.capture());
+        assertEquals(currentUser.getId(), tombstone.getValue().getUserId());
+        assertEquals(SyncEntityType.TASK, tombstone.getValue().getEntityType());
+        assertEquals(1L, tombstone.getValue().getEntityId());
+        assertEquals(42L, tombstone.getValue().getChangeSeq());
     }
 
     @Test
     void deleteTask_notFound() {
-        when(taskRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(taskRepository.findDetailByIdAndUserId(anyLong(), anyLong())).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> taskService.deleteTask(1L));
-        verify(taskRepository, times(1)).findById(1L);
+        verify(taskRepository, times(1)).findDetailByIdAndUserId(1L, currentUser.getId());
         verify(taskRepository, never()).delete(any(Task.class));
     }
 
     @Test
     void deleteTask_accessDenied() {
-        User otherUser = new User();
-        otherUser.setFirebaseUid("otherUid");
-        testTask.setUser(otherUser);
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        // 다른 사용자의 row 는 소유자 조건 때문에 조회되지 않음
+        when(taskRepository.findDetailByIdAndUserId(1L, currentUser.getId())).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> taskService.deleteTask(1L));
-        verify(taskRepository, times(1)).findById(1L);
+        verify(taskRepository, times(1)).findDetailByIdAndUserId(1L, currentUser.getId());
         verify(taskRepository, never()).delete(any(Task.class));
     }
 
     @Test
     void completeTask_notCompleted_appliesDamageAndXp() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(taskRepository.findForCompletionByIdAndUserId(1L, currentUser.getId())).thenReturn(Optional.of(testTask));
         when(taskRepository.save(any(Task.class))).thenReturn(testTask);
-        when(goalRepository.save(any(Goal.class))).thenReturn(testGoal);
-        doNothing().when(userService).addExperience(anyString(), anyInt());
 
         TaskDto result = taskService.completeTask(1L);
 
         assertTrue(testTask.isCompleted());
         assertNotNull(testTask.getLastCompleted());
-        assertEquals(95, testGoal.getCurrentHp()); // 100 - 5 (Easy damage)
-        verify(taskRepository, times(1)).findById(1L);
+        verify(taskRepository, times(1)).findForCompletionByIdAndUserId(1L, currentUser.getId());
         verify(taskRepository, times(1)).save(testTask);
-        verify(goalRepository, times(1)).save(testGoal);
-        verify(userService, never()).addExperience(anyString(), anyInt()); // Boss not defeated yet
+        verify(goalService, times(1)).dealDamage(testGoal, cachedUser, 5); // Easy damage, 데미지 이벤트로 기록
+        verify(goalRepository, never()).save(any(Goal.class));
         verify(taskMapper, times(1)).toDto(testTask);
     }
 
     @Test
-    void completeTask_notCompleted_bossDefeated_appliesDamageAndXp() {
-        testGoal.setCurrentHp(5);
-        testTask.setDifficulty("Easy");
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+    void completeTask_notCompleted_damageUsesTaskDifficulty() {
+        testTask.setDifficulty("Medium");
+        when(taskRepository.findForCompletionByIdAndUserId(1L, currentUser.getId())).thenReturn(Optional.of(testTask));
         when(taskRepository.save(any(Task.class))).thenReturn(testTask);
-        when(goalRepository.save(any(Goal.class))).thenReturn(testGoal);
-        doNothing().when(userService).addExperience(anyString(), anyInt());
 
         TaskDto result = taskService.completeTask(1L);
 
         assertTrue(testTask.isCompleted());
         assertNotNull(testTask.getLastCompleted());
-        assertEquals(0, testGoal.getCurrentHp()); // 5 - 5 = 0
-        assertTrue(testGoal.isDefeated());
-        verify(taskRepository, times(1)).findById(1L);
+        verify(goalService, times(1)).dealDamage(testGoal, cachedUser, 10); // 처치 + XP 지급은 스냅샷 컴팩션에서
         verify(taskRepository, times(1)).save(testTask);
-        verify(goalRepository, times(1)).save(testGoal);
-        verify(userService, times(1)).addExperience(currentUser.getFirebaseUid(), 50); // Boss defeated, XP awarded
+        verify(userService, never()).addExperience(anyString(), anyInt());
         verify(taskMapper, times(1)).toDto(testTask);
     }
 
+    @Test
+    void completeTask_recurring_setsNextDueDate() {
+        testTask.setRecurrenceDays(3);
+        when(taskRepository.findForCompletionByIdAndUserId(1L, currentUser.getId())).thenReturn(Optional.of(testTask));
+        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+
+        taskService.completeTask(1L);
+
+        assertEquals(LocalDate.now().plusDays(3), testTask.getNextDueDate()); // RecurringTaskResetJob 이 이 날 미완료로 되돌림
+        verify(taskDueScheduler, times(1)).update(1L, LocalDate.now().plusDays(3));
+    }
+
+    @Test
+    void completeTask_notRecurring_noNextDueDate() {
+        testTask.setRecurrenceDays(0);
+        when(taskRepository.findForCompletionByIdAndUserId(1L, currentUser.getId())).thenReturn(Optional.of(testTask));
+        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+
+        taskService.completeTask(1L);
+
+        assertNull(testTask.getNextDueDate());
+    }
+
+    @Test
+    void completeTask_withoutGoal_noDamage() {
+        testTask.setGoal(null);
+        when(taskRepository.findForCompletionByIdAndUserId(1L, currentUser.getId())).thenReturn(Optional.of(testTask));
+        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+
+        taskService.completeTask(1L);
+
+        assertTrue(testTask.isCompleted());
+        verify(goalService, never()).dealDamage(any(), any(), anyInt());
+    }
+
     @Test
     void completeTask_alreadyCompleted_notRecurring_noChange() {
         testTask.setCompleted(true);
         testTask.setLastCompleted(LocalDate.now());
         testTask.setRecurrenceDays(0);
 
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(taskRepository.findForCompletionByIdAndUserId(1L, currentUser.getId())).thenReturn(Optional.of(testTask));
 
         TaskDto result = taskService.completeTask(1L);
 
         assertTrue(testTask.isCompleted());
         assertNotNull(testTask.getLastCompleted());
-        verify(taskRepository, times(1)).findById(1L);
+        verify(taskRepository, times(1)).findForCompletionByIdAndUserId(1L, currentUser.getId());
         verify(taskRepository, never()).save(any(Task.class)); // Should not save if no change
+        verify(userDataVersions, never()).bump(anyString());
         verify(goalRepository, never()).save(any(Goal.class));
         verify(userService, never()).addExperience(anyString(), anyInt());
         verify(taskMapper, times(1)).toDto(testTask);
@@ -358,19 +486,17 @@ class TaskServiceTest {
         testTask.setRecurrenceDays(1);
         testTask.setLastCompleted(LocalDate.now().minusDays(1)); // Completed yesterday, due today
 
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(taskRepository.findForCompletionByIdAndUserId(1L, currentUser.getId())).thenReturn(Optional.of(testTask));
         when(taskRepository.save(any(Task.class))).thenReturn(testTask);
-        when(goalRepository.save(any(Goal.class))).thenReturn(testGoal);
-        doNothing().when(userService).addExperience(anyString(), anyInt());
 
         TaskDto result = taskService.completeTask(1L);
 
         assertTrue(testTask.isCompleted()); // Task is completed again
-        assertNotNull(testTask.getLastCompleted()); // Last completed date updated
-        assertEquals(95, testGoal.getCurrentHp()); // Damage applied again
-        verify(taskRepository, times(1)).findById(1L);
+        assertEquals(LocalDate.now(), testTask.getLastCompleted()); // Last completed date updated
+        assertEquals(LocalDate.now().plusDays(1), testTask.getNextDueDate());
+        verify(taskRepository, times(1)).findForCompletionByIdAndUserId(1L, currentUser.getId());
         verify(taskRepository, times(1)).save(testTask);
-        verify(goalRepository, times(1)).save(testGoal);
+        verify(goalService, times(1)).dealDamage(testGoal, cachedUser, 5); // Damage applied again
         verify(taskMapper, times(1)).toDto(testTask);
     }
 
@@ -380,13 +506,13 @@ class TaskServiceTest {
         testTask.setRecurrenceDays(7);
         testTask.setLastCompleted(LocalDate.now()); // Completed today, not yet due
 
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(taskRepository.findForCompletionByIdAndUserId(1L, currentUser.getId())).thenReturn(Optional.of(testTask));
 
         TaskDto result = taskService.completeTask(1L);
 
         assertTrue(testTask.isCompleted());
         assertEquals(LocalDate.now(), testTask.getLastCompleted());
-        verify(taskRepository, times(1)).findById(1L);
+        verify(taskRepository, times(1)).findForCompletionByIdAndUserId(1L, currentUser.getId());
         verify(taskRepository, never()).save(any(Task.class));
         verify(goalRepository, never()).save(any(Goal.class));
         verify(userService, never()).addExperience(anyString(), anyInt());
@@ -395,22 +521,20 @@ class TaskServiceTest {
 
     @Test
     void completeTask_notFound() {
-        when(taskRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(taskRepository.findForCompletionByIdAndUserId(anyLong(), anyLong())).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> taskService.completeTask(1L));
-        verify(taskRepository, times(1)).findById(1L);
+        verify(taskRepository, times(1)).findForCompletionByIdAndUserId(1L, currentUser.getId());
         verify(taskRepository, never()).save(any(Task.class));
     }
 
     @Test
     void completeTask_accessDenied() {
-        User otherUser = new User();
-        otherUser.setFirebaseUid("otherUid");
-        testTask.setUser(otherUser);
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        // 다른 사용자의 row 는 소유자 조건 때문에 조회되지 않음
+        when(taskRepository.findForCompletionByIdAndUserId(1L, currentUser.getId())).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> taskService.completeTask(1L));
-        verify(taskRepository, times(1)).findById(1L);
+        verify(taskRepository, times(1)).findForCompletionByIdAndUserId(1L, currentUser.getId());
         verify(taskRepository, never()).save(any(Task.class));
     }
 }
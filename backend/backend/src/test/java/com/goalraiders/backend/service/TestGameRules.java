@@ -0,0 +1,18 @@
+package com.goalraiders.backend.service;
+
+import java.util.Map;
+
+// 단위 테스트용 규칙표 (application.properties 기본값과 같음)
+final class TestGameRules {
+
+    static final Map<String, Integer> DAMAGE = Map.of("Easy", 5, "Medium", 10, "Hard", 20, "Epic", 50);
+    static final Map<String, Integer> BOSS_HP = Map.of("Easy", 50, "Medium", 100, "Hard", 200, "Epic", 500);
+    static final Map<String, Integer> XP_REWARD = Map.of("Easy", 20, "Medium", 50, "Hard", 100, "Epic", 250);
+
+    private TestGameRules() {
+    }
+
+    static GameRuleBook ruleBook() {
+        return new GameRuleBook(GameRules.compile(DAMAGE, BOSS_HP, XP_REWARD));
+    }
+}
@@ -0,0 +1,98 @@
+package com.goalraiders.backend.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserDataVersionsTest {
+
+    @Test
+    void bumpIncreasesOnlyThatUser() {
+        UserDataVersions versions = new UserDataVersions(100L);
+
+        versions.bump("a");
+
+        assertEquals(101L, versions.current("a"));
+        assertEquals(100L, versions.current("b"));
+        assertEquals("\"101\"", UserDataVersions.etag(versions.current("a")));
+    }
+
+    @Test
+    void bumpAllRaisesEveryUserAboveTheirLastVersion() {
+        UserDataVersions versions = new UserDataVersions(100L);
+        versions.bump("a");
+
+        versions.bumpAll();
+
+        assertEquals(102L, versions.current("a"));
+        assertEquals(102L, versions.current("b"));
+        versions.bump("b");
+        assertEquals(103L, versions.current("b"));
+    }
+
+    @Test
+    void bumpInsideTransactionWaitsForCommit() {
+        UserDataVersions versions = new UserDataVersions(100L);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            versions.bump("a");
+            assertEquals(100L, versions.current("a")); // 커밋 전에는 이전 버전
+
+            List<TransactionSynchronization> synchronizations = new ArrayList<>(TransactionSynchronizationManager.getSynchronizations());
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(101L, versions.current("a"));
+    }
+
+    @Test
+    void concurrentBumpsNeverGoBackwards() throws InterruptedException {
+        UserDataVersions versions = new UserDataVersions(0L);
+        int threads = 16;
+        int bumps = 10_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        long[] regressions = new long[threads];
+        for (int t = 0; t < threads; t++) {
+            int index = t;
+            Thread worker = new Thread(() -> {
+                await(start);
+                long last = 0;
+                for (int i = 0; i < bumps; i++) {
+                    versions.bump("shared");
+                    long seen = versions.current("shared");
+                    if (seen < last) {
+                        regressions[index]++;
+                    }
+                    last = seen;
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertEquals((long) threads * bumps, versions.current("shared"));
+        for (long regression : regressions) {
+            assertEquals(0, regression);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.goalraiders.backend.service;
+
+import com.goalraiders.backend.User;
+import com.goalraiders.backend.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 실제 H2 의 unique 제약과 트랜잭션으로 최초 로그인 경합을 확인 (트랜잭션 매니저를 mock 하면 rollback-only 실패가 드러나지 않음)
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 각 스레드가 자기 트랜잭션을 커밋해야 하므로 테스트 트랜잭션 없이 실행
+class UserProvisionerTest {
+
+    private static final String FIREBASE_UID = "newFirebaseUid";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void provision_concurrentFirstRequests_insertExactlyOnce() throws Exception {
+        UserProvisioner userProvisioner = new UserProvisioner(userRepository, transactionManager);
+
+        List<User> users = provisionConcurrently(100, () -> userProvisioner.provision(FIREBASE_UID));
+
+        Long id = users.get(0).getId();
+        users.forEach(user -> assertEquals(id, user.getId())); // 예외 없이 모두 같은 사용자
+        assertEquals(1, userRepository.count());
+    }
+
+    // 두 노드(각자 single-flight 를 가진 인스턴스)가 둘 다 행이 없음을 본 뒤 insert 하는 경우
+    // 늦은 쪽은 unique 제약 위반 후 새 트랜잭션에서 먼저 생성된 행을 읽어야 함
+    @Test
+    void provision_twoNodesInsertSameUid_loserReturnsWinnersRow() throws Exception {
+        CyclicBarrier bothSawNoRow = new CyclicBarrier(2);
+        UserRepository racingRepository = pauseAfterFirstEmptyLookup(userRepository, bothSawNoRow);
+        UserProvisioner nodeA = new UserProvisioner(racingRepository, transactionManager);
+        UserProvisioner nodeB = new UserProvisioner(racingRepository, transactionManager);
+
+        AtomicInteger requests = new AtomicInteger();
+
+        List<User> users = provisionConcurrently(2,
+                () -> (requests.getAndIncrement() == 0 ? nodeA : nodeB).provision(FIREBASE_UID));
+
+        assertEquals(users.get(0).getId(), users.get(1).getId());
+        assertEquals(1, userRepository.count());
+    }
+
+    private List<User> provisionConcurrently(int requests, Provision provision) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<User>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < requests; i++) {
+                futures.add(executor.submit(() -> {
+                    startGate.await();
+                    return provision.call();
+                }));
+            }
+            startGate.countDown();
+            List<User> users = new ArrayList<>();
+            for (Future<User> future : futures) {
+                users.add(future.get(20, TimeUnit.SECONDS));
+            }
+            return users;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // 스레드별 첫 조회가 빈 결과면 상대 스레드도 빈 결과를 볼 때까지 대기시켜서 두 insert 가 반드시 겹치게 함
+    private static UserRepository pauseAfterFirstEmptyLookup(UserRepository delegate, CyclicBarrier barrier) {
+        ThreadLocal<Boolean> paused = ThreadLocal.withInitial(() -> false);
+        return (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(), new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> {
+                    Object result;
+                    try {
+                        result = method.invoke(delegate, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                    if (method.getName().equals("findByFirebaseUid") && result instanceof Optional<?> found
+                            && found.isEmpty() && !paused.get()) {
+                        paused.set(true);
+                        barrier.await(10, TimeUnit.SECONDS);
+                    }
+                    return result;
+                });
+    }
+
+    @FunctionalInterface
+    private interface Provision {
+        User call() throws Exception;
+    }
+}
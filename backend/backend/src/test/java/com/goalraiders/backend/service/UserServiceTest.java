@@ -2,20 +2,30 @@ package com.goalraiders.backend.service;
 
 import com.goalraiders.backend.User;
 import com.goalraiders.backend.UserRepository;
+import com.goalraiders.backend.dto.ExperienceEventDto;
 import com.goalraiders.backend.dto.UserDto;
 import com.goalraiders.backend.dto.mapper.UserMapper;
+import com.goalraiders.backend.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -29,6 +39,21 @@ class UserServiceTest {
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private UserProvisioner userProvisioner;
+
+    @Spy
+    private LevelCurve levelCurve = new LevelCurve(100, 0, 100);
+
+    @Mock
+    private UserDataVersions userDataVersions;
+
+    @Mock
+    private LiveEventHub liveEventHub;
+
+    @Spy
+    private CurrentUserCache currentUserCache = new CurrentUserCache(100, Duration.ofMinutes(5), Clock.systemUTC(), new SimpleMeterRegistry());
+
     @InjectMocks
     private UserService userService;
 
@@ -47,17 +72,17 @@ class UserServiceTest {
     @BeforeEach
     void setUp() {
         // Mock SecurityContextHolder for authenticated user
-        when(securityContext.getAuthentication()).thenReturn(authentication);
+        // addExperience 테스트는 uid 를 직접 넘기므로 인증 정보를 쓰지 않음
+        lenient().when(securityContext.getAuthentication()).thenReturn(authentication);
         SecurityContextHolder.setContext(securityContext);
-        when(authentication.getPrincipal()).thenReturn(userDetails);
-        when(userDetails.getUsername()).thenReturn("testFirebaseUid");
+        lenient().when(authentication.getPrincipal()).thenReturn(userDetails);
+        lenient().when(userDetails.getUsername()).thenReturn("testFirebaseUid");
 
         testUser = new User();
         testUser.setId(1L);
         testUser.setFirebaseUid("testFirebaseUid");
         testUser.setUsername("User_testF");
         testUser.setEmail("testFirebaseUid@example.com");
-        testUser.setLevel(1);
         testUser.setExperience(0);
         testUser.setCurrentHp(100);
         testUser.setMaxHp(100);
@@ -68,7 +93,7 @@ class UserServiceTest {
     @Test
     void getOrCreateCurrentUser_existingUser() {
         when(userRepository.findByFirebaseUid("testFirebaseUid")).thenReturn(Optional.of(testUser));
-        when(userMapper.toDto(testUser)).thenReturn(testUserDto);
+        when(userMapper.toDto(any(CurrentUser.class))).thenReturn(testUserDto);
 
         UserDto result = userService.getOrCreateCurrentUser();
 
@@ -77,14 +102,14 @@ class UserServiceTest {
         assertEquals(testUserDto.getUsername(), result.getUsername());
         verify(userRepository, times(1)).findByFirebaseUid("testFirebaseUid");
         verify(userRepository, never()).save(any(User.class));
-        verify(userMapper, times(1)).toDto(testUser);
+        verify(userMapper, times(1)).toDto(any(CurrentUser.class));
     }
 
     @Test
     void getOrCreateCurrentUser_newUser() {
         when(userRepository.findByFirebaseUid("testFirebaseUid")).thenReturn(Optional.empty());
-        when(userRepository.save(any(User.class))).thenReturn(testUser);
-        when(userMapper.toDto(testUser)).thenReturn(testUserDto);
+        when(userProvisioner.provision("testFirebaseUid")).thenReturn(testUser);
+        when(userMapper.toDto(any(CurrentUser.class))).thenReturn(testUserDto);
 
         UserDto result = userService.getOrCreateCurrentUser();
 
@@ -92,15 +117,15 @@ class UserServiceTest {
         assertEquals(testUserDto.getId(), result.getId());
         assertEquals(testUserDto.getUsername(), result.getUsername());
         verify(userRepository, times(1)).findByFirebaseUid("testFirebaseUid");
-        verify(userRepository, times(1)).save(any(User.class));
-        verify(userMapper, times(1)).toDto(testUser);
+        verify(userProvisioner, times(1)).provision("testFirebaseUid");
+        verify(userMapper, times(1)).toDto(any(CurrentUser.class));
     }
 
     @Test
-    void getCurrentUserEntity_existingUser() {
+    void getCurrentUser_existingUser() {
         when(userRepository.findByFirebaseUid("testFirebaseUid")).thenReturn(Optional.of(testUser));
 
-        User result = userService.getCurrentUserEntity();
+        CurrentUser result = userService.getCurrentUser();
 
         assertNotNull(result);
         assertEquals(testUser.getId(), result.getId());
@@ -109,56 +134,146 @@ class UserServiceTest {
     }
 
     @Test
-    void getCurrentUserEntity_newUser() {
+    void getCurrentUser_newUser() {
         when(userRepository.findByFirebaseUid("testFirebaseUid")).thenReturn(Optional.empty());
-        when(userRepository.save(any(User.class))).thenReturn(testUser);
+        when(userProvisioner.provision("testFirebaseUid")).thenReturn(testUser);
 
-        User result = userService.getCurrentUserEntity();
+        CurrentUser result = userService.getCurrentUser();
 
         assertNotNull(result);
         assertEquals(testUser.getId(), result.getId());
         verify(userRepository, times(1)).findByFirebaseUid("testFirebaseUid");
-        verify(userRepository, times(1)).save(any(User.class));
+        verify(userProvisioner, times(1)).provision("testFirebaseUid");
     }
 
     @Test
     void addExperience_userNotFound() {
-        when(userRepository.findByFirebaseUid("nonExistentUid")).thenReturn(Optional.empty());
+        when(userRepository.addExperience("nonExistentUid", 10)).thenReturn(0);
 
-        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
             userService.addExperience("nonExistentUid", 10);
         });
 
         assertEquals("User not found", exception.getMessage());
-        verify(userRepository, times(1)).findByFirebaseUid("nonExistentUid");
+        verify(currentUserCache, never()).evict(anyString());
+    }
+
+    @Test
+    void addExperience_appliedAtomicallyWithoutRead() {
+        when(userRepository.addExperience("testFirebaseUid", 30)).thenReturn(1);
+
+        userService.addExperience("testFirebaseUid", 30);
+
+        verify(userRepository, times(1)).addExperience("testFirebaseUid", 30);
+        verify(userRepository, never()).findByFirebaseUid(anyString());
         verify(userRepository, never()).save(any(User.class));
+        verify(userDataVersions, times(1)).bump("testFirebaseUid");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void addExperience_publishesXpEventWithLevelUp() {
+        when(userRepository.addExperience("testFirebaseUid", 60)).thenReturn(1);
+
+        userService.addExperience("testFirebaseUid", 60);
+
+        ArgumentCaptor<Supplier<?>> payload = ArgumentCaptor.forClass(Supplier.class);
+        verify(userRepository, never()).findExperienceByFirebaseUid(anyString()); // 구독자가 있을 때 커밋 후에만 조회
+        verify(liveEventHub).publish(eq("testFirebaseUid"), eq("xp"), payload.capture());
+        when(userRepository.findExperienceByFirebaseUid("testFirebaseUid")).thenReturn(250);
+        ExperienceEventDto event = (ExperienceEventDto) payload.getValue().get();
+        assertEquals(60, event.getGained());
+        assertEquals(250L, event.getTotalExperience());
+        assertEquals(3, event.getLevel());
+        assertEquals(50, event.getExperience()); // 250 - 200
+        assertTrue(event.isLevelUp()); // 190 (레벨 2) → 250 (레벨 3)
     }
 
     @Test
-    void addExperience_addsExperienceWithoutLevelUp() {
-        testUser.setExperience(50);
+    void getOrCreateCurrentUser_levelsFromTotalExperience() {
+        testUser.setExperience(250); // Epic 보스 보상 한 번으로 2 레벨 상승
         when(userRepository.findByFirebaseUid("testFirebaseUid")).thenReturn(Optional.of(testUser));
-        when(userRepository.save(any(User.class))).thenReturn(testUser);
+        when(userMapper.toDto(any(CurrentUser.class))).thenReturn(testUserDto);
 
-        userService.addExperience("testFirebaseUid", 30);
+        UserDto result = userService.getOrCreateCurrentUser();
 
-        assertEquals(80, testUser.getExperience());
-        assertEquals(1, testUser.getLevel());
+        assertEquals(3, result.getLevel());
+        assertEquals(50, result.getExperience()); // 250 - 200
+        assertEquals(250L, result.getTotalExperience());
+        assertEquals(100L, result.getNextLevelExperience());
+    }
+
+    @Test
+    void getCurrentUser_secondCallServedFromCache() {
+        when(userRepository.findByFirebaseUid("testFirebaseUid")).thenReturn(Optional.of(testUser));
+
+        CurrentUser first = userService.getCurrentUser();
+        CurrentUser second = userService.getCurrentUser();
+
+        assertSame(first, second);
         verify(userRepository, times(1)).findByFirebaseUid("testFirebaseUid");
-        verify(userRepository, times(1)).save(testUser);
+        assertEquals(0.5, currentUserCache.hitRatio());
+    }
+
+    @Test
+    void getCurrentUser_cachesSnapshotNotEntity() {
+        when(userRepository.findByFirebaseUid("testFirebaseUid")).thenReturn(Optional.of(testUser));
+
+        CurrentUser first = userService.getCurrentUser();
+        testUser.setExperience(500); // 조회한 엔티티를 나중에 바꿔도 캐시된 값은 그대로
+        testUser.setUsername("changed");
+        CurrentUser second = userService.getCurrentUser();
+
+        assertSame(first, second);
+        assertEquals(1L, second.getId());
+        assertEquals("testFirebaseUid", second.getFirebaseUid());
+        assertEquals("User_testF", second.getUsername());
+        assertEquals(0, second.getExperience());
     }
 
     @Test
-    void addExperience_levelsUp() {
-        testUser.setExperience(90);
+    void getCurrentUserEntity_referenceFromCachedId() {
+        User reference = new User();
         when(userRepository.findByFirebaseUid("testFirebaseUid")).thenReturn(Optional.of(testUser));
-        when(userRepository.save(any(User.class))).thenReturn(testUser);
+        when(userRepository.getReferenceById(1L)).thenReturn(reference);
 
-        userService.addExperience("testFirebaseUid", 20);
+        userService.getCurrentUser();
+        User result = userService.getCurrentUserEntity();
 
-        assertEquals(10, testUser.getExperience()); // 90 + 20 = 110, 110 - 100 = 10
-        assertEquals(2, testUser.getLevel()); // Level up from 1 to 2
+        assertSame(reference, result);
         verify(userRepository, times(1)).findByFirebaseUid("testFirebaseUid");
-        verify(userRepository, times(1)).save(testUser);
+        verify(userRepository, times(1)).getReferenceById(1L);
+    }
+
+    @Test
+    void addExperience_evictsCachedUser() {
+        when(userRepository.findByFirebaseUid("testFirebaseUid")).thenReturn(Optional.of(testUser));
+        when(userRepository.addExperience("testFirebaseUid", 10)).thenReturn(1);
+
+        userService.getCurrentUser();
+        userService.addExperience("testFirebaseUid", 10);
+        userService.getCurrentUser();
+
+        verify(currentUserCache, times(1)).evict("testFirebaseUid");
+        verify(userRepository, times(2)).findByFirebaseUid("testFirebaseUid");
+    }
+
+    @Test
+    void addExperience_inTransaction_evictsCachedUserOnlyAfterCommit() {
+        when(userRepository.findByFirebaseUid("testFirebaseUid")).thenReturn(Optional.of(testUser));
+        when(userRepository.addExperience("testFirebaseUid", 10)).thenReturn(1);
+        userService.getCurrentUser();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            userService.addExperience("testFirebaseUid", 10);
+            verify(currentUserCache, never()).evict(anyString());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(currentUserCache, times(1)).evict("testFirebaseUid");
     }
 }
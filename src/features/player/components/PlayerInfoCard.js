@@ -12,7 +12,7 @@ const PlayerInfoCard = () => {
           <>
             <p><strong>Email:</strong> {user.email}</p>
             <p><strong>Level:</strong> {userInfo?.level}</p>
-            <p><strong>XP:</strong> {userInfo?.experience} / 100</p>
+            <p><strong>XP:</strong> {userInfo?.experience} / {userInfo?.nextLevelExperience || 'MAX'}</p>
             <p><strong>HP:</strong> {userInfo?.currentHp} / {userInfo?.maxHp}</p>
             <button className="btn btn-outline-secondary btn-sm" onClick={signOutUser}>Logout</button>
           </>